@@ -2,12 +2,17 @@ package com.luckeat.luckeatbackend.category.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.luckeat.luckeatbackend.category.model.Category;
 import com.luckeat.luckeatbackend.category.repository.CategoryRepository;
+import com.luckeat.luckeatbackend.common.cdn.CdnPurgeEvent;
+import com.luckeat.luckeatbackend.common.cdn.SurrogateKeys;
 import com.luckeat.luckeatbackend.common.exception.category.CategoryInvalidImageException;
 import com.luckeat.luckeatbackend.common.exception.category.CategoryInvalidNameException;
 import com.luckeat.luckeatbackend.common.exception.category.CategoryNameDuplicateException;
@@ -20,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class CategoryService {
 
 	private final CategoryRepository categoryRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public List<Category> getAllCategories() {
 		// 삭제된 카테고리는 보여주지 않도록 수정
@@ -30,7 +36,12 @@ public class CategoryService {
 		return categoryRepository.findById(id);
 	}
 
+	/**
+	 * 카테고리를 저장합니다. (생성/수정/논리적 삭제)
+	 * 저장 시 직렬화가 끝난 카테고리 목록 응답 캐시를 삭제하고, 커밋 후 CDN의 카테고리 목록을 퍼지합니다.
+	 */
 	@Transactional
+	@CacheEvict(value = "categoryResponses", allEntries = true)
 	public Category saveCategory(Category category) {
 		// 카테고리 이름 중복 검사 추가
 		if (categoryRepository.existsByCategoryNameAndDeletedAtIsNull(category.getCategoryName())) {
@@ -43,7 +54,9 @@ public class CategoryService {
 		// 카테고리 이미지 유효성 검사 추가
 		validateCategoryImage(category.getCategoryImage());
 
-		return categoryRepository.save(category);
+		Category savedCategory = categoryRepository.save(category);
+		eventPublisher.publishEvent(new CdnPurgeEvent(Set.of(SurrogateKeys.CATEGORIES)));
+		return savedCategory;
 	}
 
 	private void validateCategoryName(String name) {
@@ -0,0 +1,27 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 갱신 시각과 계산 시간을 함께 담은 캐시 값
+ * L1에는 모든 값을 이 형태로 저장하고, L2(Redis)에는 미리 갱신(refresh-ahead)을 사용하는 캐시만 이 형태로 저장합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Object value;
+
+    // 값을 저장한 시각 (epoch millis)
+    private long createdAt;
+
+    // 값을 계산하는 데 걸린 시간 (XFetch의 delta, 알 수 없으면 0)
+    private long computeMillis;
+}
@@ -0,0 +1,21 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지 (Redis pub/sub)
+ * keys가 null이면 캐시 전체를 비웁니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String nodeId;
+    private String cacheName;
+    private List<String> keys;
+}
@@ -0,0 +1,159 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * 캐시별 값 타입을 알고 있는 Redis 캐시 값 직렬화기
+ * GenericJackson2JsonRedisSerializer처럼 중첩 객체마다 클래스 이름을 쓰지 않고, 정해진 타입을 바이너리(Smile 등)로 저장합니다.
+ * 값 크기가 compressionThreshold 이상이면 LZ4로 압축합니다. (0 이하이면 압축하지 않음)
+ *
+ * 형식: [MAGIC][flags][createdAt, computeMillis (CacheEntry일 때)][원본 길이 (압축 시)][값]
+ * - MAGIC으로 시작하지 않는 값(이전 JSON 형식)은 legacySerializer로 읽으므로 배포 직후에도 기존 캐시를 그대로 사용
+ * - 지정한 타입이 아닌 값은 legacySerializer로 저장
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheValueSerializer.class);
+
+    static final byte MAGIC = (byte) 0xB1;
+    private static final byte FLAG_ENTRY = 0x01;
+    private static final byte FLAG_NULL = 0x02;
+    private static final byte FLAG_LZ4 = 0x04;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final Class<?> valueClass;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final int compressionThreshold;
+    private final RedisSerializer<Object> legacySerializer;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    /**
+     * @param binaryMapper         값 인코딩에 사용할 ObjectMapper (기본 타입 정보 미사용)
+     * @param valueType            캐시 값 타입 (CacheEntry로 감싼 경우 안쪽 값의 타입)
+     * @param compressionThreshold 압축할 최소 바이트 수 (0 이하이면 압축하지 않음)
+     * @param legacySerializer     이전 형식 값 읽기와 지정 타입이 아닌 값 저장에 사용
+     */
+    public CacheValueSerializer(ObjectMapper binaryMapper, JavaType valueType, int compressionThreshold,
+            RedisSerializer<Object> legacySerializer) {
+        this.valueClass = valueType.getRawClass();
+        this.writer = binaryMapper.writerFor(valueType);
+        this.reader = binaryMapper.readerFor(valueType);
+        this.compressionThreshold = compressionThreshold;
+        this.legacySerializer = legacySerializer;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        CacheEntry entry = value instanceof CacheEntry cacheEntry ? cacheEntry : null;
+        Object payloadValue = entry != null ? entry.getValue() : value;
+        boolean nullValue = payloadValue == null || payloadValue instanceof NullValue;
+        if (!nullValue && !valueClass.isInstance(payloadValue)) {
+            logger.debug("지정한 캐시 값 타입이 아니어서 이전 형식으로 저장: expected={}, actual={}",
+                    valueClass.getName(), payloadValue.getClass().getName());
+            return legacySerializer.serialize(value);
+        }
+
+        byte flags = 0;
+        byte[] payload = new byte[0];
+        int originalLength = 0;
+        if (entry != null) {
+            flags |= FLAG_ENTRY;
+        }
+        if (nullValue) {
+            flags |= FLAG_NULL;
+        } else {
+            payload = encode(payloadValue);
+            if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+                originalLength = payload.length;
+                payload = compressor.compress(payload);
+                flags |= FLAG_LZ4;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(2 + (entry != null ? 16 : 0) + (originalLength > 0 ? 4 : 0)
+                + payload.length);
+        buffer.put(MAGIC).put(flags);
+        if (entry != null) {
+            buffer.putLong(entry.getCreatedAt()).putLong(entry.getComputeMillis());
+        }
+        if (originalLength > 0) {
+            buffer.putInt(originalLength);
+        }
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacySerializer.deserialize(bytes);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        byte flags = buffer.get();
+        long createdAt = 0;
+        long computeMillis = 0;
+        if ((flags & FLAG_ENTRY) != 0) {
+            createdAt = buffer.getLong();
+            computeMillis = buffer.getLong();
+        }
+
+        Object value = null;
+        if ((flags & FLAG_NULL) == 0) {
+            byte[] payload;
+            if ((flags & FLAG_LZ4) != 0) {
+                int originalLength = buffer.getInt();
+                payload = new byte[originalLength];
+                decompressor.decompress(bytes, buffer.position(), payload, 0, originalLength);
+            } else {
+                payload = new byte[buffer.remaining()];
+                buffer.get(payload);
+            }
+            value = decode(payload);
+        }
+
+        if ((flags & FLAG_ENTRY) != 0) {
+            return new CacheEntry(value, createdAt, computeMillis);
+        }
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 인코딩 실패: " + valueClass.getName(), e);
+        }
+    }
+
+    private Object decode(byte[] payload) {
+        try {
+            return reader.readValue(payload);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 디코딩 실패: " + valueClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직렬화가 끝난 HTTP 응답 본문 (ResponseCacheFilter)
+ * 캐시 적중 시 DTO로 되돌리지 않고 바이트를 그대로 응답에 씁니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String contentType;
+
+    private byte[] body;
+
+    // 미리 압축한 본문 (본문이 작아 압축하지 않았으면 null)
+    private byte[] gzipBody;
+
+    // 본문 해시로 만든 강한 ETag (이전에 저장된 값이면 null)
+    private String etag;
+}
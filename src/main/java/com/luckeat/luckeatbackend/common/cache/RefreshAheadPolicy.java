@@ -0,0 +1,40 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 값 미리 갱신(refresh-ahead) 기준
+ * - soft TTL이 지난 값은 오래된 값으로 응답하면서 백그라운드에서 한 번만 다시 계산 (stale-while-revalidate)
+ * - soft TTL 전에도 XFetch(확률적 조기 만료)로 계산 시간이 긴 값일수록 일찍 갱신해 만료 시점을 분산
+ * Redis TTL(hard TTL)이 지나 값이 사라지면 일반 캐시 미스와 같이 동기로 계산합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RefreshAheadPolicy {
+
+    private final Duration softTtl;
+
+    // XFetch 가중치 (1.0 기본, 클수록 더 일찍 갱신)
+    private final double beta;
+
+    public boolean isStale(CacheEntry entry, long now) {
+        return now >= softExpiry(entry);
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(random) >= expiry 이면 갱신합니다.
+     *
+     * @param random (0, 1] 범위의 난수
+     */
+    public boolean shouldRefreshEarly(CacheEntry entry, long now, double random) {
+        double gap = -entry.getComputeMillis() * beta * Math.log(random);
+        return now + gap >= softExpiry(entry);
+    }
+
+    private long softExpiry(CacheEntry entry) {
+        return entry.getCreatedAt() + softTtl.toMillis();
+    }
+}
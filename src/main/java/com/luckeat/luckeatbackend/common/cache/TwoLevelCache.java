@@ -0,0 +1,323 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 노드 로컬 Caffeine(L1) + Redis(L2) 2단 캐시
+ * - 조회: L1 → L2 순서로 찾고, L2에서 찾은 값은 L1에 적재
+ * - 저장: L2와 L1에 함께 저장
+ * - 삭제: L2와 이 노드의 L1을 삭제하고 다른 노드에 L1 무효화 메시지를 발행
+ * pub/sub 메시지는 유실될 수 있으므로 L1은 짧은 TTL로 다른 노드 변경의 반영 지연을 제한합니다.
+ * L1 값은 요청 간에 같은 인스턴스를 공유하므로 조회 결과를 수정하면 안 됩니다.
+ *
+ * RefreshAheadPolicy가 있으면 @Cacheable(sync = true) 조회(get(key, valueLoader))에서
+ * soft TTL이 지난 값을 그대로 응답하고 백그라운드에서 키당 한 번만 다시 계산합니다.
+ * 캐시 미스 시 계산도 노드 안에서 키당 한 번만 수행하고 나머지 요청은 결과를 기다립니다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CacheEntry> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager cacheManager;
+    private final RefreshAheadPolicy refreshAheadPolicy;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 키별 진행 중인 계산 (미스 시 동기 계산, 백그라운드 갱신)
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter staleServes;
+
+    /**
+     * @param refreshAheadPolicy null이면 미리 갱신하지 않음
+     * @param refreshExecutor    백그라운드 갱신 실행기 (refreshAheadPolicy가 있을 때만 사용)
+     */
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, CacheEntry> local, Cache remote,
+            TwoLevelCacheManager cacheManager, MeterRegistry meterRegistry,
+            RefreshAheadPolicy refreshAheadPolicy, Executor refreshExecutor) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.cacheManager = cacheManager;
+        this.refreshAheadPolicy = refreshAheadPolicy;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.localHits = counter(meterRegistry, name, "l1", "hit");
+        this.localMisses = counter(meterRegistry, name, "l1", "miss");
+        this.remoteHits = counter(meterRegistry, name, "l2", "hit");
+        this.remoteMisses = counter(meterRegistry, name, "l2", "miss");
+        this.staleServes = Counter.builder("luckeat.cache.stale.serves")
+                .description("soft TTL이 지난 값으로 응답한 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEntry entry = lookup(key, localKey(key));
+        return entry != null ? new SimpleValueWrapper(entry.getValue()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 요청한 타입과 다릅니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        CacheEntry entry = lookup(key, localKey);
+        if (entry != null) {
+            refreshIfNeeded(key, localKey, entry, valueLoader);
+            return (T) entry.getValue();
+        }
+        return (T) load(key, localKey, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(key, localKey(key), value, 0);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CacheEntry entry = new CacheEntry(value, System.currentTimeMillis(), 0);
+        ValueWrapper existing = remote.putIfAbsent(key, toRemoteValue(entry));
+        CacheEntry current = existing != null ? toEntry(existing.get()) : entry;
+        local.put(localKey(key), current);
+        return existing != null ? new SimpleValueWrapper(current.getValue()) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(List.of(localKey(key)));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        loading.clear();
+        cacheManager.publishInvalidation(name, null);
+    }
+
+    /**
+     * L2를 캐시 API 밖에서 직접 삭제한 경우(태그 기반 삭제 등) 모든 노드의 L1에서 해당 키를 삭제합니다.
+     */
+    public void evictLocal(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        local.invalidateAll(keys);
+        keys.forEach(loading::remove);
+        cacheManager.publishInvalidation(name, List.copyOf(keys));
+    }
+
+    /**
+     * 다른 노드에서 받은 무효화 메시지 반영 (keys가 null이면 전체 삭제)
+     */
+    void applyInvalidation(List<String> keys) {
+        if (keys == null) {
+            local.invalidateAll();
+            loading.clear();
+        } else {
+            local.invalidateAll(keys);
+            keys.forEach(loading::remove);
+        }
+    }
+
+    private CacheEntry lookup(Object key, String localKey) {
+        CacheEntry localEntry = local.getIfPresent(localKey);
+        if (localEntry != null) {
+            localHits.increment();
+            return localEntry;
+        }
+        localMisses.increment();
+
+        ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        CacheEntry entry = toEntry(remoteValue.get());
+        local.put(localKey, entry);
+        return entry;
+    }
+
+    /**
+     * 캐시 미스 시 동기 계산 (같은 키를 계산 중인 요청이 있으면 그 결과를 기다림)
+     */
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(localKey, future);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Object value = valueLoader.call();
+            storeIfCurrent(key, localKey, value, elapsedMillis(startedAt), future);
+            future.complete(value);
+            return value;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loading.remove(localKey, future);
+        }
+    }
+
+    private void refreshIfNeeded(Object key, String localKey, CacheEntry entry, Callable<?> valueLoader) {
+        if (refreshAheadPolicy == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        boolean stale = refreshAheadPolicy.isStale(entry, now);
+        if (stale) {
+            staleServes.increment();
+        } else if (!refreshAheadPolicy.shouldRefreshEarly(entry, now, 1.0 - ThreadLocalRandom.current().nextDouble())) {
+            return;
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        if (loading.putIfAbsent(localKey, future) != null) {
+            return;
+        }
+        String trigger = stale ? "stale" : "early";
+        try {
+            refreshExecutor.execute(() -> refresh(key, localKey, entry, valueLoader, future, trigger));
+        } catch (RejectedExecutionException e) {
+            loading.remove(localKey, future);
+            future.complete(entry.getValue());
+            logger.debug("캐시 갱신 작업 대기열 초과로 건너뜀: cache={}, key={}", name, localKey);
+        }
+    }
+
+    private void refresh(Object key, String localKey, CacheEntry entry, Callable<?> valueLoader,
+            CompletableFuture<Object> future, String trigger) {
+        long startedAt = System.nanoTime();
+        String result = "success";
+        try {
+            // 다른 노드가 이미 갱신한 값이 L2에 있으면 다시 계산하지 않고 가져옴
+            ValueWrapper remoteValue = remote.get(key);
+            CacheEntry latest = remoteValue != null ? toEntry(remoteValue.get()) : null;
+            if (latest != null && latest.getCreatedAt() > entry.getCreatedAt()
+                    && !refreshAheadPolicy.isStale(latest, System.currentTimeMillis())) {
+                local.put(localKey, latest);
+                future.complete(latest.getValue());
+                result = "remote";
+                return;
+            }
+            Object value = valueLoader.call();
+            storeIfCurrent(key, localKey, value, elapsedMillis(startedAt), future);
+            future.complete(value);
+        } catch (Exception e) {
+            result = "failure";
+            future.completeExceptionally(e);
+            logger.warn("캐시 백그라운드 갱신 실패: cache={}, key={}, error={}", name, localKey, e.getMessage());
+        } finally {
+            loading.remove(localKey, future);
+            Timer.builder("luckeat.cache.refresh.duration")
+                    .description("캐시 값 백그라운드 갱신 시간")
+                    .tag("cache", name)
+                    .tag("trigger", trigger)
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 계산 중에 삭제(evict)된 키는 삭제 전 데이터로 계산했을 수 있으므로 저장하지 않음
+    private void storeIfCurrent(Object key, String localKey, Object value, long computeMillis,
+            CompletableFuture<Object> future) {
+        if (loading.get(localKey) == future) {
+            store(key, localKey, value, computeMillis);
+        }
+    }
+
+    private void store(Object key, String localKey, Object value, long computeMillis) {
+        CacheEntry entry = new CacheEntry(value, System.currentTimeMillis(), computeMillis);
+        remote.put(key, toRemoteValue(entry));
+        local.put(localKey, entry);
+    }
+
+    // 미리 갱신을 사용하는 캐시만 L2에 저장 시각을 함께 저장 (다른 노드도 soft TTL을 판단할 수 있도록)
+    private Object toRemoteValue(CacheEntry entry) {
+        return refreshAheadPolicy != null ? entry : entry.getValue();
+    }
+
+    // 저장 시각이 없는 값(미리 갱신 미사용 캐시, 이전 형식 값)은 soft TTL이 지난 것으로 취급
+    private static CacheEntry toEntry(Object remoteValue) {
+        if (remoteValue instanceof CacheEntry entry) {
+            return entry;
+        }
+        return new CacheEntry(remoteValue, 0, 0);
+    }
+
+    // Long(storeId) 키와 메시지로 받은 문자열 키가 같은 항목을 가리키도록 문자열로 통일 (RedisCache 키 변환과 동일)
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cacheName, String tier, String result) {
+        return Counter.builder("luckeat.cache.gets")
+                .description("2단 캐시 계층별 조회 결과")
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
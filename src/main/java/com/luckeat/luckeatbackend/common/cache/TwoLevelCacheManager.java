@@ -0,0 +1,121 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * L1(Caffeine)을 적용할 캐시는 TwoLevelCache로 감싸고, 나머지는 Redis 캐시를 그대로 반환하는 CacheManager
+ * 다른 노드의 L1 무효화는 Redis pub/sub 채널(INVALIDATION_CHANNEL)로 주고받습니다.
+ * refreshAheadPolicies에 있는 캐시는 soft TTL 이후 백그라운드에서 미리 갱신합니다.
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> localCacheNames;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final Map<String, RefreshAheadPolicy> refreshAheadPolicies;
+    private final Executor refreshExecutor;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, Set<String> localCacheNames, long localMaximumSize,
+            Duration localTtl, Map<String, RefreshAheadPolicy> refreshAheadPolicies, Executor refreshExecutor,
+            StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheNames = localCacheNames;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.refreshAheadPolicies = refreshAheadPolicies;
+        this.refreshExecutor = refreshExecutor;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null || !localCacheNames.contains(name)) {
+            return remote;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드에 L1 무효화를 알립니다. (발행 실패 시 다른 노드는 L1 TTL 이후 반영)
+     */
+    void publishInvalidation(String cacheName, List<String> keys) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, keys));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("L1 캐시 무효화 메시지 발행 실패: cache={}, error={}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            logger.warn("L1 캐시 무효화 메시지 해석 실패: {}", e.getMessage());
+            return;
+        }
+        // 자신이 발행한 메시지는 이미 로컬에 반영됨
+        if (nodeId.equals(invalidation.getNodeId())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(invalidation.getCacheName());
+        if (cache != null) {
+            cache.applyInvalidation(invalidation.getKeys());
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Cache remote) {
+        com.github.benmanes.caffeine.cache.Cache<String, CacheEntry> local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+        return new TwoLevelCache(name, local, remote, this, meterRegistry,
+                refreshAheadPolicies.get(name), refreshExecutor);
+    }
+}
@@ -0,0 +1,17 @@
+package com.luckeat.luckeatbackend.common.cdn;
+
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쓰기 작업이 발행하는 CDN 퍼지 요청 (StoreService, CategoryService)
+ * 트랜잭션 커밋 이후 CdnPurgeListener가 처리합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CdnPurgeEvent {
+
+    private final Set<String> surrogateKeys;
+}
@@ -0,0 +1,33 @@
+package com.luckeat.luckeatbackend.common.cdn;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 쓰기만 엣지 캐시에서 퍼지합니다. (롤백된 쓰기는 퍼지하지 않음)
+ * 퍼지 실패는 쓰기 요청에 영향을 주지 않으며, 엣지 캐시는 s-maxage 이후 만료됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CdnPurgeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CdnPurgeListener.class);
+
+    private final CdnPurger cdnPurger;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPurge(CdnPurgeEvent event) {
+        if (event.getSurrogateKeys().isEmpty()) {
+            return;
+        }
+        try {
+            cdnPurger.purge(event.getSurrogateKeys());
+        } catch (RuntimeException e) {
+            logger.warn("CDN 퍼지 실패: keys={}, error={}", event.getSurrogateKeys(), e.getMessage());
+        }
+    }
+}
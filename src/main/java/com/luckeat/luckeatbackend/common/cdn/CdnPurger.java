@@ -0,0 +1,15 @@
+package com.luckeat.luckeatbackend.common.cdn;
+
+import java.util.Set;
+
+/**
+ * CDN 엣지 캐시 퍼지
+ * CdnPurgeListener가 쓰기 트랜잭션 커밋 후 Surrogate-Key(SurrogateKeys) 단위로 호출합니다.
+ */
+public interface CdnPurger {
+
+    /**
+     * 키가 붙은 엣지 캐시 응답을 삭제합니다. 실패해도 예외를 던지지 않고 s-maxage 이후 만료에 맡깁니다.
+     */
+    void purge(Set<String> surrogateKeys);
+}
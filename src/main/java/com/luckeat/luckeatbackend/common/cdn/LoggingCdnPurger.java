@@ -0,0 +1,24 @@
+package com.luckeat.luckeatbackend.common.cdn;
+
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/테스트용 퍼지 스텁 (cdn.purge.mode=LOG, 기본값)
+ * 실제 CDN을 호출하지 않고 퍼지할 키만 로그로 남깁니다. 엣지 캐시는 s-maxage 이후 만료됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "cdn.purge.mode", havingValue = "LOG", matchIfMissing = true)
+public class LoggingCdnPurger implements CdnPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingCdnPurger.class);
+
+    @Override
+    public void purge(Set<String> surrogateKeys) {
+        logger.info("CDN 퍼지 (로컬 스텁): keys={}", surrogateKeys);
+    }
+}
@@ -0,0 +1,56 @@
+package com.luckeat.luckeatbackend.common.cdn;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * CDN 캐시 응답에 붙이는 Surrogate-Key 값
+ * 응답(ResponseCacheFilter)과 퍼지(CdnPurgeEvent)가 같은 키를 쓰도록 한 곳에서 만듭니다.
+ * - store-{가게ID}: 가게 상세, 가게 리뷰 첫 페이지
+ * - stores-category-{카테고리ID}: 카테고리별 가게 목록 (0은 전체 카테고리 목록)
+ * - stores: 모든 가게 목록 (수동 전체 퍼지용)
+ * - categories: 카테고리 목록
+ */
+public final class SurrogateKeys {
+
+    public static final String HEADER = "Surrogate-Key";
+    public static final String STORE_LIST = "stores";
+    public static final String CATEGORIES = "categories";
+    private static final long ALL_CATEGORIES = 0L;
+
+    private SurrogateKeys() {
+    }
+
+    public static String store(Long storeId) {
+        return "store-" + storeId;
+    }
+
+    public static String storeListCategory(long categoryId) {
+        return "stores-category-" + categoryId;
+    }
+
+    /**
+     * 가게가 속한(속했던) 카테고리의 목록 키
+     * 가게는 자기 카테고리 목록과 전체 카테고리 목록에만 나오므로 두 목록만 퍼지하면 됩니다.
+     */
+    public static Set<String> storeLists(Long... categoryIds) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(storeListCategory(ALL_CATEGORIES));
+        for (Long categoryId : categoryIds) {
+            if (categoryId != null) {
+                keys.add(storeListCategory(categoryId));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 가게 상세와 가게가 속한 카테고리 목록 키
+     */
+    public static Set<String> storeAndLists(Long storeId, Long... categoryIds) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(store(storeId));
+        keys.addAll(storeLists(categoryIds));
+        return keys;
+    }
+}
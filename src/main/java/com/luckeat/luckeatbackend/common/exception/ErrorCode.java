@@ -26,6 +26,7 @@ public enum ErrorCode {
 			"올바른 가게 주소 형식이 아닙니다"), STORE_INVALID_PHONE_NUMBER(400,
 					"올바른 가게 전화번호 형식이 아닙니다"), STORE_INVALID_BUSINESS_HOURS(400,
 							"올바른 가게 영업시간 형식이 아닙니다"), STORE_INVALID_DESCRIPTION(400, "올바른 가게 설명 형식이 아닙니다"),
+	STORE_INVALID_CURSOR(400, "올바른 가게 목록 커서 형식이 아닙니다"),
 
 	// 상품 관련 에러
 	PRODUCT_NOT_FOUND(404, "상품 정보 없음"), PRODUCT_NAME_DUPLICATE(409, "상품 이름 중복"), PRODUCT_FORBIDDEN(403,
@@ -36,6 +37,7 @@ public enum ErrorCode {
 	REVIEW_NOT_FOUND(404, "리뷰 정보 없음"), REVIEW_FORBIDDEN(403, "리뷰 접근 권한 없음"), REVIEW_INVALID_CONTENT(400,
 			"올바른 리뷰 내용 형식이 아닙니다"), REVIEW_INVALID_RATING(400,
 					"올바른 평점 형식이 아닙니다"), REVIEW_INVALID_IMAGE(400, "올바른 이미지 형식이 아닙니다"),
+	REVIEW_INVALID_CURSOR(400, "올바른 리뷰 목록 커서 형식이 아닙니다"),
 
 	// 권한 관련 에러
 	PERMISSION_NOT_FOUND(404, "리뷰 작성 권한 정보를 찾을 수 없음"), PERMISSION_FORBIDDEN(403,
@@ -0,0 +1,14 @@
+package com.luckeat.luckeatbackend.common.exception.review;
+
+import com.luckeat.luckeatbackend.common.exception.ErrorCode;
+import com.luckeat.luckeatbackend.common.exception.base.BadRequestException;
+
+public class ReviewInvalidCursorException extends BadRequestException {
+	public ReviewInvalidCursorException() {
+		super(ErrorCode.REVIEW_INVALID_CURSOR, ErrorCode.REVIEW_INVALID_CURSOR.getMessage());
+	}
+
+	public ReviewInvalidCursorException(String message) {
+		super(ErrorCode.REVIEW_INVALID_CURSOR, message);
+	}
+}
@@ -0,0 +1,14 @@
+package com.luckeat.luckeatbackend.common.exception.store;
+
+import com.luckeat.luckeatbackend.common.exception.ErrorCode;
+import com.luckeat.luckeatbackend.common.exception.base.BadRequestException;
+
+public class StoreInvalidCursorException extends BadRequestException {
+	public StoreInvalidCursorException() {
+		super(ErrorCode.STORE_INVALID_CURSOR, ErrorCode.STORE_INVALID_CURSOR.getMessage());
+	}
+
+	public StoreInvalidCursorException(String message) {
+		super(ErrorCode.STORE_INVALID_CURSOR, message);
+	}
+}
@@ -0,0 +1,414 @@
+package com.luckeat.luckeatbackend.common.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.luckeat.luckeatbackend.common.cache.CachedResponse;
+import com.luckeat.luckeatbackend.common.cdn.SurrogateKeys;
+import com.luckeat.luckeatbackend.store.service.StoreListCacheTags;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 공개 GET 응답 본문 캐시 필터
+ * 가게 목록/상세, 카테고리 목록, 가게 리뷰 첫 페이지 응답을 직렬화가 끝난 JSON 바이트(및 미리 압축한 gzip 바이트)로 저장해 두고,
+ * 적중 시 컨트롤러와 Jackson을 거치지 않고 바이트를 그대로 응답에 씁니다.
+ * - 가게 목록은 위치/이름 검색이 아닌 목록(storePages 캐시 대상)만, 정규화한 조회 조건을 키로 저장
+ * - 무효화는 원본 캐시와 같은 쓰기 이벤트에서 수행 (StoreService, StoreListCacheTags, CategoryService, ReviewResponseCacheEvictor)
+ * - 가게 목록 응답은 저장할 때 storePages와 같은 조회 조건 태그(StoreListCacheTags)를 기록해 태그 단위로 삭제
+ * 무효화와 동시에 이전 데이터로 만든 응답이 저장될 수 있으며, 캐시 TTL 동안 유지될 수 있습니다.
+ *
+ * 응답에는 본문 해시로 만든 강한 ETag를 붙이고, If-None-Match가 일치하면 본문 없이 304로 응답합니다.
+ * 캐시 적중 시에는 저장된 ETag만 비교하므로 서비스 계층과 DB를 거치지 않습니다.
+ * gzip 본문은 다른 표현이므로 ETag 뒤에 -gzip을 붙입니다.
+ *
+ * CDN(CloudFront) 앞단 캐시를 위해 public Cache-Control과 Surrogate-Key(SurrogateKeys)를 붙입니다.
+ * 엣지는 쓰기 후 퍼지(CdnPurgeEvent)되므로 s-maxage를 길게, 퍼지할 수 없는 브라우저는 max-age를 짧게 둡니다.
+ *
+ * 인증 요청(Authorization 헤더)은 사용자별 응답일 수 있으므로 공유 캐시에서 꺼내거나 저장하지 않습니다.
+ * 대신 컨트롤러 응답 본문으로 ETag를 만들어 private, no-cache로 응답하고, If-None-Match가 일치하면 본문 없이 304로 응답합니다.
+ * (서비스 계층은 거치지만 변경 없는 본문의 전송은 생략)
+ */
+@Component
+@Order(3) // RateLimitFilter 다음에 실행
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    public static final String STORE_LIST_CACHE = "storeListResponses";
+    public static final String STORE_DETAIL_CACHE = "storeDetailResponses";
+    public static final String CATEGORY_CACHE = "categoryResponses";
+    public static final String STORE_REVIEWS_CACHE = "storeReviewResponses";
+    static final String CACHE_STATUS_HEADER = "X-Response-Cache";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    // CDN 캐시를 끈 경우: 클라이언트가 저장은 하되 매번 ETag로 재검증하도록 함
+    private static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+    // 인증 요청: 공유 캐시(CDN)에는 저장하지 않고, 클라이언트만 저장해 매번 ETag로 재검증하도록 함
+    private static final String CACHE_CONTROL_PRIVATE_REVALIDATE = "private, no-cache";
+
+    private static final String STORE_LIST_PATH = "/api/v1/stores";
+    private static final Pattern STORE_DETAIL_PATH = Pattern.compile("^/api/v1/stores/(\\d{1,18})$");
+    private static final String CATEGORY_LIST_PATH = "/api/v1/categories";
+    private static final Pattern STORE_REVIEWS_PATH = Pattern.compile("^/api/v1/reviews/store/(\\d{1,18})$");
+    // 리뷰는 기본 크기의 첫 페이지(커서 없음)만 캐시해 가게 ID 하나로 무효화할 수 있게 함
+    private static final String STORE_REVIEWS_DEFAULT_SIZE = "20";
+    // 이 외의 파라미터(lat, lng, radius, storeName 등)가 있는 목록 조회는 캐시하지 않음
+    private static final Set<String> STORE_LIST_PARAMS = Set.of("sort", "isDiscountOpen", "page", "size", "categoryId");
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final StoreListCacheTags storeListCacheTags;
+
+    @Value("${cache.response.enabled:true}")
+    private boolean enabled;
+
+    // 이 크기 이상인 본문만 gzip으로 미리 압축
+    @Value("${cache.response.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    // 이보다 큰 본문은 저장하지 않음
+    @Value("${cache.response.max-body-bytes:524288}")
+    private int maxBodyBytes;
+
+    // CDN 엣지 캐시 헤더(public, s-maxage) 사용 여부
+    // 퍼지할 수 있는 CdnPurger(cdn.purge.mode)를 설정한 환경에서만 켬 (기본 LOG 스텁은 퍼지하지 않아 엣지에 재고/마감할인이 s-maxage 동안 남음)
+    @Value("${cache.cdn.enabled:false}")
+    private boolean cdnEnabled;
+
+    // 브라우저/앱 캐시 시간 (퍼지할 수 없으므로 짧게)
+    @Value("${cache.cdn.max-age-seconds:30}")
+    private long maxAgeSeconds;
+
+    // CDN 엣지 캐시 시간 (쓰기 시 퍼지)
+    @Value("${cache.cdn.s-maxage-seconds:300}")
+    private long sharedMaxAgeSeconds;
+
+    @Value("${cache.cdn.stale-while-revalidate-seconds:60}")
+    private long staleWhileRevalidateSeconds;
+
+    public ResponseCacheFilter(CacheManager cacheManager, MeterRegistry meterRegistry,
+            StoreListCacheTags storeListCacheTags) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.storeListCacheTags = storeListCacheTags;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String cacheName = cacheName(request);
+        if (cacheName != null && request.getHeader(HttpHeaders.AUTHORIZATION) != null) {
+            revalidatePrivate(request, response, filterChain);
+            return;
+        }
+        String key = cacheName != null ? cacheKey(cacheName, request) : null;
+        Cache cache = key != null ? cacheManager.getCache(cacheName) : null;
+        if (cache == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = lookup(cache, key);
+        if (cached != null) {
+            counter(cacheName, "hit").increment();
+            writeCached(request, response, cacheName, cached);
+            return;
+        }
+        counter(cacheName, "miss").increment();
+
+        response.setHeader(CACHE_STATUS_HEADER, "MISS");
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (isStorable(responseWrapper)) {
+                byte[] body = responseWrapper.getContentAsByteArray();
+                String etag = etag(body);
+                if (STORE_LIST_CACHE.equals(cacheName)) {
+                    registerStoreListTags(key, request);
+                }
+                store(cache, key, responseWrapper.getContentType(), body, etag);
+                // 캐시 미스여도 같은 본문이면 본문 대신 304로 응답
+                applyCachePolicy(request, response, cacheName);
+                response.setHeader(HttpHeaders.ETAG, etag);
+                if (matchesIfNoneMatch(request, etag)) {
+                    responseWrapper.resetBuffer();
+                    responseWrapper.setStatus(HttpStatus.NOT_MODIFIED.value());
+                }
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 인증 요청: 공유 캐시를 거치지 않고 컨트롤러 응답 본문의 ETag로 304 여부만 판단합니다.
+     */
+    private void revalidatePrivate(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (isStorable(responseWrapper)) {
+                String etag = etag(responseWrapper.getContentAsByteArray());
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_PRIVATE_REVALIDATE);
+                response.setHeader(HttpHeaders.ETAG, etag);
+                if (matchesIfNoneMatch(request, etag)) {
+                    responseWrapper.resetBuffer();
+                    responseWrapper.setStatus(HttpStatus.NOT_MODIFIED.value());
+                }
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String cacheName(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (STORE_LIST_PATH.equals(path)) {
+            return STORE_LIST_CACHE;
+        }
+        if (CATEGORY_LIST_PATH.equals(path)) {
+            return CATEGORY_CACHE;
+        }
+        if (STORE_DETAIL_PATH.matcher(path).matches()) {
+            return STORE_DETAIL_CACHE;
+        }
+        if (STORE_REVIEWS_PATH.matcher(path).matches()) {
+            return STORE_REVIEWS_CACHE;
+        }
+        return null;
+    }
+
+    /**
+     * 정규화한 캐시 키 (캐시하지 않을 요청이면 null)
+     * 가게 목록 키는 StoreService.generateCacheKey와 같은 형식이며, 정렬 기준과 할인 여부는 소문자로 통일합니다.
+     */
+    static String cacheKey(String cacheName, HttpServletRequest request) {
+        Map<String, String[]> params = request.getParameterMap();
+        switch (cacheName) {
+            case STORE_LIST_CACHE -> {
+                for (Map.Entry<String, String[]> param : params.entrySet()) {
+                    if (!STORE_LIST_PARAMS.contains(param.getKey()) || param.getValue().length != 1) {
+                        return null;
+                    }
+                }
+                return String.format("%s_%s_%s_%s_%s",
+                        param(request, "sort", "default").toLowerCase(Locale.ROOT),
+                        param(request, "isDiscountOpen", "all").toLowerCase(Locale.ROOT),
+                        param(request, "page", "0"),
+                        param(request, "size", "20"),
+                        param(request, "categoryId", "0"));
+            }
+            case STORE_DETAIL_CACHE -> {
+                Matcher matcher = STORE_DETAIL_PATH.matcher(request.getRequestURI());
+                return params.isEmpty() && matcher.matches() ? String.valueOf(Long.parseLong(matcher.group(1))) : null;
+            }
+            case CATEGORY_CACHE -> {
+                return params.isEmpty() ? "all" : null;
+            }
+            case STORE_REVIEWS_CACHE -> {
+                Matcher matcher = STORE_REVIEWS_PATH.matcher(request.getRequestURI());
+                boolean firstPage = params.keySet().stream().allMatch("size"::equals)
+                        && STORE_REVIEWS_DEFAULT_SIZE.equals(param(request, "size", STORE_REVIEWS_DEFAULT_SIZE));
+                return firstPage && matcher.matches() ? String.valueOf(Long.parseLong(matcher.group(1))) : null;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 가게 목록 응답을 storePages와 같은 조회 조건(카테고리, 할인 여부, 정렬) 태그로 기록합니다.
+     * 저장 전에 기록해, 저장 직후의 삭제 요청이 응답을 놓치지 않게 합니다.
+     */
+    private void registerStoreListTags(String key, HttpServletRequest request) {
+        String discount = param(request, "isDiscountOpen", "all").toLowerCase(Locale.ROOT);
+        storeListCacheTags.registerResponse(key,
+                param(request, "sort", null),
+                "all".equals(discount) ? null : Boolean.valueOf(discount),
+                Long.parseLong(param(request, "categoryId", "0")));
+    }
+
+    private static String param(HttpServletRequest request, String name, String defaultValue) {
+        String value = request.getParameter(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private CachedResponse lookup(Cache cache, String key) {
+        try {
+            return cache.get(key, CachedResponse.class);
+        } catch (RuntimeException e) {
+            logger.warn("응답 캐시 조회 실패, 캐시 없이 처리: cache={}, key={}, error={}",
+                    cache.getName(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response, String cacheName,
+            CachedResponse cached) throws IOException {
+        byte[] body = cached.getBody();
+        String etag = cached.getEtag() != null ? cached.getEtag() : etag(body);
+        if (cached.getGzipBody() != null && acceptsGzip(request)) {
+            body = cached.getGzipBody();
+            etag = gzipEtag(etag);
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        applyCachePolicy(request, response, cacheName);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(CACHE_STATUS_HEADER, "HIT");
+        if (matchesIfNoneMatch(request, etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void applyCachePolicy(HttpServletRequest request, HttpServletResponse response, String cacheName) {
+        if (!cdnEnabled) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_REVALIDATE);
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                String.format("public, max-age=%d, s-maxage=%d, stale-while-revalidate=%d",
+                        maxAgeSeconds, sharedMaxAgeSeconds, staleWhileRevalidateSeconds));
+        String surrogateKeys = surrogateKeys(cacheName, request);
+        if (surrogateKeys != null) {
+            response.setHeader(SurrogateKeys.HEADER, surrogateKeys);
+        }
+    }
+
+    /**
+     * 응답의 Surrogate-Key 헤더 값 (공백으로 구분)
+     */
+    static String surrogateKeys(String cacheName, HttpServletRequest request) {
+        switch (cacheName) {
+            case STORE_LIST_CACHE -> {
+                long categoryId = Long.parseLong(param(request, "categoryId", "0"));
+                return SurrogateKeys.STORE_LIST + " " + SurrogateKeys.storeListCategory(categoryId);
+            }
+            case STORE_DETAIL_CACHE, STORE_REVIEWS_CACHE -> {
+                Matcher matcher = (STORE_DETAIL_CACHE.equals(cacheName) ? STORE_DETAIL_PATH : STORE_REVIEWS_PATH)
+                        .matcher(request.getRequestURI());
+                return matcher.matches() ? SurrogateKeys.store(Long.parseLong(matcher.group(1))) : null;
+            }
+            case CATEGORY_CACHE -> {
+                return SurrogateKeys.CATEGORIES;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private boolean isStorable(ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        int size = response.getContentSize();
+        return response.getStatus() == HttpStatus.OK.value()
+                && contentType != null && contentType.contains("json")
+                && response.getHeader(HttpHeaders.SET_COOKIE) == null
+                && size > 0 && size <= maxBodyBytes;
+    }
+
+    private void store(Cache cache, String key, String contentType, byte[] body, String etag) {
+        try {
+            byte[] gzipBody = body.length >= gzipMinBytes ? gzip(body) : null;
+            cache.put(key, new CachedResponse(contentType, body, gzipBody, etag));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("응답 캐시 저장 실패: cache={}, key={}, error={}", cache.getName(), key, e.getMessage());
+        }
+    }
+
+    static String etag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    /**
+     * If-None-Match에 현재 ETag가 있는지 확인합니다.
+     * If-None-Match는 약한 비교를 쓰므로 W/ 접두사는 무시하고, 압축 여부만 다른 ETag도 같은 본문으로 봅니다.
+     */
+    static boolean matchesIfNoneMatch(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String identityEtag = etag.replace(GZIP_ETAG_SUFFIX + "\"", "\"");
+        for (String token : ifNoneMatch.split(",")) {
+            String candidate = token.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if ("*".equals(candidate) || identityEtag.equals(candidate.replace(GZIP_ETAG_SUFFIX + "\"", "\""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        }
+        return output.toByteArray();
+    }
+
+    private Counter counter(String cacheName, String result) {
+        return Counter.builder("luckeat.response.cache")
+                .description("응답 본문 캐시 조회 결과")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
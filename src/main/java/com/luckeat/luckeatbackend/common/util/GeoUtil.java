@@ -0,0 +1,204 @@
+package com.luckeat.luckeatbackend.common.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 위경도 좌표 계산 유틸리티
+ * 거리 계산식은 StoreRepository 네이티브 쿼리의 구면 코사인 법칙과 동일하게 맞춥니다.
+ */
+public final class GeoUtil {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 위도 1도에 해당하는 거리 (km)
+    public static final double KM_PER_DEGREE = Math.toRadians(1.0) * EARTH_RADIUS_KM;
+
+    private static final String GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoUtil() {
+    }
+
+    /**
+     * 두 좌표 사이의 거리(km)를 계산합니다.
+     * 부동소수점 오차로 acos 인자가 [-1, 1]을 벗어나는 경우를 보정합니다.
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double cos = Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.cos(Math.toRadians(lng2) - Math.toRadians(lng1))
+                + Math.sin(Math.toRadians(lat1)) * Math.sin(Math.toRadians(lat2));
+        return EARTH_RADIUS_KM * Math.acos(Math.max(-1.0, Math.min(1.0, cos)));
+    }
+
+    /**
+     * 중심 좌표에서 반경(km)을 모두 포함하는 위경도 사각 영역을 계산합니다.
+     * 극 지방처럼 경도 폭을 계산할 수 없는 경우 경도 전체 범위를 반환합니다.
+     */
+    public static BoundingBox boundingBox(double lat, double lng, double radiusKm) {
+        double deltaLat = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90.0, lat - deltaLat);
+        double maxLat = Math.min(90.0, lat + deltaLat);
+
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double deltaLng = cosLat > 1e-9 ? radiusKm / (KM_PER_DEGREE * cosLat) : 180.0;
+        if (deltaLng >= 180.0 || maxLat >= 90.0 || minLat <= -90.0) {
+            return new BoundingBox(minLat, -180.0, maxLat, 180.0);
+        }
+        return new BoundingBox(minLat, Math.max(-180.0, lng - deltaLng), maxLat, Math.min(180.0, lng + deltaLng));
+    }
+
+    /**
+     * 사각 영역을 경도-위도 순서의 WKT POLYGON 문자열로 변환합니다.
+     * MySQL ST_GeomFromText(..., 4326, 'axis-order=long-lat')와 함께 사용합니다.
+     */
+    public static String toWktPolygon(BoundingBox box) {
+        return String.format(Locale.ROOT,
+                "POLYGON((%1$f %2$f, %3$f %2$f, %3$f %4$f, %1$f %4$f, %1$f %2$f))",
+                box.getMinLng(), box.getMinLat(), box.getMaxLng(), box.getMaxLat());
+    }
+
+    /**
+     * 좌표를 지정한 정밀도(문자 수)의 geohash 문자열로 변환합니다.
+     * 정밀도 6은 약 1.2km x 0.6km, 7은 약 150m x 150m 크기의 셀입니다.
+     */
+    public static String geohash(double lat, double lng, int precision) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(GEOHASH_BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * geohash 문자열이 나타내는 셀 영역을 반환합니다.
+     */
+    public static BoundingBox geohashBounds(String geohash) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+        boolean evenBit = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            int value = GEOHASH_BASE32.indexOf(geohash.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException("올바르지 않은 geohash 문자입니다: " + geohash);
+            }
+            for (int shift = 4; shift >= 0; shift--) {
+                boolean set = ((value >> shift) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new BoundingBox(minLat, minLng, maxLat, maxLng);
+    }
+
+    /**
+     * 사각 영역과 겹치는 지정한 정밀도의 geohash 셀을 모두 반환합니다.
+     * 셀 개수가 maxCells를 넘으면 빈 집합을 반환하므로, 호출자가 영역 전체를 대신할 값을 사용해야 합니다.
+     */
+    public static Set<String> geohashesCovering(BoundingBox box, int precision, int maxCells) {
+        BoundingBox cell = geohashBounds(geohash(box.getMinLat(), box.getMinLng(), precision));
+        double latStep = cell.getMaxLat() - cell.getMinLat();
+        double lngStep = cell.getMaxLng() - cell.getMinLng();
+        long rows = (long) Math.ceil((box.getMaxLat() - box.getMinLat()) / latStep) + 1;
+        long columns = (long) Math.ceil((box.getMaxLng() - box.getMinLng()) / lngStep) + 1;
+        if (rows * columns > maxCells) {
+            return Set.of();
+        }
+
+        Set<String> hashes = new LinkedHashSet<>();
+        for (long row = 0; row < rows; row++) {
+            double lat = Math.min(box.getMaxLat(), box.getMinLat() + row * latStep);
+            for (long column = 0; column < columns; column++) {
+                double lng = Math.min(box.getMaxLng(), box.getMinLng() + column * lngStep);
+                hashes.add(geohash(lat, lng, precision));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * 위경도 사각 영역
+     */
+    public static final class BoundingBox {
+        private final double minLat;
+        private final double minLng;
+        private final double maxLat;
+        private final double maxLng;
+
+        public BoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.maxLat = maxLat;
+            this.maxLng = maxLng;
+        }
+
+        public double getMinLat() {
+            return minLat;
+        }
+
+        public double getMinLng() {
+            return minLng;
+        }
+
+        public double getMaxLat() {
+            return maxLat;
+        }
+
+        public double getMaxLng() {
+            return maxLng;
+        }
+
+        public double getCenterLat() {
+            return (minLat + maxLat) / 2;
+        }
+
+        public double getCenterLng() {
+            return (minLng + maxLng) / 2;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.luckeat.luckeatbackend.common.util;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * 자동완성에서 입력 중인 글자("닭" 입력 중의 "달")와 초성 검색("ㅁㅇ")을 처리하기 위해 사용합니다.
+ * 겹모음/겹받침은 입력 순서대로 기본 자모로 나눕니다. (ㅘ -> ㅗㅏ, ㄺ -> ㄹㄱ)
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+        "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+        "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환 자모)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 한글 음절을 기본 자모로 분해합니다. 한글이 아닌 문자는 그대로 둡니다.
+     * 예) "맛집" -> "ㅁㅏㅅㅈㅣㅂ"
+     */
+    public static String decompose(String text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                int code = ch - SYLLABLE_BASE;
+                result.append(CHOSEONG[code / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[(code % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[code % JONGSEONG_COUNT]);
+            } else {
+                result.append(COMPOUND_JAMO.getOrDefault(ch, String.valueOf(ch)));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. 한글이 아닌 문자는 그대로 둡니다.
+     * 예) "맛있는빵집" -> "ㅁㅇㄴㅃㅈ"
+     */
+    public static String choseong(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                result.append(CHOSEONG[(ch - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                result.append(ch);
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+    }
+}
@@ -0,0 +1,106 @@
+package com.luckeat.luckeatbackend.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나로 합칩니다. (single-flight)
+ * 먼저 들어온 호출(leader)만 실제로 실행하고, 실행 중에 들어온 같은 키의 호출(waiter)은 그 결과나 예외를 함께 받습니다.
+ * - 진행 중인 키 수가 maxInFlight를 넘으면 합치지 않고 바로 실행 (메모리 상한)
+ * - waiter는 timeout까지만 기다리고, 넘으면 직접 실행
+ * 결과 객체는 모든 호출자가 공유하므로 수정하면 안 됩니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final Duration timeout;
+
+    private final Counter leaders;
+    private final Counter waiters;
+    private final Counter timeouts;
+    private final Counter overflows;
+
+    public SingleFlight(String name, int maxInFlight, Duration timeout, MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.timeout = timeout;
+        this.leaders = counter(meterRegistry, name, "leader");
+        this.waiters = counter(meterRegistry, name, "waiter");
+        this.timeouts = counter(meterRegistry, name, "timeout");
+        this.overflows = counter(meterRegistry, name, "overflow");
+        Gauge.builder("luckeat.singleflight.inflight", inFlight, ConcurrentMap::size)
+                .description("실행 중인 합쳐진 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing == null) {
+            if (inFlight.size() >= maxInFlight) {
+                overflows.increment();
+                return call.get();
+            }
+            CompletableFuture<V> future = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, future);
+            if (existing == null) {
+                return lead(key, future, call);
+            }
+        }
+        return await(existing, call);
+    }
+
+    private V lead(K key, CompletableFuture<V> future, Supplier<V> call) {
+        leaders.increment();
+        try {
+            V value = call.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future, Supplier<V> call) {
+        waiters.increment();
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return call.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합쳐진 호출 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String role) {
+        return Counter.builder("luckeat.singleflight.calls")
+                .description("합쳐진 호출 수 (leader: 실제 실행, waiter: 결과 공유)")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
@@ -48,9 +48,9 @@ public class SortUtil {
                 dbColumn = "share_count";
                 //logger.debug("정렬 기준: share (DB 컬럼: {}, 방향: DESC)", dbColumn);
                 break;
-            // case "review": // 리뷰 수 정렬은 아직 미구현
-            //     logger.warn("리뷰 수 기준 정렬은 현재 지원되지 않습니다.");
-            //     return Sort.unsorted();
+            case "review":
+                dbColumn = "review_count"; // store.review_count 비정규화 컬럼 (집계 쿼리 불필요)
+                break;
             default:
                 logger.warn("알 수 없는 정렬 기준 '{}'이(가) 요청되었습니다. 정렬 없이 진행합니다.", property);
                 return Sort.unsorted();
@@ -1,58 +1,220 @@
 package com.luckeat.luckeatbackend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luckeat.luckeatbackend.common.cache.CacheValueSerializer;
+import com.luckeat.luckeatbackend.common.cache.CachedResponse;
+import com.luckeat.luckeatbackend.common.cache.RefreshAheadPolicy;
+import com.luckeat.luckeatbackend.common.cache.TwoLevelCacheManager;
+import com.luckeat.luckeatbackend.common.filter.ResponseCacheFilter;
+import com.luckeat.luckeatbackend.store.dto.StoreDetailResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreIdPage;
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+import com.luckeat.luckeatbackend.store.dto.StoreResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // 노드 로컬 L1(Caffeine)을 앞에 둘 캐시 (비우면 Redis만 사용)
+    @Value("${cache.local.cache-names:storePages,storeDetails,storeDetailsFull,storeListResponses,storeDetailResponses,categoryResponses,storeReviewResponses}")
+    private String[] localCacheNames;
+
+    // 캐시별 L1 최대 항목 수
+    @Value("${cache.local.maximum-size:1000}")
+    private long localMaximumSize;
+
+    // L1 TTL (다른 노드의 무효화 메시지가 유실되었을 때 오래된 값이 남는 최대 시간)
+    @Value("${cache.local.ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    // 미리 갱신(stale-while-revalidate)할 캐시별 soft TTL(초), L1 캐시이면서 값 로더와 함께 조회해야 함
+    // (@Cacheable(sync = true) 또는 Cache.get(key, valueLoader))
+    // Redis TTL(storePages 10분, storeDetailsFull 30분)보다 짧아야 만료 전에 갱신됨
+    @Value("#{${cache.refresh-ahead.soft-ttl-seconds:{'storePages': 480, 'storeDetailsFull': 1500}}}")
+    private Map<String, Integer> refreshAheadSoftTtlSeconds;
+
+    // XFetch 조기 갱신 가중치 (0이면 soft TTL 이후에만 갱신)
+    @Value("${cache.refresh-ahead.beta:1.0}")
+    private double refreshAheadBeta;
+
+    // 값 타입을 지정한 바이너리(Smile) 형식으로 저장할 캐시 (기본값은 비어 있어 모두 이전 JSON 형식)
+    // 이전 버전 노드는 바이너리 값을 읽지 못하므로, 모든 노드가 이 버전으로 배포된 뒤에 캐시 이름을 지정해 켬
+    // 예: cache.codec.binary-cache-names=storePages,storeCells,storeDetails,storeDetailsFull,
+    //     storeListResponses,storeDetailResponses,categoryResponses,storeReviewResponses
+    @Value("${cache.codec.binary-cache-names:}")
+    private String[] binaryCacheNames;
+
+    // 캐시별 LZ4 압축 기준 크기(바이트), 없는 캐시는 압축하지 않음
+    @Value("#{${cache.codec.compression-threshold-bytes:{'storePages': 1024, 'storeCells': 1024, 'storeDetailsFull': 1024}}}")
+    private Map<String, Integer> compressionThresholdBytes;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.registerModule(new Jdk8Module());
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             MeterRegistry meterRegistry,
+                                             PlatformTransactionManager transactionManager) {
+        Map<String, RefreshAheadPolicy> refreshAheadPolicies = new HashMap<>();
+        refreshAheadSoftTtlSeconds.forEach((cacheName, seconds) -> refreshAheadPolicies.put(
+                cacheName, new RefreshAheadPolicy(Duration.ofSeconds(seconds), refreshAheadBeta)));
 
-        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
-                .builder()
-                .allowIfBaseType(Object.class)
-                .build();
-        objectMapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return new TwoLevelCacheManager(redisCacheManager(redisConnectionFactory), Set.of(localCacheNames),
+                localMaximumSize, Duration.ofSeconds(localTtlSeconds), refreshAheadPolicies,
+                refreshExecutor(transactionManager), stringRedisTemplate, meterRegistry);
+    }
+
+    /**
+     * 다른 노드에서 발행한 L1 무효화 메시지 수신
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
 
-        GenericJackson2JsonRedisSerializer jacksonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    /**
+     * 캐시 백그라운드 갱신 실행기
+     * 갱신은 요청 스레드 밖에서 서비스 메서드를 다시 호출하므로 읽기 전용 트랜잭션 안에서 실행합니다.
+     * 대기열이 가득 차면 갱신을 건너뛰고 기존 값으로 계속 응답합니다.
+     */
+    private Executor refreshExecutor(PlatformTransactionManager transactionManager) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setDaemon(true);
+        executor.initialize();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return task -> executor.execute(() -> transactionTemplate.executeWithoutResult(status -> task.run()));
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+        GenericJackson2JsonRedisSerializer jacksonSerializer = new GenericJackson2JsonRedisSerializer(legacyObjectMapper());
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jacksonSerializer))
                 .entryTtl(Duration.ofMinutes(10));
 
+        ObjectMapper binaryMapper = binaryObjectMapper();
+        TypeFactory typeFactory = binaryMapper.getTypeFactory();
+        Map<String, JavaType> valueTypes = Map.of(
+                "storePages", typeFactory.constructType(StoreIdPage.class),
+                "storeCells", typeFactory.constructCollectionType(ArrayList.class, StoreListDto.class),
+                "storeDetails", typeFactory.constructType(StoreResponseDto.class),
+                "storeDetailsFull", typeFactory.constructType(StoreDetailResponseDto.class),
+                ResponseCacheFilter.STORE_LIST_CACHE, typeFactory.constructType(CachedResponse.class),
+                ResponseCacheFilter.STORE_DETAIL_CACHE, typeFactory.constructType(CachedResponse.class),
+                ResponseCacheFilter.CATEGORY_CACHE, typeFactory.constructType(CachedResponse.class),
+                ResponseCacheFilter.STORE_REVIEWS_CACHE, typeFactory.constructType(CachedResponse.class));
+        Set<String> binaryCaches = Set.of(binaryCacheNames);
+
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
-        cacheConfigurations.put("stores", defaultConfig.entryTtl(Duration.ofMinutes(10)));
-        
-        cacheConfigurations.put("storeDetails", defaultConfig.entryTtl(Duration.ofMinutes(30)));
-        cacheConfigurations.put("storeDetailsFull", defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        Map<String, Duration> cacheTtls = Map.of(
+                // 가게 목록 페이지의 ID 순서 (표시 값은 가게별 목록 항목 storeListItems::{id}, StoreListItemCache)
+                "storePages", Duration.ofMinutes(10),
+                // 위치 검색 셀 후보 캐시 (store.cache.geo-cell.enabled)
+                "storeCells", Duration.ofMinutes(5),
+                "storeDetails", Duration.ofMinutes(30),
+                "storeDetailsFull", Duration.ofMinutes(30),
+                // 직렬화가 끝난 응답 본문 (ResponseCacheFilter), 원본 캐시와 같은 쓰기에서 무효화
+                ResponseCacheFilter.STORE_LIST_CACHE, Duration.ofMinutes(5),
+                ResponseCacheFilter.STORE_DETAIL_CACHE, Duration.ofMinutes(10),
+                ResponseCacheFilter.CATEGORY_CACHE, Duration.ofMinutes(30),
+                ResponseCacheFilter.STORE_REVIEWS_CACHE, Duration.ofMinutes(10));
+        cacheTtls.forEach((cacheName, ttl) -> {
+            RedisCacheConfiguration config = defaultConfig.entryTtl(ttl);
+            if (binaryCaches.contains(cacheName)) {
+                CacheValueSerializer serializer = new CacheValueSerializer(binaryMapper, valueTypes.get(cacheName),
+                        compressionThresholdBytes.getOrDefault(cacheName, 0), jacksonSerializer);
+                config = config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+            }
+            cacheConfigurations.put(cacheName, config);
+        });
+
+        // allEntries 삭제 시 기본 전략(KEYS)은 Redis를 블로킹하므로 SCAN으로 나눠 삭제
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                redisConnectionFactory, BatchStrategies.scan(1000));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // 빈으로 등록하지 않으므로 캐시별 설정(TTL)을 직접 초기화
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
+    }
+
+    /**
+     * 이전 형식(JSON + 클래스 이름) 캐시 값용 ObjectMapper
+     */
+    public static ObjectMapper legacyObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.registerModule(new Jdk8Module());
+
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
+                .builder()
+                .allowIfBaseType(Object.class)
+                .build();
+        objectMapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
+    }
+
+    /**
+     * 바이너리 캐시 값용 ObjectMapper
+     * 타입은 캐시별로 정해져 있으므로 클래스 이름을 쓰지 않고, null 필드는 생략하며,
+     * DTO 필드가 바뀌어도 기존 캐시 값을 읽을 수 있도록 모르는 필드는 무시합니다.
+     */
+    public static ObjectMapper binaryObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.registerModule(new Jdk8Module());
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return objectMapper;
     }
-} 
\ No newline at end of file
+}
@@ -54,7 +54,7 @@ public class WebConfig implements WebMvcConfigurer {
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         config.setAllowedHeaders(Arrays.asList(
             "Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With",
-            "Access-Control-Request-Method", "Access-Control-Request-Headers", "X-Timezone",
+            "Access-Control-Request-Method", "Access-Control-Request-Headers", "X-Timezone", "Idempotency-Key",
             "Access-Control-Allow-Origin", "Access-Control-Allow-Methods", "Access-Control-Allow-Headers"
         ));
         config.setExposedHeaders(Arrays.asList("X-Rate-Limit-Remaining", "Authorization"));
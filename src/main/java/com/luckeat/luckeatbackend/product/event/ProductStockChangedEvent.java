@@ -0,0 +1,32 @@
+package com.luckeat.luckeatbackend.product.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 외의 경로로 상품 재고/판매 상태가 바뀌었을 때 발행하는 이벤트
+ * 트랜잭션 커밋 이후 예약 재고 게이트(StockGate)의 재고 미러 갱신에 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductStockChangedEvent {
+
+	private final Long productId;
+	// 예약 취소로 돌아온 수량, 가게 주인이 직접 수정한 경우 null
+	private final Integer restoredQuantity;
+
+	/**
+	 * 가게 주인이 재고/판매 상태를 직접 수정함 (미러를 버리고 다음 예약 때 DB 값으로 다시 채움)
+	 */
+	public static ProductStockChangedEvent edited(Long productId) {
+		return new ProductStockChangedEvent(productId, null);
+	}
+
+	/**
+	 * 예약 취소로 재고가 돌아옴 (미러에 수량을 더함)
+	 */
+	public static ProductStockChangedEvent restored(Long productId, int quantity) {
+		return new ProductStockChangedEvent(productId, quantity);
+	}
+}
@@ -53,6 +53,20 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 		nativeQuery = true)
 	int decreaseProductStock(@Param("productId") Long productId, @Param("quantity") int quantity);
 
+	// 차감 후에도 재고가 남는 경우만 차감 (판매 상태 유지)
+	@Modifying
+	@Query(value = "UPDATE product SET product_count = product_count - :quantity " +
+		"WHERE id = :productId AND product_count > :quantity",
+		nativeQuery = true)
+	int decreaseProductStockKeepingOpen(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+	// 남은 재고를 모두 가져가는 경우만 차감하고 판매 종료
+	@Modifying
+	@Query(value = "UPDATE product SET product_count = 0, is_open = false " +
+		"WHERE id = :productId AND product_count = :quantity",
+		nativeQuery = true)
+	int decreaseProductStockToSoldOut(@Param("productId") Long productId, @Param("quantity") int quantity);
+
 	@Modifying
 	@Query("UPDATE Product p SET p.productCount = p.productCount + :quantity, " +
 		"p.isOpen = CASE WHEN p.productCount + :quantity > 0 THEN true ELSE p.isOpen END " +
@@ -3,6 +3,7 @@ package com.luckeat.luckeatbackend.product.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,10 +16,12 @@ import com.luckeat.luckeatbackend.common.exception.product.ProductNotFoundExcept
 import com.luckeat.luckeatbackend.common.exception.product.ProductUnauthenticatedException;
 import com.luckeat.luckeatbackend.common.exception.store.StoreNotFoundException;
 import com.luckeat.luckeatbackend.common.exception.user.UserNotFoundException;
+import com.luckeat.luckeatbackend.product.event.ProductStockChangedEvent;
 import com.luckeat.luckeatbackend.product.model.Product;
 import com.luckeat.luckeatbackend.product.repository.ProductRepository;
 import com.luckeat.luckeatbackend.store.model.Store;
 import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+import com.luckeat.luckeatbackend.store.service.StoreService;
 import com.luckeat.luckeatbackend.users.repository.UserRepository;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -34,6 +37,8 @@ public class ProductService {
 	private final ProductRepository productRepository;
 	private final StoreRepository storeRepository;
 	private final UserRepository userRepository;
+	private final StoreService storeService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public List<Product> getAllProducts(Long storeId) {
 		Store store = getStoreById(storeId);
@@ -74,7 +79,9 @@ public class ProductService {
 		}
 		
 		product.setStore(store);
-		return productRepository.save(product);
+		Product savedProduct = productRepository.save(product);
+		storeService.refreshOpenDealState(storeId);
+		return savedProduct;
 	}
 
 	@Transactional
@@ -101,7 +108,10 @@ public class ProductService {
 		existingProduct.setProductCount(product.getProductCount());
 		existingProduct.setDescription(product.getDescription());
 		
-		return productRepository.save(existingProduct);
+		Product savedProduct = productRepository.save(existingProduct);
+		storeService.refreshOpenDealState(storeId);
+		eventPublisher.publishEvent(ProductStockChangedEvent.edited(productId));
+		return savedProduct;
 	}
 
 	@Transactional
@@ -114,6 +124,8 @@ public class ProductService {
 		Optional<Product> product = productRepository.findByIdAndStoreAndDeletedAtIsNull(productId, store);
 		if (product.isPresent()) {
 			productRepository.deleteById(productId);
+			storeService.refreshOpenDealState(storeId);
+			eventPublisher.publishEvent(ProductStockChangedEvent.edited(productId));
 		} else {
 			throw new ProductNotFoundException("상품을 찾을 수 없습니다: " + productId);
 		}
@@ -137,7 +149,10 @@ public class ProductService {
 		}
 		
 		product.setProductCount(count);
-		return productRepository.save(product);
+		Product savedProduct = productRepository.save(product);
+		storeService.refreshOpenDealState(storeId);
+		eventPublisher.publishEvent(ProductStockChangedEvent.edited(productId));
+		return savedProduct;
 	}
 
 	@Transactional
@@ -159,7 +174,10 @@ public class ProductService {
 			product.setIsOpen(false);
 		}
 		
-		return productRepository.save(product);
+		Product savedProduct = productRepository.save(product);
+		storeService.refreshOpenDealState(storeId);
+		eventPublisher.publishEvent(ProductStockChangedEvent.edited(productId));
+		return savedProduct;
 	}
 
 	@Transactional
@@ -171,7 +189,10 @@ public class ProductService {
 			.orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다: " + productId));
 			
 		product.setProductCount(product.getProductCount() + count);
-		return productRepository.save(product);
+		Product savedProduct = productRepository.save(product);
+		storeService.refreshOpenDealState(storeId);
+		eventPublisher.publishEvent(ProductStockChangedEvent.edited(productId));
+		return savedProduct;
 	}
 
 	@Transactional
@@ -181,10 +202,16 @@ public class ProductService {
 		
 		// 해당 가게의 상품인지 확인
 		Store store = getStoreById(storeId);
-		return productRepository.findByIdAndStoreAndDeletedAtIsNull(productId, store).map(product -> {
-			product.setIsOpen(isOpen);
-			return productRepository.save(product);
+		Optional<Product> updatedProduct = productRepository.findByIdAndStoreAndDeletedAtIsNull(productId, store)
+				.map(product -> {
+					product.setIsOpen(isOpen);
+					return productRepository.save(product);
+				});
+		updatedProduct.ifPresent(product -> {
+			storeService.refreshOpenDealState(storeId);
+			eventPublisher.publishEvent(ProductStockChangedEvent.edited(productId));
 		});
+		return updatedProduct;
 	}
 
 	private Store getStoreById(Long storeId) {
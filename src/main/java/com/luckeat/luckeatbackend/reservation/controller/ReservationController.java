@@ -8,13 +8,16 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.luckeat.luckeatbackend.product.repository.ProductRepository;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationBulkStatusRequestDto;
 import com.luckeat.luckeatbackend.reservation.dto.ReservationRequestDto;
 import com.luckeat.luckeatbackend.reservation.dto.ReservationResponseDto;
 import com.luckeat.luckeatbackend.reservation.dto.ReservationStatusRequestDto;
+import com.luckeat.luckeatbackend.reservation.service.ReservationIdempotency;
 import com.luckeat.luckeatbackend.reservation.service.ReservationService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +39,7 @@ public class ReservationController {
 
     private final ReservationService reservationService;
     private final ProductRepository productRepository; // 추가 필요
+    private final ReservationIdempotency reservationIdempotency;
     
     
     /**
@@ -43,6 +47,7 @@ public class ReservationController {
      * 
      * @param storeId 가게 ID
      * @param requestDto 예약 생성 정보 (상품ID, 수량, 제로웨이스트 여부)
+     * @param idempotencyKey 재시도 시 같은 값을 보내면 예약을 다시 만들지 않고 처음 응답을 돌려줍니다.
      * @return 생성된 예약 정보와 201 Created 상태 코드
      */
     @Operation(summary = "예약 생성", description = "새로운 예약을 생성합니다.")
@@ -50,8 +55,13 @@ public class ReservationController {
     public ResponseEntity<ReservationResponseDto> createReservation(
             @Parameter(name = "storeId", description = "가게 ID", required = true, in = ParameterIn.PATH) 
             @PathVariable Long storeId,
-            @Valid @RequestBody ReservationRequestDto requestDto) {
-        ReservationResponseDto responseDto = reservationService.createReservation(storeId, requestDto);
+            @Valid @RequestBody ReservationRequestDto requestDto,
+            @Parameter(name = ReservationIdempotency.HEADER, description = "중복 요청 방지 키", in = ParameterIn.HEADER)
+            @RequestHeader(value = ReservationIdempotency.HEADER, required = false) String idempotencyKey) {
+        String fingerprint = storeId + ":" + requestDto.getProductId() + ":" + requestDto.getQuantity()
+                + ":" + requestDto.getIsZerowaste();
+        ReservationResponseDto responseDto = reservationIdempotency.execute(idempotencyKey, "create", fingerprint,
+                () -> reservationService.createReservation(storeId, requestDto));
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
     
@@ -61,17 +71,38 @@ public class ReservationController {
      * 고객과 가게 소유자 모두 예약을 CANCELED 상태로 변경(취소)할 수 있습니다.
      * 
      * @param requestDto 예약 상태 변경 정보 (예약ID, 변경할 상태)
+     * @param idempotencyKey 재시도 시 같은 값을 보내면 상태를 다시 바꾸지 않고 처음 응답을 돌려줍니다.
      * @return 변경된 예약 정보
      */
     @Operation(summary = "예약 상태 변경/취소", description = "예약 상태를 변경합니다. 상태 값으로 CONFIRMED 또는 CANCELED를 사용할 수 있습니다.")
     @PostMapping("/status")
     public ResponseEntity<ReservationResponseDto> updateReservationStatus(
-            @Valid @RequestBody ReservationStatusRequestDto requestDto) {
-        ReservationResponseDto updatedReservation = reservationService.updateReservationStatus(
-                requestDto.getReservationId(), requestDto.getStatus());
+            @Valid @RequestBody ReservationStatusRequestDto requestDto,
+            @Parameter(name = ReservationIdempotency.HEADER, description = "중복 요청 방지 키", in = ParameterIn.HEADER)
+            @RequestHeader(value = ReservationIdempotency.HEADER, required = false) String idempotencyKey) {
+        String fingerprint = requestDto.getReservationId() + ":" + requestDto.getStatus();
+        ReservationResponseDto updatedReservation = reservationIdempotency.execute(idempotencyKey, "status",
+                fingerprint, () -> reservationService.updateReservationStatus(
+                        requestDto.getReservationId(), requestDto.getStatus()));
         return ResponseEntity.ok(updatedReservation);
     }
     
+    /**
+     * 여러 예약의 상태를 한 번에 변경합니다 (가게 소유자의 마감 시간 일괄 확정/취소).
+     * 하나라도 변경할 수 없는 예약이 있으면 전부 변경하지 않습니다.
+     * 
+     * @param requestDto 예약 ID 목록과 변경할 상태
+     * @return 변경된 예약 정보 목록
+     */
+    @Operation(summary = "예약 일괄 상태 변경/취소", description = "여러 예약의 상태를 한 번에 변경합니다. 상태 값으로 CONFIRMED 또는 CANCELED를 사용할 수 있습니다.")
+    @PostMapping("/status/bulk")
+    public ResponseEntity<List<ReservationResponseDto>> updateReservationStatuses(
+            @Valid @RequestBody ReservationBulkStatusRequestDto requestDto) {
+        List<ReservationResponseDto> updatedReservations = reservationService.updateReservationStatuses(
+                requestDto.getReservationIds(), requestDto.getStatus());
+        return ResponseEntity.ok(updatedReservations);
+    }
+    
     /**
      * 특정 가게의 모든 예약을 조회합니다 (가게 소유자용).
      * 
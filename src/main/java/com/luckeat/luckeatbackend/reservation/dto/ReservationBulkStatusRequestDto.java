@@ -0,0 +1,33 @@
+package com.luckeat.luckeatbackend.reservation.dto;
+
+import java.util.List;
+
+import com.luckeat.luckeatbackend.reservation.model.Reservation.ReservationStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "예약 일괄 상태 변경 요청 DTO")
+public class ReservationBulkStatusRequestDto {
+
+    @Schema(description = "예약 ID 목록", example = "[1, 2, 3]")
+    @NotEmpty(message = "예약 ID 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개까지 변경할 수 있습니다.")
+    private List<@NotNull Long> reservationIds;
+
+    @Schema(description = "변경할 상태 (CONFIRMED 또는 CANCELED)", example = "CONFIRMED")
+    @NotNull(message = "변경할 상태는 필수입니다.")
+    private ReservationStatus status;
+}
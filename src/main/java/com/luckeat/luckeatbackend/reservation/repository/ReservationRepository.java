@@ -1,5 +1,6 @@
 package com.luckeat.luckeatbackend.reservation.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +34,8 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     Optional<Reservation> findByIdAndDeletedAtIsNull(Long id);
     
     List<Reservation> findByDeletedAtIsNull();
+    
+    // 일괄 상태 변경용: 가게/예약자/상품을 한 번에 조회
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.store JOIN FETCH r.user JOIN FETCH r.product WHERE r.id IN :ids")
+    List<Reservation> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 메모리 재고 게이트 (reservation.stock-gate.store=LOCAL)
+ * Redis 없이 로컬 실행/테스트할 때 쓰는 대체 구현으로, 서버가 여러 대면 서버마다 미러가 따로 있어 사용하면 안 됩니다.
+ * 만료 시간이 없으므로 미러는 DB 거절(evict)이나 재고 수정 이벤트로만 갱신됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.stock-gate.store", havingValue = "LOCAL")
+public class InMemoryStockGate implements StockGate {
+
+    private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public Result tryAcquire(Long productId, int quantity) {
+        Result[] result = {Result.MISSING};
+        counts.computeIfPresent(productId, (id, count) -> {
+            if (count < quantity) {
+                result[0] = Result.REJECTED;
+                return count;
+            }
+            result[0] = Result.ACCEPTED;
+            return count - quantity;
+        });
+        return result[0];
+    }
+
+    @Override
+    public void seed(Long productId, long count) {
+        counts.putIfAbsent(productId, count);
+    }
+
+    @Override
+    public void release(Long productId, int quantity) {
+        counts.computeIfPresent(productId, (id, count) -> count + quantity);
+    }
+
+    @Override
+    public void evict(Long productId) {
+        counts.remove(productId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+/**
+ * 예약 수량만큼 재고가 없음
+ * 기존 응답(IllegalStateException 처리)을 그대로 쓰면서, 재고 게이트가 재고 부족과 다른 실패를 구분할 수 있게 합니다.
+ */
+class OutOfStockException extends IllegalStateException {
+
+    OutOfStockException() {
+        super("재고가 부족합니다.");
+    }
+}
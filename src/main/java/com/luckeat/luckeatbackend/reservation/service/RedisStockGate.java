@@ -0,0 +1,95 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 재고 게이트 (reservation.stock-gate.store=REDIS, 기본값)
+ * 확인과 차감을 Lua 스크립트 하나로 처리해 여러 서버가 같은 상품을 동시에 예약해도 미러 재고가 음수가 되지 않습니다.
+ * Redis를 사용할 수 없으면 MISSING으로 응답해 DB 경로로 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.stock-gate.store", havingValue = "REDIS", matchIfMissing = true)
+public class RedisStockGate implements StockGate {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisStockGate.class);
+    private static final String KEY_PREFIX = "stock:gate:product:";
+
+    // 1: 차감, 0: 재고 부족, -1: 미러 없음
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('GET', KEYS[1]) "
+            + "if not count then return -1 end "
+            + "if tonumber(count) < tonumber(ARGV[1]) then return 0 end "
+            + "redis.call('DECRBY', KEYS[1], ARGV[1]) "
+            + "return 1", Long.class);
+
+    // 미러가 있을 때만 더함 (없는 미러를 수량만으로 만들지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "return redis.call('INCRBY', KEYS[1], ARGV[1])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisStockGate(StringRedisTemplate redisTemplate,
+            @Value("${reservation.stock-gate.ttl-minutes:10}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    @Override
+    public Result tryAcquire(Long productId, int quantity) {
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key(productId)), String.valueOf(quantity));
+            if (result == null || result < 0) {
+                return Result.MISSING;
+            }
+            return result == 1 ? Result.ACCEPTED : Result.REJECTED;
+        } catch (DataAccessException e) {
+            logger.warn("재고 게이트 차감 실패, DB에서 판단: productId={}, error={}", productId, e.getMessage());
+            return Result.MISSING;
+        }
+    }
+
+    @Override
+    public void seed(Long productId, long count) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(productId), String.valueOf(count), ttl);
+        } catch (DataAccessException e) {
+            logger.warn("재고 게이트 적재 실패: productId={}, error={}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void release(Long productId, int quantity) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key(productId)), String.valueOf(quantity));
+        } catch (DataAccessException e) {
+            // 되돌리지 못한 수량은 미러 만료 후 DB 값으로 다시 채워짐
+            logger.warn("재고 게이트 복구 실패: productId={}, quantity={}, error={}", productId, quantity, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Long productId) {
+        try {
+            redisTemplate.delete(key(productId));
+        } catch (DataAccessException e) {
+            logger.warn("재고 게이트 삭제 실패: productId={}, error={}", productId, e.getMessage());
+        }
+    }
+
+    private static String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,122 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luckeat.luckeatbackend.common.exception.ErrorCode;
+import com.luckeat.luckeatbackend.common.exception.base.BadRequestException;
+import com.luckeat.luckeatbackend.common.exception.base.ConflictException;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationResponseDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 예약 생성/상태 변경 요청의 Idempotency-Key 처리
+ * 같은 사용자가 같은 키로 다시 보낸 요청은 DB를 거치지 않고 처음 응답을 그대로 돌려주고,
+ * 처음 요청이 아직 처리 중이면 그 결과를 기다립니다. (키는 사용자와 작업별로 구분)
+ * 실패한 요청의 키는 바로 지워 재시도가 다시 실행되게 하고, 성공한 응답만 TTL 동안 보관합니다.
+ * 같은 키에 다른 내용의 요청이 오면 409로 거절합니다.
+ * 서버 로컬(Caffeine)에 보관하므로, 재시도가 다른 서버로 가면 중복 실행을 막지 못합니다.
+ */
+@Component
+public class ReservationIdempotency {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final Cache<String, Execution> executions;
+    private final Duration waitTimeout;
+    private final Counter replays;
+
+    public ReservationIdempotency(MeterRegistry meterRegistry,
+            @Value("${reservation.idempotency.ttl-minutes:10}") long ttlMinutes,
+            @Value("${reservation.idempotency.maximum-size:100000}") long maximumSize,
+            @Value("${reservation.idempotency.wait-millis:10000}") long waitMillis) {
+        this.executions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.waitTimeout = Duration.ofMillis(waitMillis);
+        this.replays = Counter.builder("luckeat.reservation.idempotent.replays")
+                .description("Idempotency-Key로 처음 응답을 돌려준 요청 수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, executions, "reservationIdempotency");
+    }
+
+    /**
+     * 키가 없으면 그대로 실행하고, 있으면 같은 사용자/작업/키의 처음 실행 결과를 공유합니다.
+     *
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 null)
+     * @param operation 작업 이름 (create, status 등)
+     * @param fingerprint 요청 내용을 나타내는 문자열 (같은 키에 다른 요청이 오는지 확인)
+     */
+    public ReservationResponseDto execute(String idempotencyKey, String operation, String fingerprint,
+            Supplier<ReservationResponseDto> call) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return call.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(ErrorCode.BAD_REQUEST,
+                    "Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String cacheKey = SecurityContextHolder.getContext().getAuthentication().getName()
+                + ":" + operation + ":" + idempotencyKey;
+        Execution execution = new Execution(fingerprint, new CompletableFuture<>());
+        Execution existing = executions.asMap().putIfAbsent(cacheKey, execution);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                throw new ConflictException(ErrorCode.CONFLICT, "같은 Idempotency-Key로 다른 요청이 들어왔습니다.");
+            }
+            replays.increment();
+            return await(existing.result());
+        }
+
+        try {
+            ReservationResponseDto response = call.get();
+            execution.result().complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            executions.asMap().remove(cacheKey, execution);
+            execution.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ReservationResponseDto await(CompletableFuture<ReservationResponseDto> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 처음 요청이 끝나지 않았으므로 다시 실행하지 않고 재시도를 요청
+            throw new ConflictException(ErrorCode.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("같은 요청의 처리 결과를 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private record Execution(String fingerprint, CompletableFuture<ReservationResponseDto> result) {
+    }
+}
@@ -0,0 +1,317 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.luckeat.luckeatbackend.common.exception.product.ProductNotFoundException;
+import com.luckeat.luckeatbackend.product.model.Product;
+import com.luckeat.luckeatbackend.product.repository.ProductRepository;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationRequestDto;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationResponseDto;
+import com.luckeat.luckeatbackend.reservation.model.Reservation;
+import com.luckeat.luckeatbackend.reservation.repository.ReservationRepository;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.service.StoreService;
+import com.luckeat.luckeatbackend.users.model.User;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 상품별 단일 작성자 예약 레인 (reservation.stock.mode=BATCHED)
+ * 같은 상품의 예약은 상품 ID로 정해지는 하나의 레인에서만 처리되므로, 요청 스레드들이 상품 행 락을 차례로 기다리지 않습니다.
+ * 레인은 처리 중에 쌓인 요청을 최대 max-batch-size개까지 모아 상품별로 한 트랜잭션에서
+ * 행 락 한 번, 재고 UPDATE 한 번, 예약 일괄 저장으로 처리하고 커밋 후 각 요청의 결과를 돌려줍니다.
+ * 요청이 몰릴수록 한 번에 묶이는 수가 늘어나므로, 처리량이 락 전달 횟수가 아니라 묶음 크기에 비례합니다.
+ * 레인 스레드는 첫 요청이 들어올 때 만들어지므로 다른 모드에서는 스레드를 쓰지 않습니다.
+ * 대기 시간이 초과되면 레인이 아직 처리를 시작하지 않은 요청만 포기 표시해 건너뛰게 하고 실패로 응답합니다.
+ * 레인이 이미 처리를 시작한 요청은 커밋 여부가 정해질 때까지 결과를 기다리므로, 실패 응답 뒤에 예약이 저장되는 일이 없습니다.
+ */
+@Component
+public class ReservationLanes implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationLanes.class);
+
+    private final ProductRepository productRepository;
+    private final ReservationRepository reservationRepository;
+    private final StoreService storeService;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSizes;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+    private final Lane[] lanes;
+
+    public ReservationLanes(ProductRepository productRepository, ReservationRepository reservationRepository,
+            StoreService storeService, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+            @Value("${reservation.lanes.count:8}") int laneCount,
+            @Value("${reservation.lanes.max-batch-size:32}") int maxBatchSize,
+            @Value("${reservation.lanes.queue-capacity:1024}") int queueCapacity,
+            @Value("${reservation.lanes.timeout-millis:5000}") long timeoutMillis) {
+        this.productRepository = productRepository;
+        this.reservationRepository = reservationRepository;
+        this.storeService = storeService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSizes = DistributionSummary.builder("luckeat.reservation.lane.batch.size")
+                .description("예약 레인이 한 트랜잭션에서 처리한 요청 수")
+                .register(meterRegistry);
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, queueCapacity);
+        }
+    }
+
+    /**
+     * 상품의 레인에 예약을 넣고 처리 결과를 기다립니다.
+     * 사용자와 가게는 요청 스레드에서 조회해 넘기며(레인 스레드에는 인증 정보가 없음), 예약 저장 시 ID로만 참조됩니다.
+     */
+    public ReservationResponseDto reserve(User user, Store store, ReservationRequestDto requestDto) {
+        PendingReservation pending = new PendingReservation(user, store, requestDto);
+        laneOf(requestDto.getProductId()).submit(pending);
+        try {
+            return pending.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (TimeoutException e) {
+            if (pending.abandon()) {
+                throw new IllegalStateException("예약 요청이 많아 처리 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.abandon()) {
+                throw new IllegalStateException("예약 처리가 중단되었습니다.");
+            }
+        }
+        // 레인이 이미 처리를 시작했으므로 커밋/롤백 결과를 그대로 돌려줌
+        return awaitTaken(pending);
+    }
+
+    private static ReservationResponseDto awaitTaken(PendingReservation pending) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                try {
+                    return pending.result.get();
+                } catch (ExecutionException e) {
+                    throw unwrap(e);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException("예약 처리 중 오류가 발생했습니다.", e.getCause());
+    }
+
+    /**
+     * 꺼낸 요청들을 상품별로 나눠 상품마다 한 트랜잭션으로 처리합니다.
+     * 트랜잭션이 실패하면 그 상품의 요청은 모두 같은 예외로 실패합니다.
+     * 요청 스레드가 이미 포기한 요청은 건너뛰고, 나머지는 처리 시작으로 표시해 더 이상 포기할 수 없게 합니다.
+     */
+    void process(List<PendingReservation> batch) {
+        Map<Long, List<PendingReservation>> byProduct = new LinkedHashMap<>();
+        for (PendingReservation pending : batch) {
+            if (pending.take()) {
+                byProduct.computeIfAbsent(pending.request.getProductId(), id -> new ArrayList<>()).add(pending);
+            }
+        }
+        byProduct.forEach((productId, group) -> {
+            batchSizes.record(group.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(productId, group));
+            } catch (RuntimeException e) {
+                group.forEach(pending -> pending.result.completeExceptionally(e));
+                return;
+            }
+            group.forEach(PendingReservation::complete);
+        });
+    }
+
+    /**
+     * 상품 행을 한 번 잠그고, 들어온 순서대로 남은 재고 안에서 받을 수 있는 요청만 골라 한 번에 차감/저장합니다.
+     * 재고가 모자란 요청만 재고 부족으로 실패하고 나머지는 그대로 예약됩니다.
+     */
+    private void write(Long productId, List<PendingReservation> group) {
+        Product product = productRepository.findByIdWithPessimisticLock(productId).orElse(null);
+        if (product == null) {
+            group.forEach(pending -> pending.failure = new ProductNotFoundException("상품을 찾을 수 없습니다."));
+            return;
+        }
+
+        long remaining = product.getProductCount();
+        List<PendingReservation> accepted = new ArrayList<>();
+        for (PendingReservation pending : group) {
+            if (!product.getStore().getId().equals(pending.store.getId())) {
+                pending.failure = new ProductNotFoundException("해당 가게의 상품이 아닙니다.");
+            } else if (pending.request.getQuantity() > remaining) {
+                pending.failure = new OutOfStockException();
+            } else {
+                remaining -= pending.request.getQuantity();
+                accepted.add(pending);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        int total = (int) (product.getProductCount() - remaining);
+        boolean soldOut = remaining == 0;
+        int updatedRows = soldOut
+                ? productRepository.decreaseProductStockToSoldOut(productId, total)
+                : productRepository.decreaseProductStockKeepingOpen(productId, total);
+        if (updatedRows == 0) {
+            throw new OutOfStockException();
+        }
+
+        List<Reservation> reservations = accepted.stream()
+                .map(pending -> pending.request.toEntity(pending.user, pending.store, product))
+                .toList();
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).outcome = ReservationResponseDto.fromEntity(saved.get(i));
+        }
+
+        // 이번 묶음으로 재고가 소진되어 판매 종료된 경우에만 가게 마감할인 상태 재계산
+        if (soldOut) {
+            storeService.refreshOpenDealState(product.getStore().getId());
+        }
+    }
+
+    private Lane laneOf(Long productId) {
+        return lanes[Math.floorMod(productId.hashCode(), lanes.length)];
+    }
+
+    @Override
+    public void destroy() {
+        for (Lane lane : lanes) {
+            lane.worker.shutdown();
+        }
+    }
+
+    /**
+     * 레인에 들어간 예약 요청
+     * outcome/failure는 레인 스레드가 트랜잭션 안에서 채우고, 커밋된 뒤에만 결과로 전달됩니다.
+     * 상태는 대기(QUEUED)에서 레인의 처리 시작(TAKEN) 또는 요청 스레드의 포기(ABANDONED) 중 먼저 바꾼 쪽으로 한 번만 바뀝니다.
+     */
+    static final class PendingReservation {
+
+        private static final int QUEUED = 0;
+        private static final int TAKEN = 1;
+        private static final int ABANDONED = 2;
+
+        private final User user;
+        private final Store store;
+        private final ReservationRequestDto request;
+        private final CompletableFuture<ReservationResponseDto> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private ReservationResponseDto outcome;
+        private RuntimeException failure;
+
+        PendingReservation(User user, Store store, ReservationRequestDto request) {
+            this.user = user;
+            this.store = store;
+            this.request = request;
+        }
+
+        CompletableFuture<ReservationResponseDto> result() {
+            return result;
+        }
+
+        boolean take() {
+            return state.compareAndSet(QUEUED, TAKEN);
+        }
+
+        boolean abandon() {
+            return state.compareAndSet(QUEUED, ABANDONED);
+        }
+
+        private void complete() {
+            if (outcome != null) {
+                result.complete(outcome);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * 단일 스레드 레인
+     * 스레드가 쉬고 있을 때만 꺼내기 작업을 예약하고, 작업은 큐가 빌 때까지 최대 묶음 크기씩 꺼내 처리합니다.
+     */
+    private final class Lane {
+
+        private final BlockingQueue<PendingReservation> queue;
+        private final ExecutorService worker;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Lane(int index, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.worker = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "reservation-lane-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private void submit(PendingReservation pending) {
+            if (!queue.offer(pending)) {
+                throw new IllegalStateException("예약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                worker.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            List<PendingReservation> batch = new ArrayList<>(maxBatchSize);
+            try {
+                while (queue.drainTo(batch, maxBatchSize) > 0) {
+                    process(batch);
+                    batch.clear();
+                }
+            } catch (RuntimeException e) {
+                logger.error("예약 레인 처리 실패: lane={}, error={}", Thread.currentThread().getName(), e.getMessage());
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                draining.set(false);
+                // 꺼내기를 마친 직후 들어온 요청이 대기하지 않도록 다시 확인
+                if (!queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.luckeat.luckeatbackend.reservation.service;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.luckeat.luckeatbackend.common.exception.product.ProductNotFoundException;
 import com.luckeat.luckeatbackend.common.exception.reservation.ReservationNotFoundException;
 import com.luckeat.luckeatbackend.common.exception.store.StoreNotFoundException;
 import com.luckeat.luckeatbackend.common.exception.user.UserNotFoundException;
+import com.luckeat.luckeatbackend.product.event.ProductStockChangedEvent;
 import com.luckeat.luckeatbackend.product.model.Product;
 import com.luckeat.luckeatbackend.product.repository.ProductRepository;
 import com.luckeat.luckeatbackend.reservation.dto.ReservationRequestDto;
@@ -22,6 +31,7 @@ import com.luckeat.luckeatbackend.reservation.model.Reservation.ReservationStatu
 import com.luckeat.luckeatbackend.reservation.repository.ReservationRepository;
 import com.luckeat.luckeatbackend.store.model.Store;
 import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+import com.luckeat.luckeatbackend.store.service.StoreService;
 import com.luckeat.luckeatbackend.users.model.User;
 import com.luckeat.luckeatbackend.users.repository.UserRepository;
 
@@ -32,27 +42,113 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReservationService {
 
+    private static final int ATOMIC_STOCK_ATTEMPTS = 2;
+
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
     private final ProductRepository productRepository;
+    private final StoreService storeService;
     private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final StockGate stockGate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationLanes reservationLanes;
+
+    @Value("${reservation.stock.mode:ATOMIC}")
+    private StockReservationMode stockMode;
+
+    @Value("${reservation.stock-gate.enabled:false}")
+    private boolean stockGateEnabled;
     
     /**
      * 새로운 예약 생성
+     * 재고 게이트(reservation.stock-gate.enabled)를 켜면 트랜잭션을 열기 전에 게이트에서 재고를 먼저 차감하고,
+     * 게이트 재고가 부족한 요청은 DB를 거치지 않고 거절합니다.
+     * DB 예약이 실패하면 게이트 차감을 되돌리고, DB에서 재고 부족으로 실패하면 게이트 미러가 DB보다 많았던 것이므로 미러를 버립니다.
      */
-    @Transactional
     public ReservationResponseDto createReservation(Long storeId, ReservationRequestDto requestDto) {
+        if (!stockGateEnabled) {
+            return reserveInDatabase(storeId, requestDto);
+        }
+
+        Long productId = requestDto.getProductId();
+        int quantity = requestDto.getQuantity().intValue();
+        StockGate.Result gateResult = acquireFromGate(productId, quantity);
+        if (gateResult == StockGate.Result.REJECTED) {
+            throw new OutOfStockException();
+        }
+        try {
+            return reserveInDatabase(storeId, requestDto);
+        } catch (OutOfStockException e) {
+            stockGate.evict(productId);
+            throw e;
+        } catch (RuntimeException e) {
+            if (gateResult == StockGate.Result.ACCEPTED) {
+                stockGate.release(productId, quantity);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 게이트에서 재고를 차감합니다. 미러가 없으면 DB 재고로 채우고 한 번 더 시도합니다.
+     * 채우는 사이 다른 예약이 커밋되면 미러가 DB보다 많아질 수 있으나, 그 경우 DB에서 거절되어 미러를 다시 채웁니다.
+     */
+    private StockGate.Result acquireFromGate(Long productId, int quantity) {
+        StockGate.Result result = stockGate.tryAcquire(productId, quantity);
+        if (result != StockGate.Result.MISSING) {
+            return result;
+        }
+        productRepository.findById(productId).ifPresent(product -> stockGate.seed(productId,
+                Boolean.TRUE.equals(product.getIsOpen()) ? product.getProductCount() : 0L));
+        return stockGate.tryAcquire(productId, quantity);
+    }
+
+    /**
+     * BATCHED 모드는 사용자/가게를 요청 스레드에서 조회한 뒤 상품별 레인에 맡기고,
+     * 나머지 모드는 요청 스레드에서 바로 트랜잭션을 열어 예약합니다.
+     */
+    private ReservationResponseDto reserveInDatabase(Long storeId, ReservationRequestDto requestDto) {
+        if (stockMode == StockReservationMode.BATCHED) {
+            return reservationLanes.reserve(findCurrentUser(), findStore(storeId), requestDto);
+        }
+        return transactionTemplate.execute(status -> reserve(storeId, requestDto));
+    }
+
+    private ReservationResponseDto reserve(Long storeId, ReservationRequestDto requestDto) {
+        User user = findCurrentUser();
+        Store store = findStore(storeId);
+        
+        Product product = stockMode == StockReservationMode.PESSIMISTIC
+                ? reserveStockWithLock(storeId, requestDto)
+                : reserveStockAtomically(storeId, requestDto);
+        
+        Reservation reservation = requestDto.toEntity(user, store, product);
+        Reservation savedReservation = reservationRepository.save(reservation);
+        
+       
+        return ReservationResponseDto.fromEntity(savedReservation);
+    }
+    
+    private User findCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
 
-        User user = userRepository.findByEmail(userEmail)
+        return userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
-        
-        Store store = storeRepository.findById(storeId)
+    }
+
+    private Store findStore(Long storeId) {
+        return storeRepository.findById(storeId)
                 .orElseThrow(() -> new StoreNotFoundException("가게를 찾을 수 없습니다."));
-        
-         
+    }
+
+    /**
+     * 상품 행을 비관적 락으로 잠근 뒤 재고를 확인하고 차감합니다. (reservation.stock.mode=PESSIMISTIC)
+     * 같은 상품의 예약은 락이 풀릴 때까지 차례로 대기합니다.
+     */
+    private Product reserveStockWithLock(Long storeId, ReservationRequestDto requestDto) {
         Product product = productRepository.findByIdWithPessimisticLock(requestDto.getProductId())
                 .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
 
@@ -63,7 +159,7 @@ public class ReservationService {
         
         
         if (product.getProductCount() < requestDto.getQuantity()) {
-            throw new IllegalStateException("재고가 부족합니다.");
+            throw new OutOfStockException();
         }
 
         int updatedRows = productRepository.decreaseProductStock(
@@ -72,7 +168,7 @@ public class ReservationService {
         );
     
         if (updatedRows == 0) {
-            throw new IllegalStateException("재고가 부족합니다.");
+            throw new OutOfStockException();
         }
         
         // 영속성 컨텍스트를 완전히 초기화
@@ -82,12 +178,54 @@ public class ReservationService {
         // 영속성 컨텍스트를 무시하고 DB에서 직접 조회
         product = productRepository.findById(requestDto.getProductId())
             .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
-        
-        Reservation reservation = requestDto.toEntity(user, store, product);
-        Reservation savedReservation = reservationRepository.save(reservation);
-        
-       
-        return ReservationResponseDto.fromEntity(savedReservation);
+
+        // 이번 예약으로 재고가 소진되어 판매 종료된 경우에만 가게 마감할인 상태 재계산
+        if (!Boolean.TRUE.equals(product.getIsOpen())) {
+            storeService.refreshOpenDealState(storeId);
+        }
+        return product;
+    }
+
+    /**
+     * 잠금 없이 조건부 UPDATE만으로 재고를 확인하고 차감합니다. (reservation.stock.mode=ATOMIC)
+     * 상품은 잠금 없는 일반 조회로 가게 소속과 가격만 확인하고, 재고 판단은 UPDATE의 WHERE 조건에 맡깁니다.
+     * 재고를 모두 가져가는 예약만 판매 종료 문장으로 차감하므로, 다시 조회하지 않고도 판매 종료 여부를 알 수 있습니다.
+     * 조회한 상품 엔티티의 재고/판매 상태는 차감 전 값이며, 변경하지 않으므로 DB에 다시 쓰이지 않습니다.
+     */
+    private Product reserveStockAtomically(Long storeId, ReservationRequestDto requestDto) {
+        Product product = productRepository.findById(requestDto.getProductId())
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+
+        // 상품이 해당 가게의 것인지 확인
+        if (!product.getStore().getId().equals(storeId)) {
+            throw new ProductNotFoundException("해당 가게의 상품이 아닙니다.");
+        }
+
+        // 조회 시점에 이미 부족하면 UPDATE 없이 실패 (최종 판단은 UPDATE 조건)
+        if (product.getProductCount() < requestDto.getQuantity()) {
+            throw new OutOfStockException();
+        }
+
+        if (decreaseStock(product.getId(), requestDto.getQuantity().intValue())) {
+            storeService.refreshOpenDealState(storeId);
+        }
+        return product;
+    }
+
+    /**
+     * 재고를 차감하고, 이번 차감으로 판매 종료되었는지 반환합니다.
+     * 두 문장 사이에 취소로 재고가 늘어 둘 다 실패할 수 있어 한 번 더 시도합니다.
+     */
+    private boolean decreaseStock(Long productId, int quantity) {
+        for (int attempt = 0; attempt < ATOMIC_STOCK_ATTEMPTS; attempt++) {
+            if (productRepository.decreaseProductStockKeepingOpen(productId, quantity) > 0) {
+                return false;
+            }
+            if (productRepository.decreaseProductStockToSoldOut(productId, quantity) > 0) {
+                return true;
+            }
+        }
+        throw new OutOfStockException();
     }
     
     /**
@@ -218,6 +356,7 @@ public class ReservationService {
 
             // 재고 증가 처리
             int quantity = reservation.getQuantity().intValue();
+            boolean wasOpen = Boolean.TRUE.equals(product.getIsOpen());
             
             // 재고 증가 시도
             int updatedRows = productRepository.increaseProductStock(
@@ -228,7 +367,14 @@ public class ReservationService {
             if (updatedRows == 0) {
                 throw new IllegalStateException("재고 증가 처리 중 오류가 발생했습니다.");
             }
+
+            // 품절로 판매 종료됐던 상품이 다시 열린 경우 가게 마감할인 상태 재계산
+            if (!wasOpen) {
+                storeService.refreshOpenDealState(product.getStore().getId());
+            }
             
+            eventPublisher.publishEvent(ProductStockChangedEvent.restored(product.getId(), quantity));
+
             // 예약 취소 처리
             reservation.setStatus(status);
             reservation.setDeletedAt(LocalDateTime.now());  // 취소 시간 설정
@@ -240,6 +386,94 @@ public class ReservationService {
         return ReservationResponseDto.fromEntity(updatedReservation);
     }
     
+    /**
+     * 예약 일괄 상태 변경 (가게 소유자의 마감 시간 일괄 확정/취소)
+     * 예약을 가게/예약자/상품과 함께 한 번에 조회해 권한을 메모리에서 확인하고, 모두 한 트랜잭션에서 처리합니다.
+     * - CONFIRMED: 예약자별로 수량과 절약 금액을 합쳐 한 번씩 누적 UPDATE
+     * - CANCELED: 상품별로 수량을 합쳐 재고를 한 번씩 되돌림
+     * 하나라도 없거나 권한이 없거나 이미 처리된 예약이면 전부 변경하지 않습니다.
+     */
+    @Transactional
+    public List<ReservationResponseDto> updateReservationStatuses(List<Long> reservationIds, ReservationStatus status) {
+        if (status != ReservationStatus.CONFIRMED && status != ReservationStatus.CANCELED) {
+            throw new IllegalArgumentException("유효하지 않은 예약 상태입니다.");
+        }
+        User user = findCurrentUser();
+        Set<Long> ids = new LinkedHashSet<>(reservationIds);
+        List<Reservation> reservations = reservationRepository.findAllWithDetailsByIdIn(ids);
+        if (reservations.size() != ids.size()) {
+            throw new ReservationNotFoundException("예약을 찾을 수 없습니다.");
+        }
+
+        for (Reservation reservation : reservations) {
+            if (reservation.getDeletedAt() != null) {
+                throw new IllegalStateException("이미 취소된 예약입니다.");
+            }
+            boolean isStoreOwner = reservation.getStore().getUserId().equals(user.getId());
+            boolean isReservationUser = reservation.getUser().getId().equals(user.getId());
+            if (status == ReservationStatus.CONFIRMED && !isStoreOwner) {
+                throw new SecurityException("예약 상태를 변경할 권한이 없습니다.");
+            }
+            if (status == ReservationStatus.CANCELED && !isReservationUser && !isStoreOwner) {
+                throw new SecurityException("예약을 취소할 권한이 없습니다.");
+            }
+        }
+
+        // 재고/누적값 UPDATE 전에 상태를 바꿔 두어, 그 전에 실행되는 flush에 예약 변경이 함께 반영되게 함
+        LocalDateTime now = LocalDateTime.now();
+        for (Reservation reservation : reservations) {
+            reservation.setStatus(status);
+            reservation.setDeletedAt(now);
+        }
+
+        if (status == ReservationStatus.CONFIRMED) {
+            increaseBuyerTotals(reservations);
+        } else {
+            restoreStock(reservations);
+        }
+        return reservations.stream()
+                .map(ReservationResponseDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 예약자별 수량/절약 금액 합계를 한 번씩 누적합니다.
+     */
+    private void increaseBuyerTotals(List<Reservation> reservations) {
+        Map<Long, int[]> totalsByUser = new HashMap<>();
+        for (Reservation reservation : reservations) {
+            Product product = reservation.getProduct();
+            int quantity = reservation.getQuantity().intValue();
+            long savedMoney = ((long) product.getOriginalPrice() - product.getDiscountedPrice()) * quantity;
+            int[] totals = totalsByUser.computeIfAbsent(reservation.getUser().getId(), id -> new int[2]);
+            totals[0] += quantity;
+            totals[1] += (int) savedMoney;
+        }
+        totalsByUser.forEach((userId, totals) -> userRepository.increaseTotals(userId, totals[0], totals[1]));
+    }
+
+    /**
+     * 상품별 취소 수량 합계만큼 재고를 한 번씩 되돌리고, 품절로 닫혔던 상품이 있는 가게만 마감할인 상태를 재계산합니다.
+     */
+    private void restoreStock(List<Reservation> reservations) {
+        Map<Long, Integer> quantityByProduct = new HashMap<>();
+        Set<Long> reopenedStoreIds = new HashSet<>();
+        for (Reservation reservation : reservations) {
+            Product product = reservation.getProduct();
+            quantityByProduct.merge(product.getId(), reservation.getQuantity().intValue(), Integer::sum);
+            if (!Boolean.TRUE.equals(product.getIsOpen())) {
+                reopenedStoreIds.add(product.getStore().getId());
+            }
+        }
+        quantityByProduct.forEach((productId, quantity) -> {
+            if (productRepository.increaseProductStock(productId, quantity) == 0) {
+                throw new IllegalStateException("재고 증가 처리 중 오류가 발생했습니다.");
+            }
+            eventPublisher.publishEvent(ProductStockChangedEvent.restored(productId, quantity));
+        });
+        reopenedStoreIds.forEach(storeService::refreshOpenDealState);
+    }
+    
     /**
      * 예약 삭제 (소프트 딜리트)
      */
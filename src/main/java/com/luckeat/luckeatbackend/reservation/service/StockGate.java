@@ -0,0 +1,33 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+/**
+ * 예약 재고 게이트
+ * 상품별 남은 재고를 DB 밖에 미러링해 두고, 예약 트랜잭션을 열기 전에 원자적으로 차감하거나 거절합니다.
+ * 최종 재고 판단은 여전히 DB 조건부 UPDATE가 하며, 게이트는 품절 요청이 DB까지 오지 않게 거르는 역할만 합니다.
+ * 미러가 DB보다 많으면 DB에서 거절되어 미러를 버리고, 적으면 잘못 거절하므로 미러는 만료 시간(TTL) 안에서만 유지합니다.
+ */
+public interface StockGate {
+
+    enum Result {
+        // 미러에서 수량만큼 차감함
+        ACCEPTED,
+        // 미러 재고가 부족함 (DB를 조회하지 않고 거절)
+        REJECTED,
+        // 미러가 없거나 사용할 수 없음 (DB에서 판단)
+        MISSING
+    }
+
+    Result tryAcquire(Long productId, int quantity);
+
+    /**
+     * 미러가 없을 때만 재고를 채웁니다. (동시에 채우면 먼저 채운 값 유지)
+     */
+    void seed(Long productId, long count);
+
+    /**
+     * 차감한 수량을 되돌립니다. 미러가 없으면 아무것도 하지 않습니다.
+     */
+    void release(Long productId, int quantity);
+
+    void evict(Long productId);
+}
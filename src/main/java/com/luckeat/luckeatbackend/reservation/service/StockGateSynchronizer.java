@@ -0,0 +1,34 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.luckeat.luckeatbackend.product.event.ProductStockChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 외 경로의 재고 변경(가게 주인 수정, 예약 취소)을 커밋 후 재고 게이트 미러에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockGateSynchronizer {
+
+    private final StockGate stockGate;
+
+    @Value("${reservation.stock-gate.enabled:false}")
+    private boolean enabled;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.getRestoredQuantity() != null) {
+            stockGate.release(event.getProductId(), event.getRestoredQuantity());
+        } else {
+            stockGate.evict(event.getProductId());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+/**
+ * 예약 시 재고 차감 방식 (reservation.stock.mode)
+ */
+public enum StockReservationMode {
+    // 상품 행을 SELECT ... FOR UPDATE로 잠근 뒤 재고 확인/차감, flush/clear 후 다시 조회
+    PESSIMISTIC,
+    // 잠금 없이 조건부 UPDATE(product_count >= 수량) 한 문장으로 확인과 차감을 함께 처리
+    ATOMIC,
+    // 요청 스레드는 상품별 단일 작성자 레인에 넣고 기다리며, 레인이 쌓인 요청을 한 트랜잭션으로 묶어 차감/저장 (ReservationLanes)
+    BATCHED
+}
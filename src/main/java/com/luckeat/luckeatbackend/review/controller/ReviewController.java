@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.luckeat.luckeatbackend.common.exception.review.ReviewForbiddenException;
 import com.luckeat.luckeatbackend.common.exception.review.ReviewInvalidContentException;
@@ -20,6 +21,7 @@ import com.luckeat.luckeatbackend.common.exception.review.ReviewNotFoundExceptio
 import com.luckeat.luckeatbackend.review.dto.ReviewListResponseDto;
 import com.luckeat.luckeatbackend.review.dto.ReviewRequestDto;
 import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewSliceResponseDto;
 import com.luckeat.luckeatbackend.review.dto.ReviewUpdateDto;
 import com.luckeat.luckeatbackend.review.service.ReviewService;
 
@@ -80,26 +82,46 @@ public class ReviewController {
 		return ResponseEntity.ok(response);
 	}
 
-	@Operation(summary = "가게의 모든 리뷰 조회", description = "특정 가게의 모든 리뷰를 조회합니다.")
+	@Operation(summary = "가게의 리뷰 조회", description = "특정 가게의 리뷰를 최신순으로 조회합니다. 다음 페이지는 nextCursor로 조회합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "가게 리뷰 목록 조회 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기", content = @Content),
 		@ApiResponse(responseCode = "404", description = "가게에 리뷰가 없음", content = @Content)
 	})
 	@GetMapping("/store/{store_id}")
-	public ResponseEntity<ReviewListResponseDto> getReviewsByStore(@PathVariable("store_id") Long storeId) {
-		List<ReviewResponseDto> reviews = reviewService.getReviewsByStoreId(storeId);
+	public ResponseEntity<ReviewListResponseDto> getReviewsByStore(
+			@PathVariable("store_id") Long storeId,
+			@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+			@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+		ReviewSliceResponseDto slice = reviewService.getStoreReviewsByCursor(storeId, cursor, size);
 
-		if (reviews.isEmpty()) {
+		if (cursor == null && slice.getContent().isEmpty()) {
 			throw new ReviewNotFoundException("해당 가게의 리뷰가 없습니다");
 		}
 
-		// TODO: 페이지네이션 구현 시 가게별 리뷰 총 개수와 페이지 크기에 따라 totalPages 계산 필요
-		// int totalPages = (int) Math.ceil((double) totalReviewCount / pageSize);
-		ReviewListResponseDto response = ReviewListResponseDto.builder().reviews(reviews).totalPages(1).build();
+		ReviewListResponseDto response = ReviewListResponseDto.builder()
+				.reviews(slice.getContent())
+				.totalPages(reviewService.getStoreReviewTotalPages(storeId, size))
+				.hasNext(slice.isHasNext())
+				.nextCursor(slice.getNextCursor())
+				.build();
 
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "가게 리뷰 커서 조회", description = "특정 가게의 리뷰를 최신순 커서 기반으로 조회합니다 (가게 상세의 nextReviewCursor 이후 페이지, 로그인 불필요)")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "가게 리뷰 목록 조회 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기", content = @Content)
+	})
+	@GetMapping("/store/{store_id}/scroll")
+	public ResponseEntity<ReviewSliceResponseDto> getReviewsByStoreCursor(
+			@PathVariable("store_id") Long storeId,
+			@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+			@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+		return ResponseEntity.ok(reviewService.getStoreReviewsByCursor(storeId, cursor, size));
+	}
+
 	@Operation(summary = "내가 작성한 리뷰 조회", description = "현재 인증된 사용자가 작성한 모든 리뷰를 조회합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "내 리뷰 목록 조회 성공"),
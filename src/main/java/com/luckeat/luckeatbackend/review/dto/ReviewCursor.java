@@ -0,0 +1,56 @@
+package com.luckeat.luckeatbackend.review.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.luckeat.luckeatbackend.common.exception.review.ReviewInvalidCursorException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 리뷰 목록 커서 (마지막으로 반환한 리뷰의 작성 시각과 ID, 최신순 created_at DESC, id DESC)
+ * 클라이언트에는 Base64url로 인코딩된 불투명 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewCursor {
+
+	private static final String DELIMITER = "|";
+
+	private final LocalDateTime createdAt;
+	private final Long id;
+
+	public static ReviewCursor from(ReviewResponseDto review) {
+		return new ReviewCursor(review.getCreatedAt(), review.getReviewId());
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열을 해석합니다.
+	 *
+	 * @return cursor가 비어 있으면 null (첫 페이지)
+	 */
+	public static ReviewCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != 2) {
+				throw new ReviewInvalidCursorException();
+			}
+			return new ReviewCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			// Base64/숫자/날짜 파싱 실패 (NumberFormatException 포함)
+			throw new ReviewInvalidCursorException();
+		}
+	}
+}
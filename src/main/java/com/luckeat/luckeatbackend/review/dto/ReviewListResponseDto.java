@@ -19,4 +19,10 @@ public class ReviewListResponseDto {
 
 	@Schema(description = "총 페이지 수", example = "5")
 	private Integer totalPages;
+
+	@Schema(description = "다음 페이지 존재 여부 (가게 리뷰 조회)", example = "true")
+	private Boolean hasNext;
+
+	@Schema(description = "다음 페이지 조회용 커서 (가게 리뷰 조회, 마지막 페이지면 null)")
+	private String nextCursor;
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.luckeat.luckeatbackend.review.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.luckeat.luckeatbackend.review.model.Review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 가게 리뷰 목록 응답 DTO (전체 개수 없음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 리뷰 목록 응답 DTO")
+public class ReviewSliceResponseDto implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	@Schema(description = "리뷰 목록 (최신순)")
+	private List<ReviewResponseDto> content;
+
+	@Schema(description = "요청한 페이지 크기", example = "10")
+	private int size;
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	private boolean hasNext;
+
+	@Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MTIz")
+	private String nextCursor;
+
+	/**
+	 * size + 1건으로 조회한 리뷰 목록에서 한 페이지와 다음 커서를 만듭니다.
+	 */
+	public static ReviewSliceResponseDto of(List<ReviewResponseDto> rows, int size) {
+		boolean hasNext = rows.size() > size;
+		// 캐시 직렬화 시 타입 정보가 남으므로 불변 리스트(Stream.toList) 대신 ArrayList 사용
+		List<ReviewResponseDto> content = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+		String nextCursor = hasNext ? ReviewCursor.from(content.get(content.size() - 1)).encode() : null;
+
+		return ReviewSliceResponseDto.builder()
+				.content(content)
+				.size(size)
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.build();
+	}
+
+	public static ReviewSliceResponseDto fromEntities(List<Review> rows, int size) {
+		List<ReviewResponseDto> dtos = new ArrayList<>(rows.size());
+		rows.forEach(review -> dtos.add(ReviewResponseDto.fromEntity(review)));
+		return of(dtos, size);
+	}
+}
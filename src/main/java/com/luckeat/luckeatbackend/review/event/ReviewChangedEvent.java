@@ -0,0 +1,24 @@
+package com.luckeat.luckeatbackend.review.event;
+
+import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰가 작성/수정/삭제되었을 때 ReviewService가 발행하는 이벤트
+ * 트랜잭션 커밋 이후 가게별 최신 리뷰 캐시 갱신에 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewChangedEvent {
+
+	private final ChangeType type;
+	private final Long storeId;
+	// 작성(CREATED) 시 캐시에 추가할 리뷰, 그 외에는 null
+	private final ReviewResponseDto review;
+
+	public enum ChangeType {
+		CREATED, UPDATED, DELETED
+	}
+}
@@ -7,6 +7,7 @@ import com.luckeat.luckeatbackend.store.model.Store;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -15,7 +16,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+	@Index(name = "idx_review_store_created_id", columnList = "store_id, deleted_at, created_at, id")
+})
 @Data
 @NoArgsConstructor
 public class Review extends BaseEntity {
@@ -1,9 +1,10 @@
 package com.luckeat.luckeatbackend.review.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,16 +26,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 	// 특정 상점의 삭제되지 않은 리뷰 조회
 	List<Review> findByStoreIdAndDeletedAtIsNull(Long storeId);
 
+	// 특정 상점의 리뷰를 최신순(created_at DESC, id DESC)으로 커서 이후 pageable 크기만큼 조회
+	// idx_review_store_created_id 인덱스 순서 그대로 읽으므로 페이지 깊이와 관계없이 비용이 일정합니다.
+	// 응답 변환에 필요한 가게/예약/작성자/상품을 함께 가져와 리뷰별 지연 로딩 쿼리를 없앱니다.
+	@Query("SELECT r FROM Review r " +
+		   "JOIN FETCH r.store " +
+		   "JOIN FETCH r.reservation res JOIN FETCH res.user JOIN FETCH res.product " +
+		   "WHERE r.storeId = :storeId AND r.deletedAt IS NULL " +
+		   "AND (:lastId IS NULL OR r.createdAt < :lastCreatedAt " +
+		   "OR (r.createdAt = :lastCreatedAt AND r.id < :lastId)) " +
+		   "ORDER BY r.createdAt DESC, r.id DESC")
+	List<Review> findStoreReviewSlice(@Param("storeId") Long storeId,
+			@Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+			@Param("lastId") Long lastId,
+			Pageable pageable);
+
 	// 특정 예약의 리뷰 조회
 	Optional<Review> findByReservationId(Long reservationId);
 
-	// 여러 Store ID에 대한 리뷰 수를 조회하는 메서드 추가
-	@Query("SELECT r.store.id as storeId, COUNT(r.id) as reviewCount " +
-		   "FROM Review r " +
-		   "WHERE r.store.id IN :storeIds AND r.deletedAt IS NULL " +
-		   "GROUP BY r.store.id")
-	List<Map<String, Object>> findReviewCountsByStoreIds(@Param("storeIds") List<Long> storeIds);
-
 	// 특정 사용자의 리뷰 수를 계산하는 메서드 (필요 시 사용)
 	long countByUserIdAndDeletedAtIsNull(Long userId);
 
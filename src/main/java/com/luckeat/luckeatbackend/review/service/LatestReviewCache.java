@@ -0,0 +1,158 @@
+package com.luckeat.luckeatbackend.review.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewSliceResponseDto;
+import com.luckeat.luckeatbackend.review.event.ReviewChangedEvent;
+import com.luckeat.luckeatbackend.review.repository.ReviewRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게별 최신 리뷰 윈도우 (Redis LIST, 최신순)
+ * 가게의 최신 리뷰 windowSize + 1건을 JSON으로 보관해, 리뷰 첫 화면(가게 상세, 리뷰 목록 첫 페이지)은 MySQL 없이 응답합니다.
+ * - 리뷰 작성: 커밋 후 윈도우가 있으면 앞에 추가하고 windowSize + 1건으로 자름 (LPUSHX + LTRIM)
+ * - 리뷰 수정/삭제: 윈도우를 삭제하고 다음 조회 시 DB에서 다시 채움
+ * 가게의 전체 리뷰가 윈도우보다 적으면 끝 표시(END_MARKER)를 붙여 "다음 페이지 없음"과 "캐시 없음"을 구분합니다.
+ * 재적재와 동시에 작성된 리뷰는 누락될 수 있으나 TTL 안에 다시 채워집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LatestReviewCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(LatestReviewCache.class);
+	private static final String KEY_PREFIX = "reviews:latest:";
+	static final String END_MARKER = "$end";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ReviewRepository reviewRepository;
+	private final ObjectMapper objectMapper;
+
+	@Value("${review.latest-window.size:20}")
+	private int windowSize;
+
+	@Value("${review.latest-window.ttl-minutes:10}")
+	private long ttlMinutes;
+
+	/**
+	 * 가게의 최신 리뷰 첫 페이지를 조회합니다.
+	 * size가 윈도우보다 크거나 Redis를 사용할 수 없으면 DB에서 직접 조회합니다.
+	 */
+	public ReviewSliceResponseDto getFirstPage(Long storeId, int size) {
+		if (size > windowSize) {
+			return loadFromDatabase(storeId, size);
+		}
+		try {
+			List<String> cached = redisTemplate.opsForList().range(key(storeId), 0, size);
+			ReviewSliceResponseDto page = toPage(cached, size);
+			if (page != null) {
+				return page;
+			}
+			List<ReviewResponseDto> window = loadWindow(storeId);
+			return ReviewSliceResponseDto.of(window.subList(0, Math.min(window.size(), size + 1)), size);
+		} catch (DataAccessException | JsonProcessingException e) {
+			logger.warn("최신 리뷰 캐시 사용 실패, DB 조회로 대체: storeId={}, error={}", storeId, e.getMessage());
+			return loadFromDatabase(storeId, size);
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReviewChanged(ReviewChangedEvent event) {
+		String key = key(event.getStoreId());
+		try {
+			if (event.getType() == ReviewChangedEvent.ChangeType.CREATED && event.getReview() != null) {
+				// 윈도우가 없으면 추가하지 않음 (다음 조회 시 DB에서 새 리뷰까지 포함해 적재)
+				Long length = redisTemplate.opsForList().leftPushIfPresent(key,
+						objectMapper.writeValueAsString(event.getReview()));
+				if (length != null && length > windowSize + 1) {
+					redisTemplate.opsForList().trim(key, 0, windowSize);
+				}
+			} else {
+				redisTemplate.delete(key);
+			}
+		} catch (DataAccessException | JsonProcessingException e) {
+			logger.warn("최신 리뷰 캐시 갱신 실패: storeId={}, error={}", event.getStoreId(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 캐시된 윈도우 앞부분(최대 size + 1건)으로 페이지를 만듭니다.
+	 *
+	 * @return 윈도우가 없거나 요청 크기를 판단하기에 부족하면 null
+	 */
+	private ReviewSliceResponseDto toPage(List<String> cached, int size) throws JsonProcessingException {
+		if (cached == null || cached.isEmpty()) {
+			return null;
+		}
+		List<ReviewResponseDto> rows = new ArrayList<>(cached.size());
+		boolean reachedEnd = false;
+		for (String value : cached) {
+			if (END_MARKER.equals(value)) {
+				reachedEnd = true;
+				break;
+			}
+			rows.add(objectMapper.readValue(value, ReviewResponseDto.class));
+		}
+		if (!reachedEnd && rows.size() <= size) {
+			return null;
+		}
+		return ReviewSliceResponseDto.of(rows, size);
+	}
+
+	/**
+	 * DB에서 최신 windowSize + 1건을 읽어 윈도우를 통째로 교체합니다. (DEL + RPUSH + EXPIRE를 한 트랜잭션으로)
+	 */
+	private List<ReviewResponseDto> loadWindow(Long storeId) throws JsonProcessingException {
+		List<ReviewResponseDto> window = reviewRepository.findStoreReviewSlice(
+				storeId, null, null, PageRequest.of(0, windowSize + 1)).stream()
+				.map(ReviewResponseDto::fromEntity)
+				.toList();
+
+		List<String> values = new ArrayList<>(window.size() + 1);
+		for (ReviewResponseDto review : window) {
+			values.add(objectMapper.writeValueAsString(review));
+		}
+		if (window.size() <= windowSize) {
+			values.add(END_MARKER);
+		}
+
+		String key = key(storeId);
+		redisTemplate.execute(new SessionCallback<List<Object>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public List<Object> execute(RedisOperations operations) {
+				operations.multi();
+				operations.delete(key);
+				operations.opsForList().rightPushAll(key, values);
+				operations.expire(key, Duration.ofMinutes(ttlMinutes));
+				return operations.exec();
+			}
+		});
+		return window;
+	}
+
+	private ReviewSliceResponseDto loadFromDatabase(Long storeId, int size) {
+		return ReviewSliceResponseDto.fromEntities(
+				reviewRepository.findStoreReviewSlice(storeId, null, null, PageRequest.of(0, size + 1)), size);
+	}
+
+	private static String key(Long storeId) {
+		return KEY_PREFIX + storeId;
+	}
+}
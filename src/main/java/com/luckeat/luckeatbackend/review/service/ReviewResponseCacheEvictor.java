@@ -0,0 +1,40 @@
+package com.luckeat.luckeatbackend.review.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.luckeat.luckeatbackend.common.filter.ResponseCacheFilter;
+import com.luckeat.luckeatbackend.review.event.ReviewChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 작성/수정/삭제 커밋 후 가게 리뷰 첫 페이지 응답 캐시(ResponseCacheFilter)를 삭제합니다.
+ * 응답 캐시는 가게 ID를 키로 기본 크기의 첫 페이지만 저장하므로 키 하나만 삭제하면 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewResponseCacheEvictor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReviewResponseCacheEvictor.class);
+
+	private final CacheManager cacheManager;
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReviewChanged(ReviewChangedEvent event) {
+		Cache responses = cacheManager.getCache(ResponseCacheFilter.STORE_REVIEWS_CACHE);
+		if (responses == null || event.getStoreId() == null) {
+			return;
+		}
+		try {
+			responses.evict(String.valueOf(event.getStoreId()));
+		} catch (DataAccessException e) {
+			logger.warn("가게 리뷰 응답 캐시 삭제 실패: storeId={}, error={}", event.getStoreId(), e.getMessage());
+		}
+	}
+}
@@ -1,24 +1,32 @@
 package com.luckeat.luckeatbackend.review.service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.luckeat.luckeatbackend.common.exception.ErrorCode;
+import com.luckeat.luckeatbackend.common.exception.base.BadRequestException;
 import com.luckeat.luckeatbackend.common.exception.review.ReviewForbiddenException;
 import com.luckeat.luckeatbackend.common.exception.review.ReviewNotFoundException;
 import com.luckeat.luckeatbackend.common.exception.user.UnauthenticatedException;
 import com.luckeat.luckeatbackend.common.exception.user.UserNotFoundException;
 import com.luckeat.luckeatbackend.product.model.Product;
 import com.luckeat.luckeatbackend.review.dto.ReviewRequestDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewCursor;
 import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewSliceResponseDto;
 import com.luckeat.luckeatbackend.review.dto.ReviewUpdateDto;
+import com.luckeat.luckeatbackend.review.event.ReviewChangedEvent;
 import com.luckeat.luckeatbackend.review.model.Review;
 import com.luckeat.luckeatbackend.review.repository.ReviewRepository;
 import com.luckeat.luckeatbackend.users.model.User;
@@ -41,6 +49,10 @@ public class ReviewService {
 	private final UserService userService;
 	private final StoreService storeService;
 	private final ReservationService reservationService;
+	private final LatestReviewCache latestReviewCache;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private static final int MAX_CURSOR_PAGE_SIZE = 50;
 
 	public List<ReviewResponseDto> getAllReviews() {
 		Long userId = getCurrentUserId();
@@ -73,9 +85,33 @@ public class ReviewService {
 				.map(ReviewResponseDto::fromEntity).collect(Collectors.toList());
 	}
 
-	public List<ReviewResponseDto> getReviewsByStoreId(Long storeId) {
-		return reviewRepository.findByStoreIdAndDeletedAtIsNull(storeId).stream().map(ReviewResponseDto::fromEntity)
-				.collect(Collectors.toList());
+	/**
+	 * 가게 리뷰 총 페이지 수 (store.review_count 기준, 가게 정보 캐시 사용)
+	 */
+	public int getStoreReviewTotalPages(Long storeId, int size) {
+		long reviewCount = storeService.getStoreById(storeId).getReviewCount();
+		return (int) Math.max(1, (reviewCount + size - 1) / size);
+	}
+
+	/**
+	 * 가게 리뷰를 최신순(작성 시각, ID) 커서 기반으로 조회합니다.
+	 *
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+	 */
+	public ReviewSliceResponseDto getStoreReviewsByCursor(Long storeId, String cursor, int size) {
+		if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+			throw new BadRequestException(ErrorCode.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+		}
+		ReviewCursor lastCursor = ReviewCursor.decode(cursor);
+		if (lastCursor == null) {
+			// 첫 페이지는 최신 리뷰 캐시에서 응답
+			return latestReviewCache.getFirstPage(storeId, size);
+		}
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		List<Review> rows = reviewRepository.findStoreReviewSlice(
+				storeId, lastCursor.getCreatedAt(), lastCursor.getId(), PageRequest.of(0, size + 1));
+		return ReviewSliceResponseDto.fromEntities(rows, size);
 	}
 
 	@Transactional
@@ -109,8 +145,13 @@ public class ReviewService {
 		review.setReviewContent(requestDto.getReviewContent());
 		review.setReviewImage(requestDto.getReviewImage());
 		
-		reviewRepository.save(review);
+		Review savedReview = reviewRepository.save(review);
+		// 가게 집계 UPDATE보다 먼저 예약의 연관 엔티티(예약자/가게/상품)를 읽어 응답 형태를 만들어 둠
+		ReviewResponseDto createdReview = toCreatedReviewDto(savedReview, reservation);
+		storeService.increaseReviewCount(requestDto.getStoreId());
 		updateStoreAverageRating(requestDto.getStoreId());
+		eventPublisher.publishEvent(new ReviewChangedEvent(ReviewChangedEvent.ChangeType.CREATED,
+				requestDto.getStoreId(), createdReview));
 		
 		// 예약의 isReviewed 필드를 true로 업데이트
 		reservation.setIsReviewed(true);
@@ -137,6 +178,8 @@ public class ReviewService {
 		reviewRepository.save(existingReview);
 
 		updateStoreAverageRating(existingReview.getStoreId());
+		eventPublisher.publishEvent(new ReviewChangedEvent(ReviewChangedEvent.ChangeType.UPDATED,
+				existingReview.getStoreId(), null));
 
 	}
 
@@ -160,7 +203,28 @@ public class ReviewService {
 
 		review.setDeletedAt(LocalDateTime.now());
 		reviewRepository.save(review);
+		storeService.decreaseReviewCount(review.getStoreId());
 		updateStoreAverageRating(review.getStoreId());
+		eventPublisher.publishEvent(new ReviewChangedEvent(ReviewChangedEvent.ChangeType.DELETED,
+				review.getStoreId(), null));
+	}
+
+	// 새 리뷰를 최신 리뷰 캐시에 넣을 응답 형태로 변환 (저장 직후라 연관 엔티티는 예약에서 가져옴)
+	private ReviewResponseDto toCreatedReviewDto(Review review, Reservation reservation) {
+		return ReviewResponseDto.builder()
+				.reviewId(review.getId())
+				.userId(review.getUserId())
+				.userNickname(reservation.getUser().getNickname())
+				.storeName(reservation.getStore().getStoreName())
+				.productName(reservation.getProduct().getProductName())
+				.totalPrice(reservation.getTotalPrice())
+				.quantity(reservation.getQuantity())
+				.rating(review.getRating())
+				.reviewContent(review.getReviewContent())
+				.reviewImage(review.getReviewImage())
+				// DB(DATETIME(6))에 저장된 값과 커서 비교가 일치하도록 마이크로초 단위로 맞춤
+				.createdAt(review.getCreatedAt() != null ? review.getCreatedAt().truncatedTo(ChronoUnit.MICROS) : null)
+				.build();
 	}
 
 	// 현재 인증된 사용자 ID 가져오기
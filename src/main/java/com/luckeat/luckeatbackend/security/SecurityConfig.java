@@ -59,6 +59,9 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.GET, "/api/v1/stores").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/stores/{store_id:[0-9]+}").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/v1/stores/test/performance-test").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/v1/stores/scroll").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/v1/stores/suggest").permitAll()
+				.requestMatchers(HttpMethod.GET, "/api/v1/reviews/store/{store_id:[0-9]+}/scroll").permitAll()
 				.requestMatchers("/s/**").permitAll()
 				.requestMatchers("/error").permitAll()
 				// 인증 필요 엔드포인트
@@ -28,6 +28,9 @@ import com.luckeat.luckeatbackend.store.dto.StoreDetailResponseDto;
 import com.luckeat.luckeatbackend.store.dto.StoreListDto;
 import com.luckeat.luckeatbackend.store.dto.StoreRequestDto;
 import com.luckeat.luckeatbackend.store.dto.StoreQueryResult;
+import com.luckeat.luckeatbackend.store.dto.StoreSliceResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreSuggestResponseDto;
+import com.luckeat.luckeatbackend.store.service.StoreQueryCoalescer;
 import com.luckeat.luckeatbackend.store.service.StoreService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,6 +59,7 @@ public class StoreController {
 
 	private static final Logger logger = LoggerFactory.getLogger(StoreController.class);
 	private final StoreService storeService;
+	private final StoreQueryCoalescer storeQueryCoalescer;
 
 	/**
 	 * 가게 목록을 조회합니다.
@@ -79,19 +83,66 @@ public class StoreController {
 			@Parameter(description = "현재 위치 위도") @RequestParam(required = false) Double lat, 
 			@Parameter(description = "현재 위치 경도") @RequestParam(required = false) Double lng,
 			@Parameter(description = "검색 반경 (km)") @RequestParam(required = false) Double radius, 
-			@Parameter(description = "정렬 기준 (distance, rating, share)") @RequestParam(required = false) String sort,
+			@Parameter(description = "정렬 기준 (distance, rating, share, review)") @RequestParam(required = false) String sort,
 			@Parameter(description = "가게 이름 검색어") @RequestParam(required = false) String storeName, 
 			@Parameter(description = "할인 중인 가게만 조회 여부") @RequestParam(required = false) Boolean isDiscountOpen,
 			@Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
 			@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
 			@Parameter(description = "카테고리") @RequestParam(defaultValue = "0") int categoryId) {
 
-		StoreQueryResult queryResult = storeService.getStores(lat, lng, radius, sort, storeName, isDiscountOpen, page, size, categoryId, false);
+		StoreQueryResult queryResult = storeQueryCoalescer.getStores(lat, lng, radius, sort, storeName, isDiscountOpen, page, size, categoryId, false);
 		Pageable pageable = PageRequest.of(page, size, parseSortParameter(sort));
 		Page<StoreListDto> pageResult = new PageImpl<>(queryResult.getContent(), pageable, queryResult.getTotalElements());
 		return ResponseEntity.ok(pageResult);
 	}
 
+	/**
+	 * 가게 목록을 커서 기반으로 조회합니다. (무한 스크롤용, 전체 개수 미제공)
+	 *
+	 * @param sort 정렬 기준 (distance, rating, share, review)
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size 페이지 크기
+	 * @return 가게 목록과 다음 페이지 커서
+	 */
+	@Operation(summary = "가게 목록 커서 조회", description = "커서 기반으로 가게 목록을 조회합니다 (무한 스크롤용, 전체 개수 미제공)")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "가게 목록 조회 성공"),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content)
+	})
+	@GetMapping("/scroll")
+	public ResponseEntity<StoreSliceResponseDto> getStoresByCursor(
+			@Parameter(description = "현재 위치 위도") @RequestParam(required = false) Double lat,
+			@Parameter(description = "현재 위치 경도") @RequestParam(required = false) Double lng,
+			@Parameter(description = "검색 반경 (km)") @RequestParam(required = false) Double radius,
+			@Parameter(description = "정렬 기준 (distance, rating, share, review)") @RequestParam(required = false) String sort,
+			@Parameter(description = "가게 이름 검색어") @RequestParam(required = false) String storeName,
+			@Parameter(description = "할인 중인 가게만 조회 여부") @RequestParam(required = false) Boolean isDiscountOpen,
+			@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+			@Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+			@Parameter(description = "카테고리") @RequestParam(defaultValue = "0") int categoryId) {
+
+		return ResponseEntity.ok(storeService.getStoresByCursor(
+				lat, lng, radius, sort, storeName, isDiscountOpen, cursor, size, categoryId));
+	}
+
+	/**
+	 * 가게 이름 자동완성 후보를 조회합니다.
+	 *
+	 * @param q 입력 중인 검색어 (완성형, 입력 중인 글자, 초성 모두 가능)
+	 * @param size 최대 후보 수 (최대 10)
+	 * @return 공유 수, 구글 별점 순 자동완성 후보
+	 */
+	@Operation(summary = "가게 이름 자동완성", description = "입력 중인 검색어로 시작하는 가게 이름을 공유 수, 별점 순으로 조회합니다 (초성 검색 지원)")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "자동완성 후보 조회 성공")
+	})
+	@GetMapping("/suggest")
+	public ResponseEntity<List<StoreSuggestResponseDto>> suggestStores(
+			@Parameter(description = "검색어") @RequestParam String q,
+			@Parameter(description = "최대 후보 수 (최대 10)") @RequestParam(defaultValue = "10") int size) {
+		return ResponseEntity.ok(storeService.suggestStores(q, size));
+	}
+
 	@Operation(summary = "가게 목록 조회 성능 테스트 (DB vs Cache)", description = "가게 목록 조회 API를 DB 직접 조회와 캐시 조회 각각 100번 호출하여 성능 지표(p99)를 측정합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "성능 테스트 결과 반환")
@@ -101,7 +152,7 @@ public class StoreController {
 			@Parameter(description = "현재 위치 위도") @RequestParam(required = false) Double lat,
 			@Parameter(description = "현재 위치 경도") @RequestParam(required = false) Double lng,
 			@Parameter(description = "검색 반경 (km)") @RequestParam(required = false) Double radius,
-			@Parameter(description = "정렬 기준 (distance, rating, share)") @RequestParam(required = false) String sort,
+			@Parameter(description = "정렬 기준 (distance, rating, share, review)") @RequestParam(required = false) String sort,
 			@Parameter(description = "가게 이름 검색어") @RequestParam(required = false) String storeName,
 			@Parameter(description = "할인 중인 가게만 조회 여부") @RequestParam(required = false) Boolean isDiscountOpen,
 			@Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
@@ -239,7 +290,7 @@ public class StoreController {
 	})
 	@GetMapping("/{store_id}")
 	public ResponseEntity<StoreDetailResponseDto> getStoreDetailById(@PathVariable("store_id") Long storeId) {
-		return ResponseEntity.ok(storeService.getStoreDetailById(storeId));
+		return ResponseEntity.ok(storeQueryCoalescer.getStoreDetailById(storeId));
 	}
 
 	private Sort parseSortParameter(String sortParam) {
@@ -258,6 +309,8 @@ public class StoreController {
 			property = "avgRatingGoogle";
 		} else if ("share".equals(property)) {
 			property = "shareCount";
+		} else if ("review".equals(property)) {
+			property = "reviewCount";
 		}
 		return Sort.by(direction, property);
 	}
@@ -0,0 +1,92 @@
+package com.luckeat.luckeatbackend.store.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.luckeat.luckeatbackend.common.exception.store.StoreInvalidCursorException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 목록 커서 (마지막으로 반환한 가게의 정렬 키와 ID)
+ * 클라이언트에는 Base64url로 인코딩된 불투명 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoreCursor {
+
+	private static final String DELIMITER = "|";
+
+	private final SortType sortType;
+	// 정렬 키 값 (평점이 없는 가게는 null)
+	private final Double key;
+	private final Long id;
+
+	/**
+	 * 커서 목록의 정렬 방식
+	 * 모든 정렬은 동일한 정렬 키 안에서 ID로 순서를 확정합니다.
+	 */
+	public enum SortType {
+		// share_count DESC, id DESC
+		SHARE,
+		// avg_rating_google DESC NULLS LAST, id DESC
+		RATING,
+		// review_count DESC, id DESC
+		REVIEW,
+		// distance ASC, id ASC
+		DISTANCE,
+		// id ASC
+		ID;
+
+		/**
+		 * sort 파라미터를 커서 정렬 방식으로 변환합니다.
+		 * 위치 정보가 있으면 기본 정렬은 거리순이고, 없으면 ID순입니다.
+		 */
+		public static SortType from(String sortParam, boolean hasLocation) {
+			String property = sortParam == null ? "" : sortParam.split(",")[0].trim().toLowerCase();
+			switch (property) {
+				case "share":
+					return SHARE;
+				case "rating":
+					return RATING;
+				case "review":
+					return REVIEW;
+				default:
+					return hasLocation ? DISTANCE : ID;
+			}
+		}
+	}
+
+	public String encode() {
+		String raw = sortType.name() + DELIMITER + (key != null ? key.toString() : "") + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열을 해석합니다. 요청 정렬 방식과 다른 커서는 거부합니다.
+	 *
+	 * @return cursor가 비어 있으면 null (첫 페이지)
+	 */
+	public static StoreCursor decode(String cursor, SortType expectedSortType) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != 3) {
+				throw new StoreInvalidCursorException();
+			}
+			SortType sortType = SortType.valueOf(parts[0]);
+			if (sortType != expectedSortType) {
+				throw new StoreInvalidCursorException("커서의 정렬 기준이 요청과 다릅니다.");
+			}
+			Double key = parts[1].isEmpty() ? null : Double.valueOf(parts[1]);
+			return new StoreCursor(sortType, key, Long.valueOf(parts[2]));
+		} catch (IllegalArgumentException e) {
+			// Base64/숫자/enum 파싱 실패 (NumberFormatException 포함)
+			throw new StoreInvalidCursorException();
+		}
+	}
+}
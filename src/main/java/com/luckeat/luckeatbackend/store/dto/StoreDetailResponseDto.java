@@ -1,10 +1,12 @@
 package com.luckeat.luckeatbackend.store.dto;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.luckeat.luckeatbackend.product.model.Product;
 import com.luckeat.luckeatbackend.product.dto.ProductResponseDto;
 import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewSliceResponseDto;
 import com.luckeat.luckeatbackend.store.model.Store;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -84,10 +86,19 @@ public class StoreDetailResponseDto {
 	@Schema(description = "가게에서 판매하는 상품 목록")
 	private List<ProductResponseDto> products;
 
-	@Schema(description = "가게에 대한 리뷰 목록")
+	@Schema(description = "가게 리뷰 수", example = "15")
+	private Long reviewCount;
+
+	@Schema(description = "가게에 대한 리뷰 목록 (최신순 첫 페이지)")
 	private List<ReviewResponseDto> reviews;
 
-	public static StoreDetailResponseDto fromEntity(Store store, List<Product> products, List<ReviewResponseDto> reviews) {
+	@Schema(description = "다음 리뷰 페이지 존재 여부", example = "true")
+	private boolean hasNextReviews;
+
+	@Schema(description = "다음 리뷰 페이지 조회용 커서 (GET /api/v1/reviews/store/{store_id}/scroll)", example = "MTIz")
+	private String nextReviewCursor;
+
+	public static StoreDetailResponseDto fromEntity(Store store, List<Product> products, ReviewSliceResponseDto reviewPage) {
 		return StoreDetailResponseDto.builder()
 				.id(store.getId())
 				.userId(store.getUserId())
@@ -108,8 +119,11 @@ public class StoreDetailResponseDto {
 				.businessNumber(store.getBusinessNumber())
 				.businessHours(store.getBusinessHours())
 				.pickupTime(store.getPickupTime())
-				.products(products.stream().map(ProductResponseDto::fromEntity).toList())
-				.reviews(reviews)
+				.products(products.stream().map(ProductResponseDto::fromEntity).collect(Collectors.toList()))
+				.reviewCount(store.getReviewCount() != null ? store.getReviewCount() : 0L)
+				.reviews(reviewPage.getContent())
+				.hasNextReviews(reviewPage.isHasNext())
+				.nextReviewCursor(reviewPage.getNextCursor())
 				.build();
 	}
 }
\ No newline at end of file
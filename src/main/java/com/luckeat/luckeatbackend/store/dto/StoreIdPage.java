@@ -0,0 +1,26 @@
+package com.luckeat.luckeatbackend.store.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 목록 페이지 캐시(storePages) 값
+ * 페이지의 가게 ID 순서와 전체 개수만 저장하고, 가게별 표시 값은 가게별 목록 항목 캐시에서 채웁니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreIdPage implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	// 캐시 직렬화 시 타입 정보가 남으므로 ArrayList 사용
+	private ArrayList<Long> ids;
+
+	private long totalElements;
+
+	private int totalPages;
+}
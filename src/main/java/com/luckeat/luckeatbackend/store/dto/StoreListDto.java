@@ -60,6 +60,7 @@ public class StoreListDto implements Serializable {
 				.shareCount(store.getShareCount())
 				.latitude(store.getLatitude())
 				.longitude(store.getLongitude())
+				.reviewCount(store.getReviewCount() != null ? store.getReviewCount() : 0L)
 				.build();
 	}
 } 
\ No newline at end of file
@@ -105,10 +105,7 @@ public class StoreResponseDto implements Serializable {
 				.businessNumber(store.getBusinessNumber())
 				.businessHours(store.getBusinessHours())
 				.pickupTime(store.getPickupTime())
-				.reviewCount(store.getReviews() != null ? 
-					store.getReviews().stream()
-						.filter(review -> review.getDeletedAt() == null)
-						.count() : 0L)
+				.reviewCount(store.getReviewCount() != null ? store.getReviewCount() : 0L)
 				.build();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.luckeat.luckeatbackend.store.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 가게 목록 응답 DTO (전체 개수 없음)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 가게 목록 응답 DTO")
+public class StoreSliceResponseDto implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	@Schema(description = "가게 목록")
+	private List<StoreListDto> content;
+
+	@Schema(description = "요청한 페이지 크기", example = "20")
+	private int size;
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	private boolean hasNext;
+
+	@Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "U0hBUkV8NDIuMHwxMjM")
+	private String nextCursor;
+}
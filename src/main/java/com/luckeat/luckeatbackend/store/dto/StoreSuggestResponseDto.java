@@ -0,0 +1,37 @@
+package com.luckeat.luckeatbackend.store.dto;
+
+import com.luckeat.luckeatbackend.store.index.StoreIndexEntry;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 이름 자동완성 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "가게 이름 자동완성 응답 DTO")
+public class StoreSuggestResponseDto {
+
+	@Schema(description = "가게 ID", example = "1")
+	private Long id;
+
+	@Schema(description = "가게 이름", example = "맛있는 빵집")
+	private String storeName;
+
+	@Schema(description = "가게 주소", example = "제주시 연동 123-45")
+	private String address;
+
+	public static StoreSuggestResponseDto fromEntry(StoreIndexEntry entry) {
+		return StoreSuggestResponseDto.builder()
+				.id(entry.getId())
+				.storeName(entry.getStoreName())
+				.address(entry.getAddress())
+				.build();
+	}
+}
@@ -0,0 +1,18 @@
+package com.luckeat.luckeatbackend.store.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 좌표를 포함하는 위치 검색 셀 캐시(storeCells) 항목을 삭제하도록 요청하는 이벤트
+ * 커밋 전에 삭제하면 다른 요청이 이전 데이터로 다시 채울 수 있으므로 커밋 이후에 처리합니다.
+ * openDealOnly가 true면 할인 여부로 필터링한 항목만 삭제합니다. (마감할인 상태 변경)
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoreCellCacheEvictEvent {
+
+	private final double latitude;
+	private final double longitude;
+	private final boolean openDealOnly;
+}
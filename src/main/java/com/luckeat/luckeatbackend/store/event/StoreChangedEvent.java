@@ -0,0 +1,26 @@
+package com.luckeat.luckeatbackend.store.event;
+
+import com.luckeat.luckeatbackend.store.model.Store;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 데이터가 변경되었을 때 StoreService가 발행하는 이벤트
+ * 트랜잭션 커밋 이후 인메모리 인덱스 등 파생 데이터 갱신에 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoreChangedEvent {
+
+	private final ChangeType type;
+	private final Store store;
+
+	public Long getStoreId() {
+		return store.getId();
+	}
+
+	public enum ChangeType {
+		CREATED, UPDATED, DELETED
+	}
+}
@@ -0,0 +1,27 @@
+package com.luckeat.luckeatbackend.store.event;
+
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * 가게 목록 캐시에서 태그에 연결된 페이지(storePages)와 가게별 목록 항목을 삭제하도록 요청하는 이벤트
+ * 커밋 전에 삭제하면 다른 요청이 이전 데이터로 다시 채울 수 있으므로 커밋 이후에 처리합니다.
+ */
+@Getter
+public class StoreListCacheEvictEvent {
+
+	private final Set<String> tags;
+
+	// 목록 표시 값이 바뀐 가게 (가게별 목록 항목 삭제)
+	private final Set<Long> storeIds;
+
+	public StoreListCacheEvictEvent(Set<String> tags) {
+		this(tags, Set.of());
+	}
+
+	public StoreListCacheEvictEvent(Set<String> tags, Set<Long> storeIds) {
+		this.tags = tags;
+		this.storeIds = storeIds;
+	}
+}
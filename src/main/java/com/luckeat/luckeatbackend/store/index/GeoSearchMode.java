@@ -0,0 +1,13 @@
+package com.luckeat.luckeatbackend.store.index;
+
+/**
+ * 위치 기반 가게 검색 방식 (store.geo.mode)
+ */
+public enum GeoSearchMode {
+	// 기존 네이티브 쿼리 (전체 행에 거리 계산)
+	QUERY,
+	// 인메모리 StoreGeoIndex로 후보/거리 정렬 후 해당 페이지 ID만 DB 조회
+	INDEX,
+	// store.location SPATIAL 인덱스로 MBRContains 사각 영역 선필터 후 정확한 거리 계산
+	SPATIAL
+}
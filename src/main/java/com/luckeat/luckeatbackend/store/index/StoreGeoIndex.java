@@ -0,0 +1,170 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.luckeat.luckeatbackend.common.util.GeoUtil;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 위치 인메모리 격자 인덱스
+ * 위경도를 고정 크기 격자 셀로 나누어 보관하고, 반경 검색 시 영역에 걸친 셀만 확인합니다.
+ * 반경 필터와 거리순 정렬은 메모리에서 처리하고, 호출자는 페이지에 해당하는 ID만 DB에서 조회합니다.
+ */
+@Component
+public class StoreGeoIndex implements StoreIndex {
+
+	// 셀 한 변의 크기 (위도 기준 약 5.5km)
+	private static final double CELL_SIZE_DEGREES = 0.05;
+
+	private static final Comparator<Hit> DISTANCE_ORDER = Comparator
+			.comparingDouble(Hit::getDistanceKm)
+			.thenComparing(hit -> hit.getEntry().getId());
+
+	private volatile Map<Long, StoreIndexEntry> entries = new ConcurrentHashMap<>();
+	private volatile Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+	private volatile boolean ready = false;
+
+	@Override
+	public synchronized void rebuild(Collection<StoreIndexEntry> newEntries) {
+		Map<Long, StoreIndexEntry> rebuiltEntries = new ConcurrentHashMap<>();
+		Map<Long, Set<Long>> rebuiltCells = new ConcurrentHashMap<>();
+		for (StoreIndexEntry entry : newEntries) {
+			rebuiltEntries.put(entry.getId(), entry);
+			rebuiltCells.computeIfAbsent(cellOf(entry.getLatitude(), entry.getLongitude()),
+					key -> ConcurrentHashMap.newKeySet()).add(entry.getId());
+		}
+		this.entries = rebuiltEntries;
+		this.cells = rebuiltCells;
+		this.ready = true;
+	}
+
+	@Override
+	public synchronized void upsert(StoreIndexEntry entry) {
+		removeFromCell(entries.put(entry.getId(), entry));
+		cells.computeIfAbsent(cellOf(entry.getLatitude(), entry.getLongitude()),
+				key -> ConcurrentHashMap.newKeySet()).add(entry.getId());
+	}
+
+	@Override
+	public synchronized void remove(Long storeId) {
+		removeFromCell(entries.remove(storeId));
+	}
+
+	@Override
+	public boolean isReady() {
+		return ready;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 반경 내 가게를 거리순(동일 거리는 ID순)으로 반환합니다.
+	 *
+	 * @param radiusKm null이면 반경 제한 없이 전체 가게를 거리순으로 반환합니다.
+	 * @param filter 카테고리/이름 등 추가 조건
+	 */
+	public List<Hit> search(double lat, double lng, Double radiusKm, Predicate<StoreIndexEntry> filter) {
+		Map<Long, StoreIndexEntry> currentEntries = this.entries;
+		List<Hit> hits = new ArrayList<>();
+
+		if (radiusKm == null) {
+			for (StoreIndexEntry entry : currentEntries.values()) {
+				collect(hits, entry, lat, lng, null, filter);
+			}
+		} else {
+			GeoUtil.BoundingBox box = GeoUtil.boundingBox(lat, lng, radiusKm);
+			long minLatCell = cellIndex(box.getMinLat());
+			long maxLatCell = cellIndex(box.getMaxLat());
+			long minLngCell = cellIndex(box.getMinLng());
+			long maxLngCell = cellIndex(box.getMaxLng());
+			long cellCount = (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+			if (cellCount > currentEntries.size()) {
+				// 반경이 매우 넓으면 셀 순회보다 전체 순회가 더 저렴함
+				for (StoreIndexEntry entry : currentEntries.values()) {
+					collect(hits, entry, lat, lng, radiusKm, filter);
+				}
+			} else {
+				Map<Long, Set<Long>> currentCells = this.cells;
+				for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+					for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+						Set<Long> storeIds = currentCells.get(cellKey(latCell, lngCell));
+						if (storeIds == null) {
+							continue;
+						}
+						for (Long storeId : storeIds) {
+							StoreIndexEntry entry = currentEntries.get(storeId);
+							if (entry != null) {
+								collect(hits, entry, lat, lng, radiusKm, filter);
+							}
+						}
+					}
+				}
+			}
+		}
+
+		hits.sort(DISTANCE_ORDER);
+		return hits;
+	}
+
+	private void collect(List<Hit> hits, StoreIndexEntry entry, double lat, double lng, Double radiusKm,
+			Predicate<StoreIndexEntry> filter) {
+		double distanceKm = GeoUtil.distanceKm(lat, lng, entry.getLatitude(), entry.getLongitude());
+		if (radiusKm != null && distanceKm > radiusKm) {
+			return;
+		}
+		if (filter != null && !filter.test(entry)) {
+			return;
+		}
+		hits.add(new Hit(entry, distanceKm));
+	}
+
+	private void removeFromCell(StoreIndexEntry previous) {
+		if (previous == null) {
+			return;
+		}
+		long key = cellOf(previous.getLatitude(), previous.getLongitude());
+		Set<Long> storeIds = cells.get(key);
+		if (storeIds != null) {
+			storeIds.remove(previous.getId());
+			if (storeIds.isEmpty()) {
+				cells.remove(key, storeIds);
+			}
+		}
+	}
+
+	private static long cellOf(double lat, double lng) {
+		return cellKey(cellIndex(lat), cellIndex(lng));
+	}
+
+	private static long cellIndex(double degrees) {
+		return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+	}
+
+	private static long cellKey(long latCell, long lngCell) {
+		return (latCell << 32) | (lngCell & 0xffffffffL);
+	}
+
+	/**
+	 * 검색 결과 (가게 + 거리)
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class Hit {
+		private final StoreIndexEntry entry;
+		private final double distanceKm;
+	}
+}
@@ -0,0 +1,29 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.util.Collection;
+
+/**
+ * StoreIndexSynchronizer가 관리하는 인메모리 가게 인덱스
+ */
+public interface StoreIndex {
+
+	/**
+	 * 전체 가게 목록으로 인덱스를 다시 만듭니다.
+	 */
+	void rebuild(Collection<StoreIndexEntry> entries);
+
+	/**
+	 * 가게 하나를 추가하거나 갱신합니다.
+	 */
+	void upsert(StoreIndexEntry entry);
+
+	/**
+	 * 가게 하나를 인덱스에서 제거합니다.
+	 */
+	void remove(Long storeId);
+
+	/**
+	 * 최초 적재가 끝나 조회에 사용할 수 있는지 여부
+	 */
+	boolean isReady();
+}
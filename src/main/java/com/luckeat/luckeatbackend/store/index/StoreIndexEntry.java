@@ -0,0 +1,42 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import com.luckeat.luckeatbackend.store.model.Store;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인메모리 가게 인덱스에 보관하는 가게 정보 스냅샷
+ * 목록 필터링/정렬에 필요한 값만 담고, 응답 데이터는 DB에서 다시 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreIndexEntry {
+
+	private final Long id;
+	private final String storeName;
+	private final String address;
+	private final String description;
+	private final Long categoryId;
+	private final double latitude;
+	private final double longitude;
+	private final long shareCount;
+	private final Float avgRatingGoogle;
+	private final long reviewCount;
+	private final boolean hasOpenDeal;
+
+	public static StoreIndexEntry from(Store store) {
+		return new StoreIndexEntry(
+				store.getId(),
+				store.getStoreName(),
+				store.getAddress(),
+				store.getDescription(),
+				store.getCategoryId(),
+				store.getLatitude(),
+				store.getLongitude(),
+				store.getShareCount() != null ? store.getShareCount() : 0L,
+				store.getAvgRatingGoogle(),
+				store.getReviewCount() != null ? store.getReviewCount() : 0L,
+				Boolean.TRUE.equals(store.getHasOpenDeal()));
+	}
+}
@@ -0,0 +1,97 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.luckeat.luckeatbackend.store.event.StoreChangedEvent;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인메모리 가게 인덱스 동기화
+ * - 애플리케이션 시작 시 전체 적재
+ * - 같은 인스턴스의 변경은 커밋 직후 이벤트로 반영
+ * - 다른 인스턴스의 변경은 updated_at 기준 주기적 증분 동기화로 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreIndexSynchronizer {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoreIndexSynchronizer.class);
+
+	// 증분 동기화 시 커밋 지연을 고려해 이전 동기화 시점보다 조금 앞부터 다시 읽음
+	private static final long SYNC_OVERLAP_SECONDS = 5;
+
+	private final StoreRepository storeRepository;
+	private final List<StoreIndex> indexes;
+
+	private volatile LocalDateTime lastSyncedAt;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void loadAll() {
+		LocalDateTime syncStartedAt = LocalDateTime.now();
+		List<StoreIndexEntry> entries = storeRepository.findAllByDeletedAtIsNull().stream()
+				.filter(store -> store.getLatitude() != null && store.getLongitude() != null)
+				.map(StoreIndexEntry::from)
+				.toList();
+		for (StoreIndex index : indexes) {
+			index.rebuild(entries);
+		}
+		lastSyncedAt = syncStartedAt;
+		logger.info("가게 인덱스 초기 적재 완료: {}개 가게, {}개 인덱스", entries.size(), indexes.size());
+	}
+
+	@Scheduled(fixedDelayString = "${store.index.sync-interval-ms:30000}")
+	@Transactional(readOnly = true)
+	public void syncChanges() {
+		LocalDateTime since = lastSyncedAt;
+		if (since == null) {
+			return;
+		}
+		LocalDateTime syncStartedAt = LocalDateTime.now();
+		List<Store> changed = storeRepository.findAllByUpdatedAtAfter(since.minusSeconds(SYNC_OVERLAP_SECONDS));
+		changed.forEach(this::apply);
+		lastSyncedAt = syncStartedAt;
+		if (!changed.isEmpty()) {
+			logger.debug("가게 인덱스 증분 동기화: {}개 가게 반영", changed.size());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStoreChanged(StoreChangedEvent event) {
+		if (event.getType() == StoreChangedEvent.ChangeType.DELETED) {
+			remove(event.getStoreId());
+		} else {
+			apply(event.getStore());
+		}
+	}
+
+	private void apply(Store store) {
+		if (store.getDeletedAt() != null || store.getLatitude() == null || store.getLongitude() == null) {
+			remove(store.getId());
+			return;
+		}
+		StoreIndexEntry entry = StoreIndexEntry.from(store);
+		for (StoreIndex index : indexes) {
+			index.upsert(entry);
+		}
+	}
+
+	private void remove(Long storeId) {
+		for (StoreIndex index : indexes) {
+			index.remove(storeId);
+		}
+	}
+}
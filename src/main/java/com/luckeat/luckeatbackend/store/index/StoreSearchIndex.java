@@ -0,0 +1,212 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Component;
+
+import com.luckeat.luckeatbackend.common.util.GeoUtil;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 이름/주소/설명 인메모리 검색 인덱스 (2-gram 역색인)
+ * 공백을 제거하고 소문자로 정규화한 텍스트를 2글자 단위로 색인합니다.
+ * 검색어의 모든 2-gram을 포함하는 가게를 후보로 추린 뒤, 실제 부분 문자열 포함 여부로 다시 확인하므로
+ * 결과는 LIKE '%검색어%'와 같고 형태소 분석 없이도 한글 검색이 가능합니다.
+ */
+@Component
+public class StoreSearchIndex implements StoreIndex {
+
+	private static final int GRAM_SIZE = 2;
+
+	private volatile Map<Long, Document> documents = new ConcurrentHashMap<>();
+	private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+	private volatile boolean ready = false;
+
+	@Override
+	public synchronized void rebuild(Collection<StoreIndexEntry> entries) {
+		Map<Long, Document> rebuiltDocuments = new ConcurrentHashMap<>();
+		Map<String, Set<Long>> rebuiltPostings = new ConcurrentHashMap<>();
+		for (StoreIndexEntry entry : entries) {
+			Document document = new Document(entry);
+			rebuiltDocuments.put(entry.getId(), document);
+			addPostings(rebuiltPostings, document);
+		}
+		this.documents = rebuiltDocuments;
+		this.postings = rebuiltPostings;
+		this.ready = true;
+	}
+
+	@Override
+	public synchronized void upsert(StoreIndexEntry entry) {
+		Document document = new Document(entry);
+		removePostings(documents.put(entry.getId(), document));
+		addPostings(postings, document);
+	}
+
+	@Override
+	public synchronized void remove(Long storeId) {
+		removePostings(documents.remove(storeId));
+	}
+
+	@Override
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 검색어를 이름/주소/설명 중 하나라도 포함하는 가게를 찾습니다.
+	 * 위치가 주어지면 거리를 계산하고 반경 밖의 가게는 제외합니다.
+	 *
+	 * @param lat 현재 위치 위도 (없으면 거리 계산 안 함)
+	 * @param radiusKm 검색 반경 (위치가 있을 때만 적용)
+	 * @param filter 카테고리/할인 여부 등 추가 조건
+	 * @return 정렬되지 않은 검색 결과
+	 */
+	public List<Hit> search(String query, Double lat, Double lng, Double radiusKm, Predicate<StoreIndexEntry> filter) {
+		String keyword = normalize(query);
+		Map<Long, Document> currentDocuments = this.documents;
+		List<Hit> hits = new ArrayList<>();
+		if (keyword.isEmpty()) {
+			return hits;
+		}
+
+		Collection<Long> candidates = keyword.length() < GRAM_SIZE
+				? currentDocuments.keySet()
+				: findCandidates(keyword);
+		boolean hasLocation = lat != null && lng != null;
+
+		for (Long storeId : candidates) {
+			Document document = currentDocuments.get(storeId);
+			if (document == null) {
+				continue;
+			}
+			boolean nameMatch = document.name.contains(keyword);
+			if (!nameMatch && !document.address.contains(keyword) && !document.description.contains(keyword)) {
+				continue;
+			}
+			StoreIndexEntry entry = document.entry;
+			double distanceKm = Double.NaN;
+			if (hasLocation) {
+				distanceKm = GeoUtil.distanceKm(lat, lng, entry.getLatitude(), entry.getLongitude());
+				if (radiusKm != null && distanceKm > radiusKm) {
+					continue;
+				}
+			}
+			if (filter != null && !filter.test(entry)) {
+				continue;
+			}
+			hits.add(new Hit(entry, distanceKm, nameMatch));
+		}
+		return hits;
+	}
+
+	/**
+	 * 검색어의 모든 2-gram 게시 목록의 교집합 (가장 작은 목록부터 교집합)
+	 */
+	private Collection<Long> findCandidates(String keyword) {
+		Map<String, Set<Long>> currentPostings = this.postings;
+		List<Set<Long>> lists = new ArrayList<>();
+		for (String gram : grams(keyword)) {
+			Set<Long> posting = currentPostings.get(gram);
+			if (posting == null) {
+				return List.of();
+			}
+			lists.add(posting);
+		}
+		lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+		Set<Long> result = new HashSet<>(lists.get(0));
+		for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+			result.retainAll(lists.get(i));
+		}
+		return result;
+	}
+
+	private static void addPostings(Map<String, Set<Long>> target, Document document) {
+		for (String gram : document.grams()) {
+			target.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.entry.getId());
+		}
+	}
+
+	private void removePostings(Document previous) {
+		if (previous == null) {
+			return;
+		}
+		Long storeId = previous.entry.getId();
+		for (String gram : previous.grams()) {
+			Set<Long> posting = postings.get(gram);
+			if (posting != null) {
+				posting.remove(storeId);
+				if (posting.isEmpty()) {
+					postings.remove(gram, posting);
+				}
+			}
+		}
+	}
+
+	private static Set<String> grams(String text) {
+		Set<String> grams = new HashSet<>();
+		for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+			grams.add(text.substring(i, i + GRAM_SIZE));
+		}
+		return grams;
+	}
+
+	/**
+	 * 소문자 변환 후 공백 제거 ("맛있는 빵집" -> "맛있는빵집")
+	 */
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		StringBuilder normalized = new StringBuilder(text.length());
+		text.toLowerCase(Locale.ROOT).codePoints()
+				.filter(codePoint -> !Character.isWhitespace(codePoint))
+				.forEach(normalized::appendCodePoint);
+		return normalized.toString();
+	}
+
+	private static final class Document {
+		private final StoreIndexEntry entry;
+		private final String name;
+		private final String address;
+		private final String description;
+
+		private Document(StoreIndexEntry entry) {
+			this.entry = entry;
+			this.name = normalize(entry.getStoreName());
+			this.address = normalize(entry.getAddress());
+			this.description = normalize(entry.getDescription());
+		}
+
+		private Set<String> grams() {
+			Set<String> grams = StoreSearchIndex.grams(name);
+			grams.addAll(StoreSearchIndex.grams(address));
+			grams.addAll(StoreSearchIndex.grams(description));
+			return grams;
+		}
+	}
+
+	/**
+	 * 검색 결과 (가게 + 거리 + 이름 일치 여부)
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class Hit {
+		private final StoreIndexEntry entry;
+		// 위치 정보 없이 검색한 경우 NaN
+		private final double distanceKm;
+		// 가게 이름에서 일치했는지 여부 (주소/설명에서만 일치한 결과보다 우선)
+		private final boolean nameMatch;
+	}
+}
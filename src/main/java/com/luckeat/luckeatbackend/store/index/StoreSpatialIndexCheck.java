@@ -0,0 +1,67 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SPATIAL 모드용 스키마 확인 (읽기 전용)
+ * store 테이블에 location(POINT SRID 4326) 생성 컬럼과 idx_store_location SPATIAL 인덱스가 있는지만 확인합니다.
+ * 스키마 변경은 운영 스크립트(db/store_spatial_index.sql)로 배포 전에 적용하며, 애플리케이션은 DDL을 실행하지 않습니다.
+ * 컬럼이나 인덱스가 없으면 SPATIAL 조회를 끄고 QUERY 방식(전체 행 거리 계산)으로 대체합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreSpatialIndexCheck implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoreSpatialIndexCheck.class);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${store.geo.mode:INDEX}")
+	private GeoSearchMode geoSearchMode;
+
+	private volatile boolean available = false;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (geoSearchMode != GeoSearchMode.SPATIAL) {
+			return;
+		}
+		try {
+			boolean hasColumn = exists("SELECT COUNT(*) FROM information_schema.COLUMNS "
+					+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'store' AND COLUMN_NAME = 'location'");
+			boolean hasIndex = hasColumn && exists("SELECT COUNT(*) FROM information_schema.STATISTICS "
+					+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'store' AND INDEX_NAME = 'idx_store_location'");
+			available = hasIndex;
+			if (available) {
+				logger.info("store.location SPATIAL 인덱스 확인 완료");
+			} else {
+				logger.warn("store.location 컬럼 또는 SPATIAL 인덱스가 없어 QUERY 방식으로 대체합니다. "
+						+ "db/store_spatial_index.sql 적용 필요 (column={}, index={})", hasColumn, hasIndex);
+			}
+		} catch (DataAccessException e) {
+			available = false;
+			logger.warn("SPATIAL 인덱스 확인 실패, QUERY 방식으로 대체합니다: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * SPATIAL 조회(MBRContains 사각 영역 선필터)를 사용할 수 있는지 여부
+	 */
+	public boolean isAvailable() {
+		return available;
+	}
+
+	private boolean exists(String countSql) {
+		Integer count = jdbcTemplate.queryForObject(countSql, Integer.class);
+		return count != null && count > 0;
+	}
+}
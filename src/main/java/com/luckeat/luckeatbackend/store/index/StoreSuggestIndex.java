@@ -0,0 +1,227 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.luckeat.luckeatbackend.common.util.HangulUtil;
+
+/**
+ * 가게 이름 자동완성용 인메모리 트라이
+ * 가게 이름의 각 단어 시작 위치부터의 접미사를 자모 분해한 키와 초성 키로 색인하고,
+ * 노드마다 상위 K개 가게 ID(공유 수, 구글 별점 순)를 미리 유지해 조회 시 접두사 노드까지만 내려갑니다.
+ * 예) "맛있는 빵집" -> "ㅁㅏㅅㅇㅣㅆㄴㅡㄴㅃㅏㅇㅈㅣㅂ", "ㅃㅏㅇㅈㅣㅂ", "ㅁㅇㄴㅃㅈ", "ㅃㅈ"
+ */
+@Component
+public class StoreSuggestIndex implements StoreIndex {
+
+	// 노드별로 유지하는 후보 수 (자동완성 최대 응답 개수)
+	public static final int MAX_SUGGESTIONS = 10;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private Node root = new Node();
+	private Map<Long, StoreIndexEntry> entries = new HashMap<>();
+	private Map<Long, Set<String>> keysByStore = new HashMap<>();
+	private volatile boolean ready = false;
+
+	// 공유 수 내림차순, 구글 별점 내림차순(없으면 뒤), ID 오름차순
+	private final Comparator<Long> rankOrder = Comparator
+			.comparingLong((Long id) -> entries.get(id).getShareCount()).reversed()
+			.thenComparing(id -> entries.get(id).getAvgRatingGoogle(), Comparator.nullsLast(Comparator.<Float>reverseOrder()))
+			.thenComparing(Comparator.naturalOrder());
+
+	@Override
+	public void rebuild(Collection<StoreIndexEntry> newEntries) {
+		lock.writeLock().lock();
+		try {
+			root = new Node();
+			entries = new HashMap<>();
+			keysByStore = new HashMap<>();
+			for (StoreIndexEntry entry : newEntries) {
+				insert(entry);
+			}
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void upsert(StoreIndexEntry entry) {
+		lock.writeLock().lock();
+		try {
+			delete(entry.getId());
+			insert(entry);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(Long storeId) {
+		lock.writeLock().lock();
+		try {
+			delete(storeId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 입력어로 시작하는 가게를 순위대로 최대 limit개 반환합니다.
+	 * 완성형("빵"), 입력 중인 글자("빠"), 초성("ㅃㅈ") 입력을 모두 처리합니다.
+	 */
+	public List<StoreIndexEntry> suggest(String query, int limit) {
+		String key = HangulUtil.decompose(normalize(query));
+		if (key.isEmpty()) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			Node node = root;
+			for (int i = 0; i < key.length() && node != null; i++) {
+				node = node.children.get(key.charAt(i));
+			}
+			if (node == null) {
+				return List.of();
+			}
+			List<StoreIndexEntry> result = new ArrayList<>(Math.min(limit, node.top.size()));
+			for (int i = 0; i < node.top.size() && i < limit; i++) {
+				result.add(entries.get(node.top.get(i)));
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void insert(StoreIndexEntry entry) {
+		Set<String> keys = keysOf(entry.getStoreName());
+		if (keys.isEmpty()) {
+			return;
+		}
+		entries.put(entry.getId(), entry);
+		keysByStore.put(entry.getId(), keys);
+		for (String key : keys) {
+			Node node = root;
+			addToTop(node, entry.getId());
+			for (int i = 0; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), ch -> new Node());
+				addToTop(node, entry.getId());
+			}
+			node.terminals.add(entry.getId());
+		}
+	}
+
+	private void delete(Long storeId) {
+		Set<String> keys = keysByStore.remove(storeId);
+		if (keys == null) {
+			return;
+		}
+		for (String key : keys) {
+			// 루트부터 키 끝까지의 경로
+			List<Node> path = new ArrayList<>(key.length() + 1);
+			Node node = root;
+			path.add(node);
+			for (int i = 0; i < key.length() && node != null; i++) {
+				node = node.children.get(key.charAt(i));
+				path.add(node);
+			}
+			if (node == null) {
+				continue;
+			}
+			node.terminals.remove(storeId);
+
+			// 아래에서 위로 상위 K개를 자식 노드 기준으로 다시 계산하고 빈 노드는 정리
+			for (int depth = path.size() - 1; depth >= 0; depth--) {
+				Node current = path.get(depth);
+				if (!current.top.contains(storeId)) {
+					break;
+				}
+				recomputeTop(current, storeId);
+				if (depth > 0 && current.top.isEmpty() && current.children.isEmpty()) {
+					path.get(depth - 1).children.remove(key.charAt(depth - 1));
+				}
+			}
+		}
+		entries.remove(storeId);
+	}
+
+	private void addToTop(Node node, Long storeId) {
+		if (node.top.contains(storeId)) {
+			return;
+		}
+		int position = 0;
+		while (position < node.top.size() && rankOrder.compare(node.top.get(position), storeId) < 0) {
+			position++;
+		}
+		if (position < MAX_SUGGESTIONS) {
+			node.top.add(position, storeId);
+			if (node.top.size() > MAX_SUGGESTIONS) {
+				node.top.remove(node.top.size() - 1);
+			}
+		}
+	}
+
+	/**
+	 * 노드의 상위 K개 = 이 노드에서 끝나는 가게 + 자식 노드 상위 K개의 병합 (제거 대상 제외)
+	 */
+	private void recomputeTop(Node node, Long removedId) {
+		Set<Long> candidates = new LinkedHashSet<>(node.terminals);
+		for (Node child : node.children.values()) {
+			candidates.addAll(child.top);
+		}
+		candidates.remove(removedId);
+		List<Long> sorted = new ArrayList<>(candidates);
+		sorted.sort(rankOrder);
+		node.top.clear();
+		node.top.addAll(sorted.subList(0, Math.min(MAX_SUGGESTIONS, sorted.size())));
+	}
+
+	/**
+	 * 단어 시작 위치마다의 접미사(자모 분해)와 그 초성 키
+	 */
+	private static Set<String> keysOf(String storeName) {
+		Set<String> keys = new LinkedHashSet<>();
+		if (storeName == null) {
+			return keys;
+		}
+		String[] words = storeName.toLowerCase(Locale.ROOT).trim().split("\\s+");
+		for (int start = 0; start < words.length; start++) {
+			String suffix = String.join("", Arrays.copyOfRange(words, start, words.length));
+			if (suffix.isEmpty()) {
+				continue;
+			}
+			keys.add(HangulUtil.decompose(suffix));
+			keys.add(HangulUtil.decompose(HangulUtil.choseong(suffix)));
+		}
+		return keys;
+	}
+
+	private static String normalize(String query) {
+		return query == null ? "" : query.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+	}
+
+	private static final class Node {
+		private final Map<Character, Node> children = new HashMap<>();
+		private final Set<Long> terminals = new LinkedHashSet<>();
+		private final List<Long> top = new ArrayList<>(2);
+	}
+}
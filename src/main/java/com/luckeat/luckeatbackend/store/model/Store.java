@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -21,7 +22,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "store")
+@Table(name = "store", indexes = {
+	@Index(name = "idx_store_share_count_id", columnList = "share_count, id"),
+	@Index(name = "idx_store_avg_rating_google_id", columnList = "avg_rating_google, id"),
+	@Index(name = "idx_store_review_count_id", columnList = "review_count, id"),
+	@Index(name = "idx_store_has_open_deal_category", columnList = "has_open_deal, category_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -92,6 +98,21 @@ public class Store extends BaseEntity implements Serializable {
 	@Column(name = "avg_rating_google")
 	private Float avgRatingGoogle;
 
+	@Schema(description = "리뷰 수 (리뷰 작성/삭제 시 원자적으로 증감)", example = "15")
+	@Column(name = "review_count", nullable = false, insertable = false, updatable = false,
+			columnDefinition = "BIGINT UNSIGNED NOT NULL DEFAULT 0")
+	private Long reviewCount;
+
+	@Schema(description = "판매 중인(마감할인) 상품 수 (상품 판매 상태 변경 시 재계산)", example = "1")
+	@Column(name = "open_deal_count", nullable = false, insertable = false, updatable = false,
+			columnDefinition = "INT UNSIGNED NOT NULL DEFAULT 0")
+	private Integer openDealCount;
+
+	@Schema(description = "마감할인 진행 여부 (open_deal_count > 0)", example = "true")
+	@Column(name = "has_open_deal", nullable = false, insertable = false, updatable = false,
+			columnDefinition = "BOOLEAN NOT NULL DEFAULT FALSE")
+	private Boolean hasOpenDeal;
+
 	@Schema(description = "구글 리뷰 요약", example = "친절하고 맛있는 음식점입니다.")
 	@Column(name = "review_summary", columnDefinition = "TEXT")
 	private String reviewSummary;
@@ -0,0 +1,171 @@
+package com.luckeat.luckeatbackend.store.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 목록 전용 JDBC 조회
+ * 목록 응답에 필요한 컬럼만 읽어 StoreListDto로 바로 매핑합니다.
+ * 엔티티 조회(SELECT *)와 달리 TEXT 컬럼과 영속성 컨텍스트(스냅샷, 지연 로딩 컬렉션)를 거치지 않습니다.
+ * 필터 조건은 StoreRepository의 네이티브 쿼리와 같습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreListJdbcRepository {
+
+	private static final String LIST_COLUMNS = "s.id, s.store_name, s.store_img, s.address, s.avg_rating_google, " +
+			"s.share_count, s.latitude, s.longitude, s.review_count";
+
+	// SortUtil이 만드는 정렬 컬럼만 허용 (ORDER BY 절에 직접 들어가므로)
+	private static final Set<String> SORTABLE_COLUMNS = Set.of("share_count", "avg_rating_google", "review_count");
+
+	private static final RowMapper<StoreListDto> ROW_MAPPER = (rs, rowNum) -> StoreListDto.builder()
+			.id(rs.getLong("id"))
+			.storeName(rs.getString("store_name"))
+			.storeImg(rs.getString("store_img"))
+			.address(rs.getString("address"))
+			.avgRatingGoogle(rs.getObject("avg_rating_google", Float.class))
+			.shareCount(rs.getObject("share_count", Long.class))
+			.latitude(rs.getObject("latitude", Float.class))
+			.longitude(rs.getObject("longitude", Float.class))
+			.reviewCount(rs.getLong("review_count"))
+			.build();
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 위치 기반 목록 조회 (거리순 정렬 후 Pageable 정렬 적용)
+	 *
+	 * @param radius null이면 반경 제한 없음
+	 * @param bbox   SPATIAL 모드의 사각 영역(WKT POLYGON), null이면 공간 인덱스 조건 생략
+	 */
+	public Page<StoreListDto> findStoresWithLocation(int categoryId, String storeName, Boolean isDiscountOpen,
+			double lat, double lng, Double radius, String bbox, Pageable pageable) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+				.addValue("lat", lat)
+				.addValue("lng", lng);
+		StringBuilder where = new StringBuilder(filterClause(categoryId, storeName, isDiscountOpen, params));
+		if (bbox != null) {
+			where.append(" AND MBRContains(ST_GeomFromText(:bbox, 4326, 'axis-order=long-lat'), s.location)");
+			params.addValue("bbox", bbox);
+		}
+		if (radius != null) {
+			where.append(" AND ").append(StoreRepository.DISTANCE_EXPRESSION).append(" <= :radius");
+			params.addValue("radius", radius);
+		}
+
+		String sql = "SELECT " + LIST_COLUMNS + ", " + StoreRepository.DISTANCE_EXPRESSION + " AS distance " +
+				"FROM store s WHERE " + where +
+				" ORDER BY distance ASC" + orderByClause(pageable.getSort(), true) +
+				limitClause(pageable, params);
+		return page(sql, "SELECT COUNT(*) FROM store s WHERE " + where, params, pageable);
+	}
+
+	/**
+	 * 위치 정보 없는 목록 조회 (Pageable 정렬 적용)
+	 */
+	public Page<StoreListDto> findStoresWithoutLocation(int categoryId, String storeName, Boolean isDiscountOpen,
+			Pageable pageable) {
+		MapSqlParameterSource params = new MapSqlParameterSource();
+		String where = filterClause(categoryId, storeName, isDiscountOpen, params);
+		String orderBy = orderByClause(pageable.getSort(), false);
+
+		String sql = "SELECT " + LIST_COLUMNS + " FROM store s WHERE " + where +
+				(orderBy.isEmpty() ? " ORDER BY s.id ASC" : " ORDER BY" + orderBy.substring(1)) +
+				limitClause(pageable, params);
+		return page(sql, "SELECT COUNT(*) FROM store s WHERE " + where, params, pageable);
+	}
+
+	/**
+	 * ID 목록 순서대로 삭제되지 않은 가게를 조회합니다. (인메모리 인덱스/커서 조회 결과 페이지용)
+	 */
+	public List<StoreListDto> findAllByIdsInOrder(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Map<Long, StoreListDto> rows = jdbcTemplate.query(
+				"SELECT " + LIST_COLUMNS + " FROM store s WHERE s.id IN (:ids) AND s.deleted_at IS NULL",
+				new MapSqlParameterSource("ids", ids), ROW_MAPPER).stream()
+				.collect(Collectors.toMap(StoreListDto::getId, Function.identity()));
+		// 캐시 직렬화 시 타입 정보가 남으므로 불변 리스트(Stream.toList) 대신 ArrayList 사용
+		return ids.stream()
+				.map(rows::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	private Page<StoreListDto> page(String sql, String countSql, MapSqlParameterSource params, Pageable pageable) {
+		List<StoreListDto> content = new ArrayList<>(jdbcTemplate.query(sql, params, ROW_MAPPER));
+		// 첫 페이지가 덜 찼거나 마지막 페이지인 경우 COUNT 쿼리 생략
+		return PageableExecutionUtils.getPage(content, pageable,
+				() -> Objects.requireNonNull(jdbcTemplate.queryForObject(countSql, params, Long.class)));
+	}
+
+	private static String filterClause(int categoryId, String storeName, Boolean isDiscountOpen,
+			MapSqlParameterSource params) {
+		StringBuilder where = new StringBuilder("s.deleted_at IS NULL");
+		if (categoryId != 0) {
+			where.append(" AND s.category_id = :categoryId");
+			params.addValue("categoryId", categoryId);
+		}
+		if (storeName != null) {
+			where.append(" AND LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))");
+			params.addValue("storeName", storeName);
+		}
+		if (isDiscountOpen != null) {
+			where.append(" AND s.has_open_deal = :isDiscountOpen");
+			params.addValue("isDiscountOpen", isDiscountOpen);
+		}
+		return where.toString();
+	}
+
+	/**
+	 * Pageable 정렬을 ", 컬럼 방향" 형태의 ORDER BY 조각으로 변환합니다. (허용되지 않은 컬럼은 무시)
+	 * 같은 정렬 키 안에서 페이지 경계가 흔들리지 않도록 ID를 마지막 정렬 기준으로 붙입니다.
+	 */
+	private static String orderByClause(Sort sort, boolean hasLeadingOrder) {
+		StringBuilder orderBy = new StringBuilder();
+		for (Sort.Order order : sort) {
+			if (!SORTABLE_COLUMNS.contains(order.getProperty())) {
+				continue;
+			}
+			String column = "s." + order.getProperty();
+			if (order.getNullHandling() == Sort.NullHandling.NULLS_LAST) {
+				orderBy.append(", ").append(column).append(" IS NULL");
+			}
+			orderBy.append(", ").append(column).append(order.isAscending() ? " ASC" : " DESC");
+		}
+		if (hasLeadingOrder || orderBy.length() > 0) {
+			orderBy.append(", s.id ASC");
+		}
+		return orderBy.toString();
+	}
+
+	private static String limitClause(Pageable pageable, MapSqlParameterSource params) {
+		if (pageable.isUnpaged()) {
+			return "";
+		}
+		params.addValue("limit", pageable.getPageSize());
+		params.addValue("offset", pageable.getOffset());
+		return " LIMIT :limit OFFSET :offset";
+	}
+}
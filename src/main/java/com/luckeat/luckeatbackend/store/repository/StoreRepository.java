@@ -1,11 +1,13 @@
 package com.luckeat.luckeatbackend.store.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +17,29 @@ import com.luckeat.luckeatbackend.store.model.Store;
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
+	// 커서 기반 조회 쿼리 공통 조각
+	String DISTANCE_EXPRESSION = "(6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * sin(radians(s.latitude))))";
+
+	String KEYSET_FILTER = "s.deleted_at IS NULL " +
+		   "AND (:categoryId = 0 OR s.category_id = :categoryId) " +
+		   "AND (:storeName IS NULL OR LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))) " +
+		   "AND (:isDiscountOpen IS NULL OR s.has_open_deal = :isDiscountOpen) " +
+		   "AND (:lat IS NULL OR :lng IS NULL OR :radius IS NULL OR " + DISTANCE_EXPRESSION + " <= :radius) ";
+
+	// 가게의 판매 중인 상품 수 (마감할인 상태 재계산용 서브쿼리)
+	String OPEN_DEAL_COUNT =
+		"SELECT COUNT(*) FROM product p WHERE p.store_id = :storeId AND p.is_open = true AND p.deleted_at IS NULL";
+
+	/**
+	 * 커서 기반 조회 결과 (가게 ID + DB에서 계산한 정렬 키)
+	 * 정렬 키를 DB 값 그대로 커서에 담아야 다음 페이지 비교에서 누락/중복이 생기지 않습니다.
+	 */
+	interface KeysetRow {
+		Long getId();
+
+		Double getSortKey();
+	}
+
 	List<Store> findAllByUserId(Long userId);
 
 	List<Store> findAllByDeletedAtIsNull();
@@ -23,6 +48,10 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
 	Optional<Store> findByIdAndDeletedAtIsNull(Long id);
 
+	// 가게 상세: 가게와 상품 목록을 한 번의 쿼리로 조회 (삭제된 상품은 호출자가 제외)
+	@Query("SELECT s FROM Store s LEFT JOIN FETCH s.products WHERE s.id = :storeId AND s.deletedAt IS NULL")
+	Optional<Store> findDetailById(@Param("storeId") Long storeId);
+
 	List<Store> findByStoreNameContainingAndDeletedAtIsNull(String storeName);
 
 	Optional<Store> findByUserIdAndDeletedAtIsNull(Long userId);
@@ -31,22 +60,65 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
 	List<Store> findAllByCategoryId(Long categoryId);
 
+	// 인메모리 인덱스 증분 동기화용 (삭제된 가게 포함)
+	List<Store> findAllByUpdatedAtAfter(LocalDateTime updatedAt);
+
+	// 리뷰 수 증감 (리뷰 작성/삭제와 같은 트랜잭션에서 원자적으로 갱신)
+	// updated_at도 갱신해 다른 인스턴스의 인메모리 인덱스가 증분 동기화(StoreIndexSynchronizer)로 새 리뷰 수를 받도록 합니다.
+	// 영속성 컨텍스트는 비우지 않으므로 호출한 트랜잭션이 읽어 둔 엔티티와 지연 로딩 연관은 그대로 쓸 수 있고,
+	// 이미 읽어 둔 Store의 review_count는 이전 값이므로 새 값이 필요하면 EntityManager.refresh로 다시 읽습니다.
+	@Modifying(flushAutomatically = true)
+	@Query(value = "UPDATE store SET review_count = review_count + 1, updated_at = NOW() WHERE id = :storeId", nativeQuery = true)
+	int incrementReviewCount(@Param("storeId") Long storeId);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = "UPDATE store SET review_count = review_count - 1, updated_at = NOW() " +
+		   "WHERE id = :storeId AND review_count > 0", nativeQuery = true)
+	int decrementReviewCount(@Param("storeId") Long storeId);
+
+	// 리뷰 수 전체 재계산 (불일치 보정용, StoreCounterSynchronizer / db/store_counters_backfill.sql)
+	@Modifying
+	@Query(value = "UPDATE store s LEFT JOIN (" +
+		   "SELECT r.store_id, COUNT(*) AS cnt FROM review r WHERE r.deleted_at IS NULL GROUP BY r.store_id" +
+		   ") rc ON rc.store_id = s.id " +
+		   "SET s.review_count = COALESCE(rc.cnt, 0) " +
+		   "WHERE s.review_count <> COALESCE(rc.cnt, 0)", nativeQuery = true)
+	int syncReviewCounts();
+
+	// 판매 중인 상품 수/마감할인 여부 재계산 (상품 판매 상태가 바뀐 트랜잭션 안에서 호출)
+	// 값이 실제로 바뀐 경우에만 updated_at을 갱신하므로 반환값 1은 "마감할인 상태 변경"을 의미합니다.
+	// 영속성 컨텍스트는 비우지 않으므로, 새 값이 필요하면 Store를 EntityManager.refresh로 다시 읽습니다.
+	@Modifying(flushAutomatically = true)
+	@Query(value = "UPDATE store SET " +
+		   "open_deal_count = (" + OPEN_DEAL_COUNT + "), " +
+		   "has_open_deal = ((" + OPEN_DEAL_COUNT + ") > 0), " +
+		   "updated_at = NOW() " +
+		   "WHERE id = :storeId AND open_deal_count <> (" + OPEN_DEAL_COUNT + ")", nativeQuery = true)
+	int refreshOpenDealCount(@Param("storeId") Long storeId);
+
+	// 마감할인 상태 전체 재계산 (불일치 보정용, StoreCounterSynchronizer / db/store_counters_backfill.sql)
+	@Modifying
+	@Query(value = "UPDATE store s LEFT JOIN (" +
+		   "SELECT p.store_id, COUNT(*) AS cnt FROM product p WHERE p.is_open = true AND p.deleted_at IS NULL GROUP BY p.store_id" +
+		   ") oc ON oc.store_id = s.id " +
+		   "SET s.open_deal_count = COALESCE(oc.cnt, 0), s.has_open_deal = (COALESCE(oc.cnt, 0) > 0) " +
+		   "WHERE s.open_deal_count <> COALESCE(oc.cnt, 0) OR s.has_open_deal <> (COALESCE(oc.cnt, 0) > 0)", nativeQuery = true)
+	int syncOpenDealCounts();
+
 	// 위치 기반 필터링 (정렬은 Pageable에 위임, 거리순 정렬은 특수 처리 필요)
 	@Query(value = "SELECT *, " +
 		   "(6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * sin(radians(s.latitude)))) as distance " +
 		   "FROM store s WHERE s.deleted_at IS NULL " +
 		   "AND (:categoryId = 0 OR s.category_id = :categoryId) " +
 		   "AND (:storeName IS NULL OR LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))) " +
-		   "AND (:isDiscountOpen IS NULL OR :isDiscountOpen = " +
-		   "EXISTS (SELECT 1 FROM product p WHERE p.store_id = s.id AND p.is_open = true AND p.deleted_at IS NULL)) " +
+		   "AND (:isDiscountOpen IS NULL OR s.has_open_deal = :isDiscountOpen) " +
 		   "AND (:radius IS NULL OR " +
 		   "(6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * sin(radians(s.latitude)))) <= :radius) " +
 		   "ORDER BY distance ASC", // 네이티브 쿼리 내 정렬 로직은 유지 (거리순)
 		   countQuery = "SELECT COUNT(*) FROM store s WHERE s.deleted_at IS NULL " +
 		   "AND (:categoryId = 0 OR s.category_id = :categoryId) " +
 		   "AND (:storeName IS NULL OR LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))) " +
-		   "AND (:isDiscountOpen IS NULL OR :isDiscountOpen = " +
-		   "EXISTS (SELECT 1 FROM product p WHERE p.store_id = s.id AND p.is_open = true AND p.deleted_at IS NULL)) " +
+		   "AND (:isDiscountOpen IS NULL OR s.has_open_deal = :isDiscountOpen) " +
 		   "AND (:radius IS NULL OR " +
 		   "(6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * sin(radians(s.latitude)))) <= :radius)",
 		   nativeQuery = true)
@@ -59,17 +131,142 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 			@Param("radius") Double radius,
 			Pageable pageable);
 
+	// 위치 기반 필터링 (SPATIAL 모드)
+	// store.location SPATIAL 인덱스로 사각 영역(:bbox, WKT POLYGON) 후보만 추린 뒤 정확한 거리로 반경 필터링
+	@Query(value = "SELECT *, " +
+		   "(6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * sin(radians(s.latitude)))) as distance " +
+		   "FROM store s WHERE MBRContains(ST_GeomFromText(:bbox, 4326, 'axis-order=long-lat'), s.location) " +
+		   "AND s.deleted_at IS NULL " +
+		   "AND (:categoryId = 0 OR s.category_id = :categoryId) " +
+		   "AND (:storeName IS NULL OR LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))) " +
+		   "AND (:isDiscountOpen IS NULL OR s.has_open_deal = :isDiscountOpen) " +
+		   "AND (6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * sin(radians(s.latitude)))) <= :radius " +
+		   "ORDER BY distance ASC",
+		   countQuery = "SELECT COUNT(*) FROM store s WHERE MBRContains(ST_GeomFromText(:bbox, 4326, 'axis-order=long-lat'), s.location) " +
+		   "AND s.deleted_at IS NULL " +
+		   "AND (:categoryId = 0 OR s.category_id = :categoryId) " +
+		   "AND (:storeName IS NULL OR LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))) " +
+		   "AND (:isDiscountOpen IS NULL OR s.has_open_deal = :isDiscountOpen) " +
+		   "AND (6371 * acos(cos(radians(:lat)) * cos(radians(s.latitude)) * cos(radians(s.longitude) - radians(:lng)) + sin(radians(:lat)) * sin(radians(s.latitude)))) <= :radius",
+		   nativeQuery = true)
+	Page<Store> findStoresWithinBoundingBox(
+			@Param("categoryId") int categoryId,
+			@Param("storeName") String storeName,
+			@Param("isDiscountOpen") Boolean isDiscountOpen,
+			@Param("lat") Double lat,
+			@Param("lng") Double lng,
+			@Param("radius") Double radius,
+			@Param("bbox") String bbox,
+			Pageable pageable);
+
+	// 커서 기반 조회: 공유순 (share_count DESC, id DESC)
+	@Query(value = "SELECT s.id AS id, s.share_count AS sortKey FROM store s WHERE " + KEYSET_FILTER +
+		   "AND (:lastId IS NULL OR s.share_count < :lastKey OR (s.share_count = :lastKey AND s.id < :lastId)) " +
+		   "ORDER BY s.share_count DESC, s.id DESC LIMIT :limit",
+		   nativeQuery = true)
+	List<KeysetRow> findShareKeyset(
+			@Param("categoryId") int categoryId,
+			@Param("storeName") String storeName,
+			@Param("isDiscountOpen") Boolean isDiscountOpen,
+			@Param("lat") Double lat,
+			@Param("lng") Double lng,
+			@Param("radius") Double radius,
+			@Param("lastKey") Double lastKey,
+			@Param("lastId") Long lastId,
+			@Param("limit") int limit);
+
+	// 커서 기반 조회: 별점순 (avg_rating_google DESC, id DESC), 별점 있는 가게만
+	// 별점 없는 가게는 findUnratedKeyset으로 이어서 조회 (NULL 정렬식 없이 idx_store_avg_rating_google_id를 역순으로 탐색)
+	@Query(value = "SELECT s.id AS id, s.avg_rating_google AS sortKey FROM store s WHERE " + KEYSET_FILTER +
+		   "AND s.avg_rating_google IS NOT NULL " +
+		   "AND (:lastId IS NULL OR s.avg_rating_google < :lastKey " +
+		   "OR (s.avg_rating_google = :lastKey AND s.id < :lastId)) " +
+		   "ORDER BY s.avg_rating_google DESC, s.id DESC LIMIT :limit",
+		   nativeQuery = true)
+	List<KeysetRow> findRatingKeyset(
+			@Param("categoryId") int categoryId,
+			@Param("storeName") String storeName,
+			@Param("isDiscountOpen") Boolean isDiscountOpen,
+			@Param("lat") Double lat,
+			@Param("lng") Double lng,
+			@Param("radius") Double radius,
+			@Param("lastKey") Double lastKey,
+			@Param("lastId") Long lastId,
+			@Param("limit") int limit);
+
+	// 커서 기반 조회: 별점순의 마지막 구간, 별점 없는 가게 (id DESC)
+	@Query(value = "SELECT s.id AS id, s.avg_rating_google AS sortKey FROM store s WHERE " + KEYSET_FILTER +
+		   "AND s.avg_rating_google IS NULL " +
+		   "AND (:lastId IS NULL OR s.id < :lastId) " +
+		   "ORDER BY s.id DESC LIMIT :limit",
+		   nativeQuery = true)
+	List<KeysetRow> findUnratedKeyset(
+			@Param("categoryId") int categoryId,
+			@Param("storeName") String storeName,
+			@Param("isDiscountOpen") Boolean isDiscountOpen,
+			@Param("lat") Double lat,
+			@Param("lng") Double lng,
+			@Param("radius") Double radius,
+			@Param("lastId") Long lastId,
+			@Param("limit") int limit);
+
+	// 커서 기반 조회: 리뷰순 (review_count DESC, id DESC)
+	@Query(value = "SELECT s.id AS id, s.review_count AS sortKey FROM store s WHERE " + KEYSET_FILTER +
+		   "AND (:lastId IS NULL OR s.review_count < :lastKey OR (s.review_count = :lastKey AND s.id < :lastId)) " +
+		   "ORDER BY s.review_count DESC, s.id DESC LIMIT :limit",
+		   nativeQuery = true)
+	List<KeysetRow> findReviewKeyset(
+			@Param("categoryId") int categoryId,
+			@Param("storeName") String storeName,
+			@Param("isDiscountOpen") Boolean isDiscountOpen,
+			@Param("lat") Double lat,
+			@Param("lng") Double lng,
+			@Param("radius") Double radius,
+			@Param("lastKey") Double lastKey,
+			@Param("lastId") Long lastId,
+			@Param("limit") int limit);
+
+	// 커서 기반 조회: 거리순 (distance ASC, id ASC), lat/lng 필수
+	@Query(value = "SELECT s.id AS id, " + DISTANCE_EXPRESSION + " AS sortKey FROM store s WHERE " + KEYSET_FILTER +
+		   "AND (:lastId IS NULL OR " + DISTANCE_EXPRESSION + " > :lastKey " +
+		   "OR (" + DISTANCE_EXPRESSION + " = :lastKey AND s.id > :lastId)) " +
+		   "ORDER BY sortKey ASC, s.id ASC LIMIT :limit",
+		   nativeQuery = true)
+	List<KeysetRow> findDistanceKeyset(
+			@Param("categoryId") int categoryId,
+			@Param("storeName") String storeName,
+			@Param("isDiscountOpen") Boolean isDiscountOpen,
+			@Param("lat") Double lat,
+			@Param("lng") Double lng,
+			@Param("radius") Double radius,
+			@Param("lastKey") Double lastKey,
+			@Param("lastId") Long lastId,
+			@Param("limit") int limit);
+
+	// 커서 기반 조회: 정렬 조건 없음 (id ASC)
+	@Query(value = "SELECT s.id AS id, s.id AS sortKey FROM store s WHERE " + KEYSET_FILTER +
+		   "AND (:lastId IS NULL OR s.id > :lastId) " +
+		   "ORDER BY s.id ASC LIMIT :limit",
+		   nativeQuery = true)
+	List<KeysetRow> findIdKeyset(
+			@Param("categoryId") int categoryId,
+			@Param("storeName") String storeName,
+			@Param("isDiscountOpen") Boolean isDiscountOpen,
+			@Param("lat") Double lat,
+			@Param("lng") Double lng,
+			@Param("radius") Double radius,
+			@Param("lastId") Long lastId,
+			@Param("limit") int limit);
+
 	// 위치 없이 정렬만 하는 쿼리 (정렬은 Pageable에 위임)
 	@Query(value = "SELECT * FROM store s WHERE s.deleted_at IS NULL " +
 		   "AND (:categoryId = 0 OR s.category_id = :categoryId) " +
 		   "AND (:storeName IS NULL OR LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))) " +
-		   "AND (:isDiscountOpen IS NULL OR :isDiscountOpen = " +
-		   "EXISTS (SELECT 1 FROM product p WHERE p.store_id = s.id AND p.is_open = true AND p.deleted_at IS NULL))", // 네이티브 쿼리 내 ORDER BY 제거
+		   "AND (:isDiscountOpen IS NULL OR s.has_open_deal = :isDiscountOpen)", // 네이티브 쿼리 내 ORDER BY 제거
 		   countQuery = "SELECT COUNT(*) FROM store s WHERE s.deleted_at IS NULL " +
 		   "AND (:categoryId = 0 OR s.category_id = :categoryId) " +
 		   "AND (:storeName IS NULL OR LOWER(s.store_name) LIKE LOWER(CONCAT('%', :storeName, '%'))) " +
-		   "AND (:isDiscountOpen IS NULL OR :isDiscountOpen = " +
-		   "EXISTS (SELECT 1 FROM product p WHERE p.store_id = s.id AND p.is_open = true AND p.deleted_at IS NULL))",
+		   "AND (:isDiscountOpen IS NULL OR s.has_open_deal = :isDiscountOpen)",
 		   nativeQuery = true)
 	Page<Store> findStoresWithoutLocation( // 메소드 시그니처에서 sort 파라미터 제거
 			@Param("categoryId") int categoryId,
@@ -0,0 +1,76 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.luckeat.luckeatbackend.common.util.GeoUtil;
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+import com.luckeat.luckeatbackend.store.index.GeoSearchMode;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreListJdbcRepository;
+import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * geohash 셀 단위 위치 검색 후보 캐시
+ * 같은 셀 안의 사용자들이 하나의 캐시 항목을 공유하도록, 셀 중심에서 (반경 구간 + 셀 반대각선) 안의 가게를 모두 캐싱합니다.
+ * 셀 안의 어느 위치에서 반경 구간 이하로 검색해도 결과가 이 후보 집합에 포함되므로,
+ * 호출자는 실제 좌표로 거리를 다시 계산해 필터링/정렬만 하면 됩니다.
+ * StoreService 내부 호출은 캐시 프록시를 거치지 않으므로 별도 빈으로 분리했습니다.
+ * 할인 여부로 필터링한 항목은 조회 영역을 태그로 기록해, 마감할인 상태가 바뀐 가게 주변의 항목만 삭제합니다. (StoreCellCacheTags)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreCellCacheService {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoreCellCacheService.class);
+	private final StoreRepository storeRepository;
+	private final StoreListJdbcRepository storeListJdbcRepository;
+	private final StoreCellCacheTags storeCellCacheTags;
+
+	@Value("${store.list.jdbc-reader-enabled:true}")
+	private boolean jdbcListReaderEnabled;
+
+	@Cacheable(value = "storeCells", key = "T(com.luckeat.luckeatbackend.store.service.StoreService).generateCacheKey(#cell, #radiusBucket, #isDiscountOpen, #categoryId)")
+	public List<StoreListDto> getCellCandidates(String cell, double radiusBucket, Boolean isDiscountOpen,
+			int categoryId, GeoSearchMode mode) {
+		GeoUtil.BoundingBox cellBounds = GeoUtil.geohashBounds(cell);
+		double centerLat = cellBounds.getCenterLat();
+		double centerLng = cellBounds.getCenterLng();
+		double halfDiagonalKm = GeoUtil.distanceKm(centerLat, centerLng, cellBounds.getMaxLat(), cellBounds.getMaxLng());
+		double queryRadius = radiusBucket + halfDiagonalKm;
+		logger.debug("캐시 미스: 셀 후보 조회 - cell={}, radius={}km", cell, queryRadius);
+
+		GeoUtil.BoundingBox queryBox = GeoUtil.boundingBox(centerLat, centerLng, queryRadius);
+		storeCellCacheTags.register(StoreService.generateCacheKey(cell, radiusBucket, isDiscountOpen, categoryId),
+				isDiscountOpen, queryBox);
+
+		String bbox = mode == GeoSearchMode.SPATIAL ? GeoUtil.toWktPolygon(queryBox) : null;
+		if (jdbcListReaderEnabled) {
+			return new ArrayList<>(storeListJdbcRepository.findStoresWithLocation(categoryId, null, isDiscountOpen,
+					centerLat, centerLng, queryRadius, bbox, Pageable.unpaged()).getContent());
+		}
+
+		List<Store> stores;
+		if (bbox != null) {
+			stores = storeRepository.findStoresWithinBoundingBox(categoryId, null, isDiscountOpen,
+					centerLat, centerLng, queryRadius, bbox, Pageable.unpaged()).getContent();
+		} else {
+			stores = storeRepository.findStoresWithLocation(categoryId, null, isDiscountOpen,
+					centerLat, centerLng, queryRadius, Pageable.unpaged()).getContent();
+		}
+		// 캐시 직렬화 시 타입 정보가 남으므로 불변 리스트(Stream.toList) 대신 ArrayList 사용
+		return stores.stream().map(StoreListDto::fromEntity).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,131 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.luckeat.luckeatbackend.common.cache.TwoLevelCache;
+import com.luckeat.luckeatbackend.common.util.GeoUtil;
+import com.luckeat.luckeatbackend.store.event.StoreCellCacheEvictEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 위치 검색 셀 캐시(storeCells) 태그 관리
+ * 셀 후보 항목을 조회 영역과 겹치는 넓은 geohash 셀(store.cache.geo-cell.tag-precision)을 태그로 Redis SET에 기록해 두고,
+ * 가게가 바뀌면 가게 좌표의 셀에 연결된 항목만 삭제합니다.
+ * - stores:cell-tag:all:{geohash}: 모든 항목, 가게 생성/수정/삭제 시 (수정은 이전/새 좌표 모두)
+ * - stores:cell-tag:{geohash}: 할인 여부로 필터링한 항목만, 마감할인 상태 변경 시
+ *   (할인 여부로 필터링하지 않은 항목은 마감할인 상태와 무관하므로(목록 응답에 할인 상태가 없음) 삭제하지 않음)
+ * 조회 영역이 너무 넓어 셀이 많으면 모든 위치에 해당하는 태그(geohash 자리에 *)에 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCellCacheTags {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoreCellCacheTags.class);
+	static final String CACHE_NAME = "storeCells";
+	private static final String TAG_PREFIX = "stores:cell-tag:";
+	private static final String ALL_TAG_PREFIX = TAG_PREFIX + "all:";
+	private static final String ANY_CELL = "*";
+	private static final int MAX_TAG_CELLS = 64;
+	private static final String KEY_PREFIX = CacheKeyPrefix.simple().compute(CACHE_NAME);
+
+	private final StringRedisTemplate redisTemplate;
+	private final CacheManager cacheManager;
+
+	// 태그 셀 정밀도 (4는 약 39km x 19.5km, 셀 후보 조회 영역이 보통 1~4개 셀에 걸침)
+	@Value("${store.cache.geo-cell.tag-precision:4}")
+	private int tagPrecision;
+
+	// 태그 SET 만료 시간 (storeCells 캐시 TTL보다 길게 유지해야 태그 없는 항목이 남지 않음)
+	@Value("${store.cache.geo-cell.tag-ttl-minutes:10}")
+	private long tagTtlMinutes;
+
+	/**
+	 * 새로 캐시되는 셀 후보 항목의 태그를 기록합니다. (할인 여부로 필터링한 항목은 마감할인 태그에도 기록)
+	 * 기록에 실패하면 해당 항목은 캐시 TTL 동안 가게 변경이 반영되지 않을 수 있습니다.
+	 */
+	public void register(String cacheKey, Boolean isDiscountOpen, GeoUtil.BoundingBox queryBox) {
+		Set<String> cells = GeoUtil.geohashesCovering(queryBox, tagPrecision, MAX_TAG_CELLS);
+		List<String> tagCells = cells.isEmpty() ? List.of(ANY_CELL) : List.copyOf(cells);
+		List<String> tagKeys = new ArrayList<>(tagCells.size() * 2);
+		tagCells.forEach(cell -> tagKeys.add(ALL_TAG_PREFIX + cell));
+		if (isDiscountOpen != null) {
+			tagCells.forEach(cell -> tagKeys.add(TAG_PREFIX + cell));
+		}
+		String redisKey = KEY_PREFIX + cacheKey;
+
+		Duration ttl = Duration.ofMinutes(tagTtlMinutes);
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					for (String tagKey : tagKeys) {
+						operations.opsForSet().add(tagKey, redisKey);
+						operations.expire(tagKey, ttl);
+					}
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			logger.warn("셀 캐시 태그 기록 실패: key={}, error={}", cacheKey, e.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEvict(StoreCellCacheEvictEvent event) {
+		evict(event.getLatitude(), event.getLongitude(), event.isOpenDealOnly());
+	}
+
+	/**
+	 * 좌표가 속한 태그 셀에 연결된 셀 후보 항목을 삭제합니다.
+	 *
+	 * @param openDealOnly true면 할인 여부로 필터링한 항목만 삭제 (마감할인 상태 변경)
+	 */
+	public void evict(double latitude, double longitude, boolean openDealOnly) {
+		String prefix = openDealOnly ? TAG_PREFIX : ALL_TAG_PREFIX;
+		List<String> tagKeys = List.of(
+				prefix + GeoUtil.geohash(latitude, longitude, tagPrecision), prefix + ANY_CELL);
+		try {
+			Set<String> cacheKeys = redisTemplate.opsForSet().union(tagKeys);
+			if (cacheKeys == null || cacheKeys.isEmpty()) {
+				return;
+			}
+			Object[] members = cacheKeys.toArray();
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					operations.delete(cacheKeys);
+					for (String tagKey : tagKeys) {
+						operations.opsForSet().remove(tagKey, members);
+					}
+					return null;
+				}
+			});
+			if (cacheManager.getCache(CACHE_NAME) instanceof TwoLevelCache twoLevelCache) {
+				List<String> keys = new ArrayList<>(cacheKeys.size());
+				cacheKeys.forEach(redisKey -> keys.add(redisKey.substring(KEY_PREFIX.length())));
+				twoLevelCache.evictLocal(keys);
+			}
+			logger.debug("셀 캐시 삭제: tags={}, entries={}", tagKeys, cacheKeys.size());
+		} catch (DataAccessException e) {
+			logger.warn("셀 캐시 태그 삭제 실패: tags={}, error={}", tagKeys, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * store 테이블 비정규화 카운터 보정 (선택적 복구용)
+ * 평소에는 리뷰 작성/삭제, 상품 판매 상태 변경 트랜잭션에서 갱신합니다.
+ * 컬럼 추가 직후의 초기값은 운영 스크립트(db/store_counters_backfill.sql)로 한 번 채우며,
+ * 수동 데이터 수정 등으로 불일치가 생겼을 때만 store.counters.sync-on-startup=true로 한 인스턴스를 띄워 재계산합니다.
+ * 전체 테이블 UPDATE는 모든 가게 행을 잠가 리뷰/상품 쓰기를 막으므로, 롤링 배포의 모든 인스턴스에서 켜 두지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreCounterSynchronizer implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoreCounterSynchronizer.class);
+	private final StoreRepository storeRepository;
+
+	@Value("${store.counters.sync-on-startup:false}")
+	private boolean syncOnStartup;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		if (!syncOnStartup) {
+			return;
+		}
+		int reviewCountFixed = storeRepository.syncReviewCounts();
+		logger.info("가게 리뷰 수 보정 완료: {}개 가게 갱신", reviewCountFixed);
+		int openDealFixed = storeRepository.syncOpenDealCounts();
+		logger.info("가게 마감할인 상태 보정 완료: {}개 가게 갱신", openDealFixed);
+	}
+}
@@ -0,0 +1,211 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.luckeat.luckeatbackend.common.cache.TwoLevelCache;
+import com.luckeat.luckeatbackend.common.filter.ResponseCacheFilter;
+import com.luckeat.luckeatbackend.store.event.StoreListCacheEvictEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 목록 페이지 캐시(storePages) 태그 관리
+ * 캐시된 페이지마다 의존하는 태그를 Redis SET(stores:tag:{태그})에 기록해 두고,
+ * 가게가 바뀌면 영향을 받는 태그의 페이지만 삭제합니다. (allEntries 삭제와 KEYS 스캔 대체)
+ * 페이지는 가게 ID 순서만 저장하므로 표시 값 변경은 페이지가 아닌 가게별 목록 항목(StoreListItemCache)만 삭제합니다.
+ * - scope:{카테고리ID}:{할인 여부}: 페이지의 필터 조건 (가게 추가/삭제, 필터 값 변경으로 구성이 바뀜)
+ * - scope:{카테고리ID}:{할인 여부}:{정렬}: 필터 + 정렬 조건 (정렬 키 변경으로 순서가 바뀜)
+ * 카테고리 0과 할인 여부 all은 필터 없음을 뜻합니다.
+ * Redis에서 직접 삭제하므로 L1(TwoLevelCache)은 캐시 API로 따로 무효화합니다.
+ * 직렬화가 끝난 목록 응답(ResponseCacheFilter, storeListResponses)도 같은 조회 조건의 태그로 기록해 페이지와 함께 삭제합니다.
+ * 응답은 가게 표시 값도 담고 있지만, 순서/구성이 그대로인 표시 값 변경(리뷰 수 등)으로는 삭제하지 않고 응답 캐시 TTL(5분)에 맡깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreListCacheTags {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoreListCacheTags.class);
+	static final String CACHE_NAME = "storePages";
+	private static final String TAG_PREFIX = "stores:tag:";
+	private static final String ALL_CATEGORIES = "0";
+	private static final String ALL_DISCOUNTS = "all";
+	private static final String KEY_PREFIX = CacheKeyPrefix.simple().compute(CACHE_NAME);
+	private static final String RESPONSE_KEY_PREFIX = CacheKeyPrefix.simple().compute(ResponseCacheFilter.STORE_LIST_CACHE);
+
+	private final StringRedisTemplate redisTemplate;
+	private final CacheManager cacheManager;
+
+	// 태그 SET 만료 시간 (storePages 캐시 TTL보다 길게 유지해야 태그 없는 페이지가 남지 않음)
+	@Value("${store.cache.list-tag.ttl-minutes:15}")
+	private long tagTtlMinutes;
+
+	/**
+	 * 새로 캐시되는 목록 페이지의 태그를 기록합니다.
+	 * 기록에 실패하면 해당 페이지는 캐시 TTL 동안 변경이 반영되지 않을 수 있습니다.
+	 */
+	public void register(String cacheKey, String sort, Boolean isDiscountOpen, int categoryId) {
+		register(KEY_PREFIX + cacheKey, sort, isDiscountOpen, categoryId);
+	}
+
+	/**
+	 * 새로 캐시되는 목록 응답의 태그를 페이지와 같은 조회 조건으로 기록합니다.
+	 */
+	public void registerResponse(String responseKey, String sort, Boolean isDiscountOpen, long categoryId) {
+		register(RESPONSE_KEY_PREFIX + responseKey, sort, isDiscountOpen, categoryId);
+	}
+
+	private void register(String redisKey, String sort, Boolean isDiscountOpen, long categoryId) {
+		String scope = scopeTag(String.valueOf(categoryId), discountValue(isDiscountOpen));
+		List<String> tagKeys = List.of(TAG_PREFIX + scope, TAG_PREFIX + scope + ":" + sortTag(sort));
+
+		Duration ttl = Duration.ofMinutes(tagTtlMinutes);
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					for (String tagKey : tagKeys) {
+						operations.opsForSet().add(tagKey, redisKey);
+						operations.expire(tagKey, ttl);
+					}
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			logger.warn("가게 목록 캐시 태그 기록 실패: key={}, error={}", redisKey, e.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEvict(StoreListCacheEvictEvent event) {
+		evict(event.getTags());
+	}
+
+	/**
+	 * 태그에 연결된 목록 페이지와 목록 응답을 삭제합니다.
+	 * 태그 SET은 삭제하지 않고 삭제한 페이지만 제거해, 그 사이 새로 기록된 페이지의 태그는 유지합니다.
+	 */
+	public void evict(Set<String> tags) {
+		if (tags.isEmpty()) {
+			return;
+		}
+		List<String> tagKeys = tags.stream().map(tag -> TAG_PREFIX + tag).toList();
+		try {
+			Set<String> cacheKeys = redisTemplate.opsForSet().union(tagKeys);
+			if (cacheKeys == null || cacheKeys.isEmpty()) {
+				return;
+			}
+			Object[] members = cacheKeys.toArray();
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					operations.delete(cacheKeys);
+					for (String tagKey : tagKeys) {
+						operations.opsForSet().remove(tagKey, members);
+					}
+					return null;
+				}
+			});
+			evictLocal(cacheKeys);
+			logger.debug("가게 목록 캐시 삭제: tags={}, pages={}", tags, cacheKeys.size());
+		} catch (DataAccessException e) {
+			logger.warn("가게 목록 캐시 태그 삭제 실패: tags={}, error={}", tags, e.getMessage());
+		}
+	}
+
+	private void evictLocal(Set<String> redisKeys) {
+		evictLocal(CACHE_NAME, KEY_PREFIX, redisKeys);
+		evictLocal(ResponseCacheFilter.STORE_LIST_CACHE, RESPONSE_KEY_PREFIX, redisKeys);
+	}
+
+	private void evictLocal(String cacheName, String keyPrefix, Set<String> redisKeys) {
+		List<String> keys = redisKeys.stream()
+				.filter(redisKey -> redisKey.startsWith(keyPrefix))
+				.map(redisKey -> redisKey.substring(keyPrefix.length()))
+				.toList();
+		if (!keys.isEmpty() && cacheManager.getCache(cacheName) instanceof TwoLevelCache twoLevelCache) {
+			twoLevelCache.evictLocal(keys);
+		}
+	}
+
+	/**
+	 * 가게가 추가/삭제되거나 필터 값(카테고리)이 바뀔 때: 가게가 속하는(속했던) 필터 조건의 모든 페이지
+	 */
+	public static Set<String> membershipTags(Long categoryId, Boolean hasOpenDeal) {
+		Set<String> tags = new LinkedHashSet<>();
+		for (String category : categories(categoryId)) {
+			tags.add(scopeTag(category, ALL_DISCOUNTS));
+			tags.add(scopeTag(category, discountValue(Boolean.TRUE.equals(hasOpenDeal))));
+		}
+		return tags;
+	}
+
+	/**
+	 * 마감할인 상태가 바뀔 때: 할인 여부로 필터링한 페이지만 구성이 바뀜 (목록 응답에는 할인 상태가 없음)
+	 */
+	public static Set<String> openDealTags(Long categoryId) {
+		Set<String> tags = new LinkedHashSet<>();
+		for (String category : categories(categoryId)) {
+			tags.add(scopeTag(category, discountValue(true)));
+			tags.add(scopeTag(category, discountValue(false)));
+		}
+		return tags;
+	}
+
+	/**
+	 * 리뷰 수가 바뀔 때: 리뷰순 정렬 페이지(순서)
+	 */
+	public static Set<String> reviewCountTags(Long categoryId, Boolean hasOpenDeal) {
+		return sortKeyTags(categoryId, hasOpenDeal, "review");
+	}
+
+	/**
+	 * 정렬 키(rating, share, review) 값이 바뀔 때: 가게가 속한 필터 조건에서 그 기준으로 정렬한 페이지(순서)
+	 */
+	public static Set<String> sortKeyTags(Long categoryId, Boolean hasOpenDeal, String sort) {
+		Set<String> tags = new LinkedHashSet<>();
+		for (String category : categories(categoryId)) {
+			tags.add(scopeTag(category, ALL_DISCOUNTS) + ":" + sort);
+			tags.add(scopeTag(category, discountValue(Boolean.TRUE.equals(hasOpenDeal))) + ":" + sort);
+		}
+		return tags;
+	}
+
+	/**
+	 * sort 파라미터의 정렬 기준 (SortUtil과 같이 방향은 무시)
+	 */
+	static String sortTag(String sort) {
+		if (sort == null || sort.isBlank()) {
+			return "default";
+		}
+		return sort.split(",")[0].trim().toLowerCase();
+	}
+
+	private static String scopeTag(String category, String discount) {
+		return "scope:" + category + ":" + discount;
+	}
+
+	private static List<String> categories(Long categoryId) {
+		return categoryId == null ? List.of(ALL_CATEGORIES) : List.of(ALL_CATEGORIES, String.valueOf(categoryId));
+	}
+
+	private static String discountValue(Boolean isDiscountOpen) {
+		return isDiscountOpen != null ? isDiscountOpen.toString() : ALL_DISCOUNTS;
+	}
+}
@@ -0,0 +1,171 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luckeat.luckeatbackend.common.cache.CacheValueSerializer;
+import com.luckeat.luckeatbackend.config.CacheConfig;
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+import com.luckeat.luckeatbackend.store.event.StoreListCacheEvictEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 가게별 목록 항목(StoreListDto) 캐시
+ * 목록 페이지 캐시(storePages)는 가게 ID 순서만 저장하고, 표시 값은 이 캐시에서 한 번의 MGET으로 채웁니다.
+ * 가게 하나의 표시 값이 바뀌면 그 가게의 항목만 삭제하면 되고, 같은 가게가 여러 페이지에 중복 저장되지 않습니다.
+ * 없는 항목은 DB에서 한 번에 조회해 파이프라인으로 다시 저장합니다.
+ * 조회 중 삭제된 항목을 이전 값으로 다시 저장할 수 있으며, 이 경우 TTL 동안 이전 값이 보일 수 있습니다.
+ */
+@Component
+public class StoreListItemCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(StoreListItemCache.class);
+	static final String CACHE_NAME = "storeListItems";
+	private static final String KEY_PREFIX = CacheKeyPrefix.simple().compute(CACHE_NAME);
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisSerializer<Object> serializer;
+	private final Duration ttl;
+	private final Counter hits;
+	private final Counter misses;
+
+	public StoreListItemCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+			@Value("${store.cache.list-item.ttl-minutes:10}") long ttlMinutes) {
+		this.redisTemplate = redisTemplate;
+		ObjectMapper binaryMapper = CacheConfig.binaryObjectMapper();
+		this.serializer = new CacheValueSerializer(binaryMapper, binaryMapper.constructType(StoreListDto.class), 0,
+				new GenericJackson2JsonRedisSerializer(CacheConfig.legacyObjectMapper()));
+		this.ttl = Duration.ofMinutes(ttlMinutes);
+		this.hits = counter(meterRegistry, "hit");
+		this.misses = counter(meterRegistry, "miss");
+	}
+
+	/**
+	 * ID 순서대로 목록 항목을 반환합니다. 캐시에 없는 항목은 loader로 한 번에 조회합니다.
+	 * loader가 반환하지 않은 가게(삭제된 가게 등)는 결과에서 제외됩니다.
+	 */
+	public List<StoreListDto> getAll(List<Long> ids, Function<List<Long>, List<StoreListDto>> loader) {
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<byte[]> values = multiGet(ids);
+		Map<Long, StoreListDto> items = new HashMap<>();
+		List<Long> missingIds = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i++) {
+			StoreListDto item = values != null ? decode(values.get(i)) : null;
+			if (item != null) {
+				items.put(ids.get(i), item);
+			} else {
+				missingIds.add(ids.get(i));
+			}
+		}
+		hits.increment(items.size());
+		misses.increment(missingIds.size());
+
+		if (!missingIds.isEmpty()) {
+			List<StoreListDto> loaded = loader.apply(missingIds);
+			loaded.forEach(item -> items.put(item.getId(), item));
+			putAll(loaded);
+		}
+		// 캐시 직렬화 시 타입 정보가 남으므로 ArrayList로 반환
+		return ids.stream().map(items::get).filter(Objects::nonNull).collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	/**
+	 * 목록 항목을 파이프라인으로 저장합니다. (실패 시 다음 조회에서 다시 DB 조회)
+	 */
+	public void putAll(Collection<StoreListDto> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+		Expiration expiration = Expiration.from(ttl);
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (StoreListDto item : items) {
+					connection.stringCommands().set(key(item.getId()), serializer.serialize(item), expiration,
+							RedisStringCommands.SetOption.upsert());
+				}
+				return null;
+			});
+		} catch (DataAccessException | SerializationException e) {
+			logger.warn("가게 목록 항목 캐시 저장 실패: count={}, error={}", items.size(), e.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEvict(StoreListCacheEvictEvent event) {
+		evict(event.getStoreIds());
+	}
+
+	public void evict(Collection<Long> storeIds) {
+		if (storeIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.delete(storeIds.stream().map(id -> KEY_PREFIX + id).toList());
+		} catch (DataAccessException e) {
+			logger.warn("가게 목록 항목 캐시 삭제 실패: storeIds={}, error={}", storeIds, e.getMessage());
+		}
+	}
+
+	private List<byte[]> multiGet(List<Long> ids) {
+		byte[][] keys = ids.stream().map(StoreListItemCache::key).toArray(byte[][]::new);
+		try {
+			return redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+		} catch (DataAccessException e) {
+			logger.warn("가게 목록 항목 캐시 조회 실패, DB에서 조회: count={}, error={}", ids.size(), e.getMessage());
+			return null;
+		}
+	}
+
+	private StoreListDto decode(byte[] value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return serializer.deserialize(value) instanceof StoreListDto item ? item : null;
+		} catch (SerializationException e) {
+			logger.warn("가게 목록 항목 캐시 값 해석 실패: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static byte[] key(Long storeId) {
+		return (KEY_PREFIX + storeId).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("luckeat.cache.gets")
+				.description("2단 캐시 계층별 조회 결과")
+				.tag("cache", CACHE_NAME)
+				.tag("tier", "l2")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
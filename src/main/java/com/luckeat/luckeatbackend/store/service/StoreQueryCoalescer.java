@@ -0,0 +1,65 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.luckeat.luckeatbackend.common.util.SingleFlight;
+import com.luckeat.luckeatbackend.store.dto.StoreDetailResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreQueryResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 조건의 가게 목록/상세 조회를 동시에 한 번만 실행합니다.
+ * 캐시하지 않는 목록 조회(이름 검색, 위치 기반, 캐시 우회)는 캠페인 등으로 같은 검색이 몰리면 모두 DB로 가므로
+ * 정규화한 조회 조건을 키로 진행 중인 조회 결과를 공유합니다.
+ * StoreService 트랜잭션 밖에서 합쳐야 기다리는 요청이 DB 커넥션을 잡지 않으므로 StoreService 앞에 둡니다.
+ */
+@Component
+public class StoreQueryCoalescer {
+
+	private final StoreService storeService;
+	private final SingleFlight<String, StoreQueryResult> storeSearches;
+	private final SingleFlight<Long, StoreDetailResponseDto> storeDetails;
+
+	public StoreQueryCoalescer(StoreService storeService, MeterRegistry meterRegistry,
+			@Value("${store.coalesce.max-in-flight:1000}") int maxInFlight,
+			@Value("${store.coalesce.timeout-ms:2000}") long timeoutMs) {
+		this.storeService = storeService;
+		this.storeSearches = new SingleFlight<>("storeSearch", maxInFlight, Duration.ofMillis(timeoutMs), meterRegistry);
+		this.storeDetails = new SingleFlight<>("storeDetail", maxInFlight, Duration.ofMillis(timeoutMs), meterRegistry);
+	}
+
+	/**
+	 * 가게 목록 조회 (캐시 대상 조회는 캐시가 미스를 합치므로 그대로 호출)
+	 */
+	public StoreQueryResult getStores(Double lat, Double lng, Double radius, String sort, String storeName,
+			Boolean isDiscountOpen, int page, int size, int categoryId, boolean bypassCache) {
+		if (StoreService.isListCacheable(lat, lng, storeName, bypassCache)) {
+			return storeService.getStores(lat, lng, radius, sort, storeName, isDiscountOpen, page, size, categoryId,
+					bypassCache);
+		}
+		String key = searchKey(lat, lng, radius, sort, storeName, isDiscountOpen, page, size, categoryId, bypassCache);
+		return storeSearches.execute(key, () -> storeService.getStores(
+				lat, lng, radius, sort, storeName, isDiscountOpen, page, size, categoryId, bypassCache));
+	}
+
+	public StoreDetailResponseDto getStoreDetailById(Long storeId) {
+		return storeDetails.execute(storeId, () -> storeService.getStoreDetailById(storeId));
+	}
+
+	/**
+	 * 결과가 같은 조회가 같은 키를 갖도록 검색어와 정렬 기준의 대소문자를 통일합니다. (이름 검색은 대소문자 무시)
+	 */
+	static String searchKey(Double lat, Double lng, Double radius, String sort, String storeName,
+			Boolean isDiscountOpen, int page, int size, int categoryId, boolean bypassCache) {
+		String normalizedName = storeName != null ? storeName.toLowerCase(Locale.ROOT) : "";
+		String normalizedSort = sort != null ? sort.toLowerCase(Locale.ROOT) : "";
+		return String.join("|", String.valueOf(lat), String.valueOf(lng), String.valueOf(radius),
+				normalizedSort, normalizedName, String.valueOf(isDiscountOpen),
+				String.valueOf(page), String.valueOf(size), String.valueOf(categoryId), String.valueOf(bypassCache));
+	}
+}
@@ -1,42 +1,74 @@
 package com.luckeat.luckeatbackend.store.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 
 import com.luckeat.luckeatbackend.category.repository.CategoryRepository;
+import com.luckeat.luckeatbackend.common.cdn.CdnPurgeEvent;
+import com.luckeat.luckeatbackend.common.cdn.SurrogateKeys;
+import com.luckeat.luckeatbackend.common.exception.ErrorCode;
+import com.luckeat.luckeatbackend.common.exception.base.BadRequestException;
 import com.luckeat.luckeatbackend.common.exception.store.StoreForbiddenException;
 import com.luckeat.luckeatbackend.common.exception.store.StoreNotFoundException;
 import com.luckeat.luckeatbackend.common.exception.store.StoreUnauthenticatedException;
 import com.luckeat.luckeatbackend.common.exception.user.UserNotFoundException;
 import com.luckeat.luckeatbackend.product.model.Product;
-import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
-import com.luckeat.luckeatbackend.review.repository.ReviewRepository;
+import com.luckeat.luckeatbackend.review.dto.ReviewSliceResponseDto;
+import com.luckeat.luckeatbackend.review.service.LatestReviewCache;
 import com.luckeat.luckeatbackend.store.dto.MyStoreResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreCursor;
 import com.luckeat.luckeatbackend.store.dto.StoreDetailResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreIdPage;
 import com.luckeat.luckeatbackend.store.dto.StoreRequestDto;
 import com.luckeat.luckeatbackend.store.dto.StoreResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreSliceResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreSuggestResponseDto;
+import com.luckeat.luckeatbackend.store.event.StoreCellCacheEvictEvent;
+import com.luckeat.luckeatbackend.store.event.StoreChangedEvent;
+import com.luckeat.luckeatbackend.store.event.StoreListCacheEvictEvent;
+import com.luckeat.luckeatbackend.store.index.GeoSearchMode;
+import com.luckeat.luckeatbackend.store.index.StoreGeoIndex;
+import com.luckeat.luckeatbackend.store.index.StoreIndexEntry;
+import com.luckeat.luckeatbackend.store.index.StoreSearchIndex;
+import com.luckeat.luckeatbackend.store.index.StoreSpatialIndexCheck;
+import com.luckeat.luckeatbackend.store.index.StoreSuggestIndex;
 import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreListJdbcRepository;
 import com.luckeat.luckeatbackend.store.repository.StoreRepository;
 import com.luckeat.luckeatbackend.store.dto.StoreListDto;
 import com.luckeat.luckeatbackend.store.dto.StoreQueryResult;
+import com.luckeat.luckeatbackend.common.util.GeoUtil;
 import com.luckeat.luckeatbackend.common.util.SortUtil;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -46,10 +78,48 @@ public class StoreService {
 
 	private static final Logger logger = LoggerFactory.getLogger(StoreService.class);
 	private final StoreRepository storeRepository;
-	private final ReviewRepository reviewRepository;
+	private final StoreListJdbcRepository storeListJdbcRepository;
+	private final LatestReviewCache latestReviewCache;
 	private final CategoryRepository categoryRepository;
+	private final StoreGeoIndex storeGeoIndex;
+	private final StoreSearchIndex storeSearchIndex;
+	private final StoreSuggestIndex storeSuggestIndex;
+	private final StoreSpatialIndexCheck storeSpatialIndexCheck;
+	private final StoreCellCacheService storeCellCacheService;
+	private final StoreListCacheTags storeListCacheTags;
+	private final StoreListItemCache storeListItemCache;
+	private final CacheManager cacheManager;
+	private final ApplicationEventPublisher eventPublisher;
+	private final EntityManager entityManager;
 
 	private static final String STORE_LIST_CACHE_PREFIX = "storeList::";
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+	private static final int MAX_DETAIL_REVIEW_PAGE_SIZE = 20;
+
+	@Value("${store.geo.mode:INDEX}")
+	private GeoSearchMode geoSearchMode;
+
+	// storeName 검색 시 인메모리 검색 인덱스 사용 여부 (false면 LIKE 쿼리)
+	@Value("${store.search.index-enabled:true}")
+	private boolean searchIndexEnabled;
+
+	// 위치 검색 셀 캐시 (QUERY/SPATIAL 모드에서만 사용)
+	@Value("${store.cache.geo-cell.enabled:false}")
+	private boolean geoCellCacheEnabled;
+
+	// 목록 조회 시 필요한 컬럼만 JDBC로 읽어 DTO로 매핑 (false면 엔티티 조회 후 변환)
+	@Value("${store.list.jdbc-reader-enabled:true}")
+	private boolean jdbcListReaderEnabled;
+
+	// 가게 상세에 포함하는 최신 리뷰 수 (최대 MAX_DETAIL_REVIEW_PAGE_SIZE)
+	@Value("${store.detail.review-page-size:10}")
+	private int detailReviewPageSize;
+
+	@Value("${store.cache.geo-cell.precision:6}")
+	private int geoCellPrecision;
+
+	@Value("${store.cache.geo-cell.radius-step-km:1.0}")
+	private double geoCellRadiusStepKm;
 
 	public List<StoreResponseDto> getStoresByCategory(Long categoryId) {
 		return storeRepository.findAllByCategoryId(categoryId).stream().filter(store -> store.getDeletedAt() == null)
@@ -57,10 +127,30 @@ public class StoreService {
 	}
 
 	public List<StoreResponseDto> getStoresByName(String storeName) {
+		if (useSearchIndex()) {
+			List<StoreSearchIndex.Hit> hits = storeSearchIndex.search(storeName, null, null, null, null);
+			hits.sort(searchHitOrder(null, false));
+			return findStoresInOrder(hits.stream().map(hit -> hit.getEntry().getId()).toList()).stream()
+					.map(StoreResponseDto::fromEntity).toList();
+		}
 		return storeRepository.findByStoreNameContainingAndDeletedAtIsNull(storeName).stream()
 				.map(StoreResponseDto::fromEntity).toList();
 	}
 
+	/**
+	 * 가게 이름 자동완성 후보를 조회합니다.
+	 * 인메모리 트라이에서 바로 응답하며 DB를 조회하지 않습니다.
+	 */
+	public List<StoreSuggestResponseDto> suggestStores(String query, int size) {
+		if (!storeSuggestIndex.isReady()) {
+			return Collections.emptyList();
+		}
+		int limit = Math.max(1, Math.min(size, StoreSuggestIndex.MAX_SUGGESTIONS));
+		return storeSuggestIndex.suggest(query, limit).stream()
+				.map(StoreSuggestResponseDto::fromEntry)
+				.toList();
+	}
+
 	/**
 	 * 가게 ID로 가게 정보를 조회합니다.
 	 * 캐시를 적용하여 성능을 향상시켰습니다.
@@ -75,32 +165,32 @@ public class StoreService {
 
 	/**
 	 * 가게 ID로 가게 상세 정보를 조회합니다.
-	 * 캐시를 적용하여 성능을 향상시켰습니다.
+	 * 가게+상품 1회 쿼리와 최신 리뷰 캐시(미스 시 1회 쿼리)로 쿼리 수가 리뷰 수와 무관하게 고정되며,
+	 * 리뷰는 첫 페이지와 다음 페이지 커서만 담아 캐시 값 크기를 제한합니다.
+	 * 캐시를 적용하여 성능을 향상시켰습니다. (sync 모드, soft TTL 이후 백그라운드 미리 갱신)
 	 */
-	@Cacheable(value = "storeDetailsFull", key = "#storeId")
+	@Cacheable(value = "storeDetailsFull", key = "#storeId", sync = true)
 	public StoreDetailResponseDto getStoreDetailById(Long storeId) {
 		logger.debug("캐시 미스: DB에서 가게 상세 정보 조회 - storeId={}", storeId);
-		Store store = storeRepository.findByIdAndDeletedAtIsNull(storeId)
+		Store store = storeRepository.findDetailById(storeId)
 				.orElseThrow(() -> new StoreNotFoundException("가게를 찾을 수 없습니다."));
 
-		// 가게와 연관된 모든 제품을 한 번에 조회 (Store 엔티티 내 @EntityGraph 가정)
+		// 가게 조회 시 함께 가져온 상품 중 삭제되지 않은 상품만 사용
 		List<Product> activeProducts = store.getProducts().stream().filter(product -> product.getDeletedAt() == null)
 				.collect(Collectors.toList());
 
-		// ReviewRepository를 사용하여 가게에 대한 리뷰 조회
-		List<ReviewResponseDto> reviews = reviewRepository.findByStoreIdAndDeletedAtIsNull(storeId).stream()
-				.map(ReviewResponseDto::fromEntity) // ReviewResponseDto로 변환
-				.collect(Collectors.toList()); // List<ReviewResponseDto>로 변환
+		// 최신 리뷰 첫 페이지 (최신 리뷰 캐시에서 조회, 없을 때만 DB)
+		int reviewPageSize = Math.max(1, Math.min(detailReviewPageSize, MAX_DETAIL_REVIEW_PAGE_SIZE));
+		ReviewSliceResponseDto reviewPage = latestReviewCache.getFirstPage(storeId, reviewPageSize);
 
-		return StoreDetailResponseDto.fromEntity(store, activeProducts, reviews); // 리뷰 포함하여 반환
+		return StoreDetailResponseDto.fromEntity(store, activeProducts, reviewPage);
 	}
 
 	/**
 	 * 새로운 가게를 생성합니다.
-	 * 가게 생성 시 전체 가게 목록 캐시를 삭제합니다.
+	 * 가게 생성 시 가게가 들어갈 수 있는 목록 캐시(전체/해당 카테고리)와 가게 좌표 주변의 위치 검색 셀 캐시를 삭제합니다.
 	 */
 	@Transactional
-	@CacheEvict(value = "stores", allEntries = true)
 	public void createStore(StoreRequestDto request) {
 		// 현재 인증된 사용자 ID 가져오기 (주석 처리됨)
 		Long userId = getCurrentUserId(); // 이 메서드는 주석 처리되어 실제로는 호출 불가 상태여야 함
@@ -109,19 +199,26 @@ public class StoreService {
 		Store store = request.toEntity(userId);
 
 		storeRepository.save(store);
+		eventPublisher.publishEvent(new StoreChangedEvent(StoreChangedEvent.ChangeType.CREATED, store));
+		eventPublisher.publishEvent(new StoreListCacheEvictEvent(
+				StoreListCacheTags.membershipTags(store.getCategoryId(), false)));
+		eventPublisher.publishEvent(new StoreCellCacheEvictEvent(store.getLatitude(), store.getLongitude(), false));
+		eventPublisher.publishEvent(new CdnPurgeEvent(SurrogateKeys.storeLists(store.getCategoryId())));
 
 		logger.info("새 가게 생성 - 캐시 삭제됨: 가게 ID={}, 가게 이름={}", store.getId(), store.getStoreName());
 	}
 
 	/**
 	 * 가게 정보를 업데이트합니다.
-	 * 업데이트 시 관련된 캐시를 모두 삭제합니다.
+	 * 업데이트 시 상세 캐시와 가게의 목록 항목을 삭제합니다.
+	 * 목록 페이지는 카테고리가 바뀌면 속했던/속하게 될 카테고리의 페이지를, 정렬 키가 바뀌면 그 기준의 정렬 페이지만 삭제합니다.
+	 * 위치 검색 셀 캐시는 이전 좌표와 새 좌표 주변만 삭제합니다.
 	 */
 	@Transactional
 	@Caching(evict = {
-		@CacheEvict(value = "stores", allEntries = true),
 		@CacheEvict(value = "storeDetails", key = "#storeId"),
-		@CacheEvict(value = "storeDetailsFull", key = "#storeId")
+		@CacheEvict(value = "storeDetailsFull", key = "#storeId"),
+		@CacheEvict(value = "storeDetailResponses", key = "#storeId")
 	})
 	public void updateStore(Long storeId, StoreRequestDto request) {
 		Store store = storeRepository.findByIdAndDeletedAtIsNull(storeId)
@@ -136,24 +233,60 @@ public class StoreService {
 			throw new StoreForbiddenException("해당 가게에 대한 수정 권한이 없습니다.");
 		}
 
+		// 저장 시 기존 엔티티에 병합되므로 변경 전 필터 값을 먼저 보관
+		Long previousCategoryId = store.getCategoryId();
+		Boolean hasOpenDeal = store.getHasOpenDeal();
+		Float previousRating = store.getAvgRatingGoogle();
+		Long previousShareCount = store.getShareCount();
+		Float previousLatitude = store.getLatitude();
+		Float previousLongitude = store.getLongitude();
+		// 집계 컬럼은 요청 엔티티에 없어 병합 후 null이 되므로(DB에는 쓰지 않음) 이벤트에 실을 값을 보관
+		Long reviewCount = store.getReviewCount();
+		Integer openDealCount = store.getOpenDealCount();
+
 		// 기존 ID와 사용자 ID 유지
 		Store updatedStore = request.toEntity(userId);
 		updatedStore.setId(storeId);
 		// updatedStore.setShareCount(store.getShareCount()); // Store 엔티티에 getShareCount 없으므로 제거
 
-		storeRepository.save(updatedStore);
+		Store savedStore = storeRepository.save(updatedStore);
+		savedStore.setReviewCount(reviewCount);
+		savedStore.setOpenDealCount(openDealCount);
+		savedStore.setHasOpenDeal(hasOpenDeal);
+		eventPublisher.publishEvent(new StoreChangedEvent(StoreChangedEvent.ChangeType.UPDATED, savedStore));
+		Set<String> tags = new LinkedHashSet<>();
+		if (!Objects.equals(previousCategoryId, savedStore.getCategoryId())) {
+			tags.addAll(StoreListCacheTags.membershipTags(previousCategoryId, hasOpenDeal));
+			tags.addAll(StoreListCacheTags.membershipTags(savedStore.getCategoryId(), hasOpenDeal));
+		} else {
+			if (!Objects.equals(previousRating, savedStore.getAvgRatingGoogle())) {
+				tags.addAll(StoreListCacheTags.sortKeyTags(previousCategoryId, hasOpenDeal, "rating"));
+			}
+			if (!Objects.equals(previousShareCount, savedStore.getShareCount())) {
+				tags.addAll(StoreListCacheTags.sortKeyTags(previousCategoryId, hasOpenDeal, "share"));
+			}
+		}
+		eventPublisher.publishEvent(new StoreListCacheEvictEvent(tags, Set.of(storeId)));
+		eventPublisher.publishEvent(new StoreCellCacheEvictEvent(previousLatitude, previousLongitude, false));
+		if (!Objects.equals(previousLatitude, savedStore.getLatitude())
+				|| !Objects.equals(previousLongitude, savedStore.getLongitude())) {
+			eventPublisher.publishEvent(
+					new StoreCellCacheEvictEvent(savedStore.getLatitude(), savedStore.getLongitude(), false));
+		}
+		eventPublisher.publishEvent(new CdnPurgeEvent(
+				SurrogateKeys.storeAndLists(storeId, previousCategoryId, savedStore.getCategoryId())));
 		logger.info("가게 정보 업데이트 - 캐시 삭제됨: storeId={}", storeId);
 	}
 
 	/**
 	 * 가게를 삭제합니다. (논리적 삭제)
-	 * 삭제 시 관련된 캐시를 모두 삭제합니다.
+	 * 삭제 시 상세 캐시와, 가게가 포함될 수 있는 목록 캐시, 가게 좌표 주변의 위치 검색 셀 캐시를 삭제합니다.
 	 */
 	@Transactional
 	@Caching(evict = {
-		@CacheEvict(value = "stores", allEntries = true),
 		@CacheEvict(value = "storeDetails", key = "#storeId"),
-		@CacheEvict(value = "storeDetailsFull", key = "#storeId")
+		@CacheEvict(value = "storeDetailsFull", key = "#storeId"),
+		@CacheEvict(value = "storeDetailResponses", key = "#storeId")
 	})
 	public void deleteStore(Long storeId) {
 		Store store = storeRepository.findByIdAndDeletedAtIsNull(storeId)
@@ -171,92 +304,180 @@ public class StoreService {
 		// 논리적 삭제를 위해 deletedAt 필드 업데이트
 		store.setDeletedAt(LocalDateTime.now());
 		storeRepository.save(store);
+		eventPublisher.publishEvent(new StoreChangedEvent(StoreChangedEvent.ChangeType.DELETED, store));
+		eventPublisher.publishEvent(new StoreListCacheEvictEvent(
+				StoreListCacheTags.membershipTags(store.getCategoryId(), store.getHasOpenDeal()), Set.of(storeId)));
+		eventPublisher.publishEvent(new StoreCellCacheEvictEvent(store.getLatitude(), store.getLongitude(), false));
+		eventPublisher.publishEvent(new CdnPurgeEvent(SurrogateKeys.storeAndLists(storeId, store.getCategoryId())));
 		logger.info("가게 삭제 (논리적) - 캐시 삭제됨: storeId={}", storeId);
 	}
 
+	/**
+	 * 리뷰 작성 시 가게의 리뷰 수를 1 증가시킵니다. (호출한 트랜잭션에 참여)
+	 * 목록 캐시는 가게의 목록 항목과 리뷰순 정렬 페이지만 삭제합니다.
+	 */
+	@Transactional
+	public void increaseReviewCount(Long storeId) {
+		if (storeRepository.incrementReviewCount(storeId) > 0) {
+			evictReviewCountPages(storeId);
+		}
+	}
+
+	/**
+	 * 리뷰 삭제 시 가게의 리뷰 수를 1 감소시킵니다. (0 미만으로 내려가지 않음)
+	 */
+	@Transactional
+	public void decreaseReviewCount(Long storeId) {
+		if (storeRepository.decrementReviewCount(storeId) > 0) {
+			evictReviewCountPages(storeId);
+		}
+	}
+
+	private void evictReviewCountPages(Long storeId) {
+		storeRepository.findById(storeId).ifPresent(store -> {
+			// 네이티브 UPDATE로 바뀐 리뷰 수를 인덱스(리뷰순 정렬)에 반영하도록 이 가게만 다시 읽음
+			// (같은 트랜잭션에서 이후에 이 가게를 조회해도 새 리뷰 수를 보게 됨)
+			entityManager.refresh(store);
+			eventPublisher.publishEvent(new StoreChangedEvent(StoreChangedEvent.ChangeType.UPDATED, store));
+			eventPublisher.publishEvent(new StoreListCacheEvictEvent(
+					StoreListCacheTags.reviewCountTags(store.getCategoryId(), store.getHasOpenDeal()), Set.of(storeId)));
+			eventPublisher.publishEvent(new CdnPurgeEvent(SurrogateKeys.storeAndLists(storeId, store.getCategoryId())));
+		});
+	}
+
+	/**
+	 * 상품 판매 상태가 바뀔 수 있는 작업 뒤에 가게의 마감할인 상태(open_deal_count, has_open_deal)를 재계산합니다.
+	 * 호출한 트랜잭션에 참여하므로 상품 변경과 함께 커밋/롤백되며, 상품 정보가 바뀌므로 관련 캐시를 삭제합니다.
+	 * 목록 캐시와 위치 검색 셀 캐시는 상태가 실제로 바뀐 경우 할인 여부로 필터링한 항목만 삭제합니다. (셀 캐시는 가게 좌표 주변만)
+	 */
+	@Transactional
+	@Caching(evict = {
+		@CacheEvict(value = "storeDetails", key = "#storeId"),
+		@CacheEvict(value = "storeDetailsFull", key = "#storeId"),
+		@CacheEvict(value = "storeDetailResponses", key = "#storeId")
+	})
+	public void refreshOpenDealState(Long storeId) {
+		if (storeRepository.refreshOpenDealCount(storeId) == 0) {
+			return;
+		}
+		storeRepository.findById(storeId).ifPresent(store -> {
+			// 네이티브 UPDATE로 바뀐 마감할인 상태를 인덱스에 반영하도록 이 가게만 다시 읽음
+			entityManager.refresh(store);
+			eventPublisher.publishEvent(new StoreChangedEvent(StoreChangedEvent.ChangeType.UPDATED, store));
+			eventPublisher.publishEvent(new StoreListCacheEvictEvent(StoreListCacheTags.openDealTags(store.getCategoryId())));
+			eventPublisher.publishEvent(new StoreCellCacheEvictEvent(store.getLatitude(), store.getLongitude(), true));
+			eventPublisher.publishEvent(new CdnPurgeEvent(SurrogateKeys.storeAndLists(storeId, store.getCategoryId())));
+		});
+		logger.info("마감할인 상태 변경: storeId={}", storeId);
+	}
+
 	/**
 	 * 가게의 평균 평점을 업데이트합니다.
-	 * 업데이트 시 관련된 캐시를 삭제합니다.
+	 * 업데이트 시 상세 캐시를 삭제합니다. 평균 평점은 목록 응답과 정렬 기준에 없으므로 목록/셀 캐시는 유지합니다.
 	 */
 	@Transactional
 	@Caching(evict = {
-		@CacheEvict(value = "stores", allEntries = true),
 		@CacheEvict(value = "storeDetails", key = "#storeId"),
-		@CacheEvict(value = "storeDetailsFull", key = "#storeId")
+		@CacheEvict(value = "storeDetailsFull", key = "#storeId"),
+		@CacheEvict(value = "storeDetailResponses", key = "#storeId")
 	})
 	public void updateAverageRating(Long storeId, float averageRating) {
 		Store store = storeRepository.findByIdAndDeletedAtIsNull(storeId)
 				.orElseThrow(() -> new StoreNotFoundException("Store not found with id: " + storeId));
 		store.setAvgRating(averageRating); // setAverageRating -> setAvgRating (엔티티 필드명 기준)
 		storeRepository.save(store);
+		eventPublisher.publishEvent(new StoreChangedEvent(StoreChangedEvent.ChangeType.UPDATED, store));
+		eventPublisher.publishEvent(new CdnPurgeEvent(Set.of(SurrogateKeys.store(storeId))));
 		logger.info("평균 평점 업데이트 - 캐시 삭제됨: storeId={}", storeId);
 	}
 
 	/**
 	 * 가게 목록을 조회합니다. 페이징 및 정렬 기능을 포함합니다.
 	 * 위치 기반 검색, 이름 검색, 할인 여부 필터링, 카테고리 필터링 기능을 제공합니다.
-	 * 캐시를 적용하여 성능을 향상시켰습니다. 조건부 캐싱을 사용하여 다양한 검색 조건에 대응합니다.
+	 * 캐시 대상 조회(위치/이름 검색이 아닌 목록)는 페이지의 가게 ID 순서만 storePages 캐시에 저장하고,
+	 * 표시 값은 가게별 목록 항목 캐시에서 한 번의 MGET으로 채웁니다.
+	 * 페이지 캐시는 값 로더와 함께 조회해 만료 시 동시 요청 중 하나만 DB를 조회하고, soft TTL 이후에는 백그라운드에서 미리 갱신합니다.
 	 *
 	 * @param bypassCache true일 경우 캐시를 사용하지 않고 DB에서 직접 조회합니다.
 	 * @return 가게 목록 검색 결과 (페이징 정보 포함)
 	 */
-	@Cacheable(value = "stores", key = "T(com.luckeat.luckeatbackend.store.service.StoreService).generateCacheKey(#sort, #isDiscountOpen, #page, #size, #categoryId)",
-			   condition = "!#bypassCache && #storeName == null && (#lat == null || #lng == null)")
 	public StoreQueryResult getStores(Double lat, Double lng, Double radius, String sort,
 										String storeName, Boolean isDiscountOpen, int page, int size, int categoryId, boolean bypassCache) {
+		if (!isListCacheable(lat, lng, storeName, bypassCache)) {
+			return queryStores(lat, lng, radius, sort, storeName, isDiscountOpen, page, size, categoryId, bypassCache);
+		}
+
+		long startTime = System.currentTimeMillis();
+		String cacheKey = generateCacheKey(sort, isDiscountOpen, page, size, categoryId);
+		StoreIdPage idPage;
+		try {
+			Cache pageCache = cacheManager.getCache(StoreListCacheTags.CACHE_NAME);
+			idPage = pageCache.get(cacheKey, () -> loadIdPage(cacheKey, sort, isDiscountOpen, page, size, categoryId));
+		} catch (Cache.ValueRetrievalException e) {
+			// @Cacheable과 같이 조회 중 발생한 예외를 그대로 전달
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+
+		List<StoreListDto> content = storeListItemCache.getAll(idPage.getIds(), this::findStoreListInOrder);
+		return new StoreQueryResult(content, idPage.getTotalElements(), idPage.getTotalPages(),
+				System.currentTimeMillis() - startTime);
+	}
 
+	/**
+	 * 캐시 미스/갱신 시 목록 페이지를 조회해 가게별 목록 항목을 저장하고 ID 순서만 반환합니다.
+	 */
+	private StoreIdPage loadIdPage(String cacheKey, String sort, Boolean isDiscountOpen, int page, int size,
+			int categoryId) {
+		StoreQueryResult result = queryStores(null, null, null, sort, null, isDiscountOpen, page, size, categoryId, false);
+		storeListItemCache.putAll(result.getContent());
+		storeListCacheTags.register(cacheKey, sort, isDiscountOpen, categoryId);
+		ArrayList<Long> ids = result.getContent().stream().map(StoreListDto::getId)
+				.collect(Collectors.toCollection(ArrayList::new));
+		return new StoreIdPage(ids, result.getTotalElements(), result.getTotalPages());
+	}
+
+	private StoreQueryResult queryStores(Double lat, Double lng, Double radius, String sort, String storeName,
+			Boolean isDiscountOpen, int page, int size, int categoryId, boolean bypassCache) {
 		if (bypassCache) {
 			logger.info("캐시 우회: DB에서 직접 가게 목록 조회 수행");
 		}
 
 		long startTime = System.currentTimeMillis(); // 쿼리 시간 측정 시작
 
+		if (useGeoCellCache(lat, lng, radius, storeName, bypassCache)) {
+			return getStoresFromGeoCell(lat, lng, radius, isDiscountOpen, page, size, categoryId, startTime);
+		}
+
 		Sort sortOrder = SortUtil.parseSortParameter(sort);
 		Pageable pageable = PageRequest.of(page, size, sortOrder);
 
-		// 1. 가게 정보 조회 (엔티티)
-		Page<Store> storePage;
-		if (lat != null && lng != null) {
+		// 1. 가게 목록 조회
+		Page<StoreListDto> storePage;
+		if (storeName != null && useSearchIndex()) {
+			storePage = findStoresWithSearchIndex(categoryId, storeName, isDiscountOpen, lat, lng, radius, sort, pageable);
+		} else if (lat != null && lng != null && geoSearchMode == GeoSearchMode.INDEX && storeGeoIndex.isReady()) {
+			storePage = findStoresWithGeoIndex(categoryId, storeName, isDiscountOpen, lat, lng, radius, pageable);
+		} else if (jdbcListReaderEnabled) {
+			storePage = findStoresWithJdbc(categoryId, storeName, isDiscountOpen, lat, lng, radius, pageable);
+		} else if (lat != null && lng != null && radius != null && useSpatialIndex()) {
+			String bbox = GeoUtil.toWktPolygon(GeoUtil.boundingBox(lat, lng, radius));
+			storePage = storeRepository.findStoresWithinBoundingBox(
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, bbox, pageable).map(StoreListDto::fromEntity);
+		} else if (lat != null && lng != null) {
 			//logger.debug("위치 기반 가게 조회 수행: lat={}, lng={}, radius={}, ...", lat, lng, radius);
 			storePage = storeRepository.findStoresWithLocation(
-					categoryId, storeName, isDiscountOpen, lat, lng, radius, pageable);
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, pageable).map(StoreListDto::fromEntity);
 		} else {
 			//logger.debug("위치 정보 없는 가게 조회 수행: ...");
 			storePage = storeRepository.findStoresWithoutLocation(
-					categoryId, storeName, isDiscountOpen, pageable);
+					categoryId, storeName, isDiscountOpen, pageable).map(StoreListDto::fromEntity);
 		}
 
-		List<Store> stores = storePage.getContent();
-		List<StoreListDto> content;
-
-		if (!stores.isEmpty()) {
-			// 2. 조회된 가게 ID 목록 추출
-			List<Long> storeIds = stores.stream().map(Store::getId).collect(Collectors.toList());
-
-			// 3. 리뷰 수 조회
-			List<Map<String, Object>> reviewCountsResult = reviewRepository.findReviewCountsByStoreIds(storeIds);
-			//logger.debug("리뷰 수 조회 결과 ({}개 가게): {}", reviewCountsResult.size(), reviewCountsResult);
-
-			// 4. 리뷰 수 Map 생성 (storeId -> reviewCount)
-			Map<Long, Long> reviewCountMap = reviewCountsResult.stream()
-					.collect(Collectors.toMap(
-						map -> (Long) map.get("storeId"),
-						map -> (Long) map.get("reviewCount"),
-						(count1, count2) -> count1 // 중복 키 발생 시 처리 (이론상 발생 안 함)
-					)); 
-			//logger.debug("생성된 리뷰 수 Map: {}", reviewCountMap);
-
-			// 5. DTO 변환 및 리뷰 수 설정
-			content = stores.stream().map(store -> {
-				StoreListDto dto = StoreListDto.fromEntity(store);
-				long count = reviewCountMap.getOrDefault(store.getId(), 0L);
-				dto.setReviewCount(count);
-				//logger.trace("Store ID: {}, Review Count: {}", store.getId(), count);
-				return dto;
-			}).collect(Collectors.toList());
-		} else {
-			content = Collections.emptyList();
-		}
+		// 캐시 직렬화 시 타입 정보가 남으므로 ArrayList로 복사
+		List<StoreListDto> content = new ArrayList<>(storePage.getContent());
 
 		long totalElements = storePage.getTotalElements();
 		int totalPages = storePage.getTotalPages();
@@ -268,6 +489,247 @@ public class StoreService {
 		return new StoreQueryResult(content, totalElements, totalPages, queryExecutionTimeMs);
 	}
 
+	private boolean useSearchIndex() {
+		return searchIndexEnabled && storeSearchIndex.isReady();
+	}
+
+	/**
+	 * SPATIAL 모드이고 store.location SPATIAL 인덱스가 확인된 경우에만 사각 영역 조건을 사용합니다. (없으면 QUERY 방식)
+	 */
+	private boolean useSpatialIndex() {
+		return geoSearchMode == GeoSearchMode.SPATIAL && storeSpatialIndexCheck.isAvailable();
+	}
+
+	private boolean useGeoCellCache(Double lat, Double lng, Double radius, String storeName, boolean bypassCache) {
+		return geoCellCacheEnabled && !bypassCache && storeName == null
+				&& lat != null && lng != null && radius != null
+				&& geoSearchMode != GeoSearchMode.INDEX;
+	}
+
+	/**
+	 * 셀 캐시에서 후보를 가져와 실제 좌표 기준 거리로 다시 필터링/정렬한 뒤 페이지를 잘라 반환합니다.
+	 * 정렬은 네이티브 쿼리와 같이 거리 오름차순입니다.
+	 */
+	private StoreQueryResult getStoresFromGeoCell(double lat, double lng, double radius, Boolean isDiscountOpen,
+			int page, int size, int categoryId, long startTime) {
+		String cell = GeoUtil.geohash(lat, lng, geoCellPrecision);
+		double radiusBucket = Math.ceil(radius / geoCellRadiusStepKm) * geoCellRadiusStepKm;
+		GeoSearchMode mode = useSpatialIndex() ? GeoSearchMode.SPATIAL : GeoSearchMode.QUERY;
+		List<StoreListDto> candidates = storeCellCacheService.getCellCandidates(
+				cell, radiusBucket, isDiscountOpen, categoryId, mode);
+
+		List<StoreListDto> matched = candidates.stream()
+				.filter(dto -> dto.getLatitude() != null && dto.getLongitude() != null)
+				.map(dto -> Map.entry(dto, GeoUtil.distanceKm(lat, lng, dto.getLatitude(), dto.getLongitude())))
+				.filter(entry -> entry.getValue() <= radius)
+				.sorted(Map.Entry.<StoreListDto, Double>comparingByValue()
+						.thenComparing(entry -> entry.getKey().getId()))
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+
+		int fromIndex = (int) Math.min((long) page * size, matched.size());
+		int toIndex = Math.min(fromIndex + size, matched.size());
+		List<StoreListDto> content = new ArrayList<>(matched.subList(fromIndex, toIndex));
+
+		int totalPages = size == 0 ? 1 : (int) Math.ceil((double) matched.size() / size);
+		return new StoreQueryResult(content, matched.size(), totalPages, System.currentTimeMillis() - startTime);
+	}
+
+	/**
+	 * 가게 목록을 커서 기반으로 조회합니다. (무한 스크롤용)
+	 * OFFSET/COUNT 쿼리 없이 마지막으로 반환한 (정렬 키, ID) 이후의 행만 읽으므로 페이지 깊이와 관계없이 비용이 일정합니다.
+	 *
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+	 * @return 가게 목록과 다음 페이지 커서
+	 */
+	public StoreSliceResponseDto getStoresByCursor(Double lat, Double lng, Double radius, String sort,
+			String storeName, Boolean isDiscountOpen, String cursor, int size, int categoryId) {
+		if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+			throw new BadRequestException(ErrorCode.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+		}
+		boolean hasLocation = lat != null && lng != null;
+		StoreCursor.SortType sortType = StoreCursor.SortType.from(sort, hasLocation);
+		StoreCursor lastCursor = StoreCursor.decode(cursor, sortType);
+		Double lastKey = lastCursor != null ? lastCursor.getKey() : null;
+		Long lastId = lastCursor != null ? lastCursor.getId() : null;
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		int limit = size + 1;
+		List<StoreRepository.KeysetRow> rows = switch (sortType) {
+			case SHARE -> storeRepository.findShareKeyset(
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, lastKey, lastId, limit);
+			case RATING -> findRatingKeyset(
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, lastKey, lastId, limit);
+			case REVIEW -> storeRepository.findReviewKeyset(
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, lastKey, lastId, limit);
+			case DISTANCE -> storeRepository.findDistanceKeyset(
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, lastKey, lastId, limit);
+			case ID -> storeRepository.findIdKeyset(
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, lastId, limit);
+		};
+
+		boolean hasNext = rows.size() > size;
+		List<StoreRepository.KeysetRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+		List<Long> pageIds = pageRows.stream().map(StoreRepository.KeysetRow::getId).toList();
+
+		List<StoreListDto> stores = findStoreListInOrder(pageIds);
+
+		String nextCursor = null;
+		if (hasNext) {
+			StoreRepository.KeysetRow last = pageRows.get(pageRows.size() - 1);
+			nextCursor = new StoreCursor(sortType, last.getSortKey(), last.getId()).encode();
+		}
+
+		return StoreSliceResponseDto.builder()
+				.content(stores)
+				.size(size)
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.build();
+	}
+
+	/**
+	 * 별점순 커서 조회: 별점 있는 가게(별점 내림차순)를 먼저 채우고, 모자라면 별점 없는 가게(ID 내림차순)로 이어서 채웁니다.
+	 * 커서의 정렬 키가 비어 있으면 이미 별점 없는 구간이므로 그 구간만 조회합니다.
+	 */
+	private List<StoreRepository.KeysetRow> findRatingKeyset(int categoryId, String storeName, Boolean isDiscountOpen,
+			Double lat, Double lng, Double radius, Double lastKey, Long lastId, int limit) {
+		if (lastId != null && lastKey == null) {
+			return storeRepository.findUnratedKeyset(
+					categoryId, storeName, isDiscountOpen, lat, lng, radius, lastId, limit);
+		}
+		List<StoreRepository.KeysetRow> rows = storeRepository.findRatingKeyset(
+				categoryId, storeName, isDiscountOpen, lat, lng, radius, lastKey, lastId, limit);
+		if (rows.size() >= limit) {
+			return rows;
+		}
+		List<StoreRepository.KeysetRow> merged = new ArrayList<>(rows);
+		merged.addAll(storeRepository.findUnratedKeyset(
+				categoryId, storeName, isDiscountOpen, lat, lng, radius, null, limit - rows.size()));
+		return merged;
+	}
+
+	/**
+	 * DB 조건 검색을 JDBC 목록 전용 조회로 처리합니다. (SPATIAL 모드는 사각 영역 조건 포함)
+	 */
+	private Page<StoreListDto> findStoresWithJdbc(int categoryId, String storeName, Boolean isDiscountOpen,
+			Double lat, Double lng, Double radius, Pageable pageable) {
+		if (lat == null || lng == null) {
+			return storeListJdbcRepository.findStoresWithoutLocation(categoryId, storeName, isDiscountOpen, pageable);
+		}
+		String bbox = radius != null && useSpatialIndex()
+				? GeoUtil.toWktPolygon(GeoUtil.boundingBox(lat, lng, radius))
+				: null;
+		return storeListJdbcRepository.findStoresWithLocation(
+				categoryId, storeName, isDiscountOpen, lat, lng, radius, bbox, pageable);
+	}
+
+	/**
+	 * 인메모리 격자 인덱스로 반경/필터/거리순 정렬을 처리하고 해당 페이지의 가게만 DB에서 조회합니다.
+	 * 결과 순서는 네이티브 쿼리와 같이 거리 오름차순입니다.
+	 */
+	private Page<StoreListDto> findStoresWithGeoIndex(int categoryId, String storeName, Boolean isDiscountOpen,
+			Double lat, Double lng, Double radius, Pageable pageable) {
+		Predicate<StoreIndexEntry> filter = buildIndexFilter(categoryId, isDiscountOpen);
+		if (storeName != null) {
+			String keyword = storeName.toLowerCase();
+			filter = filter.and(entry -> entry.getStoreName() != null
+					&& entry.getStoreName().toLowerCase().contains(keyword));
+		}
+
+		List<StoreGeoIndex.Hit> hits = storeGeoIndex.search(lat, lng, radius, filter);
+		List<Long> ids = hits.stream().map(hit -> hit.getEntry().getId()).toList();
+		return toPage(ids, pageable);
+	}
+
+	/**
+	 * 인메모리 검색 인덱스로 이름/주소/설명 검색과 카테고리/할인/반경 필터, 정렬을 처리하고
+	 * 해당 페이지의 가게만 DB에서 조회합니다.
+	 */
+	private Page<StoreListDto> findStoresWithSearchIndex(int categoryId, String storeName, Boolean isDiscountOpen,
+			Double lat, Double lng, Double radius, String sort, Pageable pageable) {
+		boolean hasLocation = lat != null && lng != null;
+		List<StoreSearchIndex.Hit> hits = storeSearchIndex.search(storeName, lat, lng, radius,
+				buildIndexFilter(categoryId, isDiscountOpen));
+		hits.sort(searchHitOrder(sort, hasLocation));
+		List<Long> ids = hits.stream().map(hit -> hit.getEntry().getId()).toList();
+		return toPage(ids, pageable);
+	}
+
+	/**
+	 * 검색 결과 정렬 기준
+	 * 위치가 있으면 네이티브 쿼리와 같이 거리순, 없으면 sort 파라미터 기준이며
+	 * 정렬 기준이 없으면 이름 일치 결과를 주소/설명 일치 결과보다 앞에 둡니다.
+	 */
+	private static Comparator<StoreSearchIndex.Hit> searchHitOrder(String sort, boolean hasLocation) {
+		Comparator<StoreSearchIndex.Hit> order;
+		String property = sort == null ? "" : sort.split(",")[0].trim().toLowerCase();
+		if (hasLocation) {
+			order = Comparator.comparingDouble(StoreSearchIndex.Hit::getDistanceKm);
+		} else if ("share".equals(property)) {
+			order = Comparator.comparingLong((StoreSearchIndex.Hit hit) -> hit.getEntry().getShareCount()).reversed();
+		} else if ("rating".equals(property)) {
+			order = Comparator.comparing((StoreSearchIndex.Hit hit) -> hit.getEntry().getAvgRatingGoogle(),
+					Comparator.nullsLast(Comparator.<Float>reverseOrder()));
+		} else if ("review".equals(property)) {
+			order = Comparator.comparingLong((StoreSearchIndex.Hit hit) -> hit.getEntry().getReviewCount()).reversed();
+		} else {
+			order = Comparator.comparing(StoreSearchIndex.Hit::isNameMatch).reversed();
+		}
+		return order.thenComparing(hit -> hit.getEntry().getId());
+	}
+
+	/**
+	 * 인메모리 인덱스 공통 필터 (카테고리, 할인 여부)
+	 */
+	private Predicate<StoreIndexEntry> buildIndexFilter(int categoryId, Boolean isDiscountOpen) {
+		Predicate<StoreIndexEntry> filter = entry -> categoryId == 0
+				|| (entry.getCategoryId() != null && entry.getCategoryId() == categoryId);
+		if (isDiscountOpen != null) {
+			filter = filter.and(entry -> entry.isHasOpenDeal() == isDiscountOpen);
+		}
+		return filter;
+	}
+
+	/**
+	 * 인덱스가 정한 순서의 ID 목록에서 요청 페이지에 해당하는 가게만 조회합니다.
+	 */
+	private Page<StoreListDto> toPage(List<Long> orderedIds, Pageable pageable) {
+		int fromIndex = (int) Math.min(pageable.getOffset(), orderedIds.size());
+		int toIndex = Math.min(fromIndex + pageable.getPageSize(), orderedIds.size());
+		return new PageImpl<>(findStoreListInOrder(orderedIds.subList(fromIndex, toIndex)), pageable, orderedIds.size());
+	}
+
+	/**
+	 * ID 목록 순서대로 삭제되지 않은 가게의 목록 DTO를 조회합니다.
+	 */
+	private List<StoreListDto> findStoreListInOrder(List<Long> ids) {
+		if (jdbcListReaderEnabled) {
+			return storeListJdbcRepository.findAllByIdsInOrder(ids);
+		}
+		return findStoresInOrder(ids).stream().map(StoreListDto::fromEntity).collect(Collectors.toList());
+	}
+
+	/**
+	 * ID 목록 순서대로 삭제되지 않은 가게를 조회합니다. (findAllById는 순서를 보장하지 않음)
+	 */
+	private List<Store> findStoresInOrder(List<Long> ids) {
+		Map<Long, Store> storeMap = storeRepository.findAllById(ids).stream()
+				.filter(store -> store.getDeletedAt() == null)
+				.collect(Collectors.toMap(Store::getId, Function.identity()));
+		return ids.stream()
+				.map(storeMap::get)
+				.filter(Objects::nonNull)
+				.toList();
+	}
+
+	/**
+	 * 가게 목록 캐시(stores) 대상 여부 (이름 검색, 위치 기반 조회는 캐시하지 않음)
+	 */
+	public static boolean isListCacheable(Double lat, Double lng, String storeName, boolean bypassCache) {
+		return !bypassCache && storeName == null && (lat == null || lng == null);
+	}
+
 	/**
 	 * 캐시 키 생성 메서드
 	 */
@@ -278,6 +740,16 @@ public class StoreService {
 				page, size, categoryId);
 	}
 
+	/**
+	 * 위치 검색 셀 캐시 키 생성 메서드 (geohash 셀 + 반경 구간)
+	 */
+	public static String generateCacheKey(String cell, double radiusBucket, Boolean isDiscountOpen, int categoryId) {
+		return String.format(Locale.ROOT, "%s_%.2f_%s_%d",
+				cell, radiusBucket,
+				isDiscountOpen != null ? isDiscountOpen.toString() : "all",
+				categoryId);
+	}
+
 	/**
 	 * 현재 인증된 사용자의 ID를 반환합니다. (주석 처리됨 - Member 클래스 필요)
 	 * Spring Security Context Holder를 사용합니다.
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.luckeat.luckeatbackend.users.model.User;
@@ -26,4 +29,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByNicknameAndDeletedAtIsNull(String nickname);
 	boolean existsByEmailAndDeletedAtIsNull(String email);
 	boolean existsByNicknameAndDeletedAtIsNull(String nickname);
+
+	// 픽업 확정 시 총 상품 갯수와 절약 금액을 읽지 않고 누적
+	@Modifying
+	@Query("UPDATE User u SET u.totalProductCount = u.totalProductCount + :productCount, " +
+		"u.totalSavedMoney = u.totalSavedMoney + :savedMoney WHERE u.id = :userId")
+	int increaseTotals(@Param("userId") Long userId, @Param("productCount") int productCount,
+		@Param("savedMoney") int savedMoney);
 }
@@ -0,0 +1,25 @@
+-- store 비정규화 카운터(review_count, open_deal_count, has_open_deal) 초기값 채우기 (MySQL 8.0)
+-- 컬럼을 추가한 뒤 한 번 실행합니다. 이후에는 리뷰 작성/삭제, 상품 판매 상태 변경 트랜잭션에서 갱신됩니다.
+-- 불일치 보정이 다시 필요하면 이 스크립트를 다시 실행하거나, store.counters.sync-on-startup=true로 한 인스턴스만 띄웁니다.
+-- 각 문장은 값이 다른 가게 행을 잠그므로 트래픽이 적은 시간에 실행합니다.
+-- updated_at을 갱신해 실행 중인 인스턴스의 인메모리 인덱스가 증분 동기화로 새 값을 받도록 합니다.
+
+UPDATE store s
+    LEFT JOIN (SELECT r.store_id, COUNT(*) AS cnt
+               FROM review r
+               WHERE r.deleted_at IS NULL
+               GROUP BY r.store_id) rc ON rc.store_id = s.id
+SET s.review_count = COALESCE(rc.cnt, 0),
+    s.updated_at   = NOW()
+WHERE s.review_count <> COALESCE(rc.cnt, 0);
+
+UPDATE store s
+    LEFT JOIN (SELECT p.store_id, COUNT(*) AS cnt
+               FROM product p
+               WHERE p.is_open = true AND p.deleted_at IS NULL
+               GROUP BY p.store_id) oc ON oc.store_id = s.id
+SET s.open_deal_count = COALESCE(oc.cnt, 0),
+    s.has_open_deal   = (COALESCE(oc.cnt, 0) > 0),
+    s.updated_at      = NOW()
+WHERE s.open_deal_count <> COALESCE(oc.cnt, 0)
+   OR s.has_open_deal <> (COALESCE(oc.cnt, 0) > 0);
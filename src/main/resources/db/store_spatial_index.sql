@@ -0,0 +1,12 @@
+-- SPATIAL 모드(store.geo.mode=SPATIAL)용 store 스키마 변경 (MySQL 8.0)
+-- 애플리케이션은 시작 시 컬럼/인덱스 존재 여부만 확인(StoreSpatialIndexCheck)하고, 없으면 QUERY 방식으로 대체합니다.
+-- 배포 전에 운영 DB에 한 번 적용한 뒤 store.geo.mode=SPATIAL로 배포합니다.
+-- 두 문장 모두 테이블을 다시 쓰므로 트래픽이 적은 시간에 실행합니다.
+
+-- 위경도로부터 자동 계산되는 위치 컬럼 (STORED, 가게 저장/수정 시 애플리케이션에서 값을 채울 필요 없음)
+-- MySQL 내부 저장 순서는 (경도, 위도)이므로 POINT(longitude, latitude)에 SRID만 지정
+ALTER TABLE store
+    ADD COLUMN location POINT SRID 4326
+        GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL;
+
+CREATE SPATIAL INDEX idx_store_location ON store (location);
@@ -3,6 +3,7 @@ package com.luckeat.luckeatbackend.category.service;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.lenient;
@@ -21,9 +23,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.luckeat.luckeatbackend.category.model.Category;
 import com.luckeat.luckeatbackend.category.repository.CategoryRepository;
+import com.luckeat.luckeatbackend.common.cdn.CdnPurgeEvent;
+import com.luckeat.luckeatbackend.common.cdn.SurrogateKeys;
 import com.luckeat.luckeatbackend.common.exception.category.CategoryInvalidImageException;
 import com.luckeat.luckeatbackend.common.exception.category.CategoryInvalidNameException;
 import com.luckeat.luckeatbackend.common.exception.category.CategoryNameDuplicateException;
@@ -34,6 +39,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
     
@@ -104,6 +112,8 @@ class CategoryServiceTest {
         assertThat(savedCategory.getCategoryName()).isEqualTo("한식");
         verify(categoryRepository, times(1)).existsByCategoryNameAndDeletedAtIsNull("한식");
         verify(categoryRepository, times(1)).save(category);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CdnPurgeEvent purge
+                && purge.getSurrogateKeys().equals(Set.of(SurrogateKeys.CATEGORIES))));
     }
 
     @Test
@@ -0,0 +1,85 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luckeat.luckeatbackend.config.CacheConfig;
+import com.luckeat.luckeatbackend.store.dto.StoreDetailResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreIdPage;
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+import com.luckeat.luckeatbackend.store.dto.StoreQueryResult;
+
+/**
+ * 캐시 값 직렬화 형식 비교 (이전 JSON + 클래스 이름 vs Smile vs Smile + LZ4)
+ * 실제 캐시 값 형태(CacheEntry로 감싼 목록 페이지/가게 상세)로 크기와 인코딩/디코딩 시간을 출력합니다.
+ * 시간 측정이라 CACHE_CODEC_BENCHMARK=true 환경 변수가 있을 때만 실행합니다.
+ * 예) CACHE_CODEC_BENCHMARK=true ./gradlew test --tests '*CacheValueSerializerBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "CACHE_CODEC_BENCHMARK", matches = "true")
+class CacheValueSerializerBenchmarkTest {
+
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final ObjectMapper binaryMapper = CacheConfig.binaryObjectMapper();
+    private final GenericJackson2JsonRedisSerializer legacy =
+            new GenericJackson2JsonRedisSerializer(CacheConfig.legacyObjectMapper());
+
+    @Test
+    @DisplayName("목록 페이지(20개) ID 값과 가게별 목록 항목의 형식별 크기/시간을 출력한다")
+    void compareStoreListPage() {
+        StoreQueryResult result = CacheValueSerializerTest.storeQueryResult(20);
+        ArrayList<Long> ids = result.getContent().stream().map(StoreListDto::getId)
+                .collect(Collectors.toCollection(ArrayList::new));
+        CacheEntry entry = new CacheEntry(new StoreIdPage(ids, result.getTotalElements(), result.getTotalPages()),
+                System.currentTimeMillis(), 12);
+        report("storePages", entry, StoreIdPage.class);
+        print("storeListItems", "json+class", legacy, result.getContent().get(0));
+        print("storeListItems", "smile", new CacheValueSerializer(binaryMapper,
+                binaryMapper.constructType(StoreListDto.class), 0, legacy), result.getContent().get(0));
+    }
+
+    @Test
+    @DisplayName("가게 상세(상품 3개, 리뷰 10개) 값의 형식별 크기/시간을 출력한다")
+    void compareStoreDetail() {
+        CacheEntry entry = new CacheEntry(CacheValueSerializerTest.storeDetail(10), System.currentTimeMillis(), 15);
+        report("storeDetailsFull", entry, StoreDetailResponseDto.class);
+    }
+
+    private void report(String name, CacheEntry entry, Class<?> valueType) {
+        print(name, "json+class", legacy, entry);
+        print(name, "smile", new CacheValueSerializer(binaryMapper, binaryMapper.constructType(valueType), 0, legacy),
+                entry);
+        print(name, "smile+lz4", new CacheValueSerializer(binaryMapper, binaryMapper.constructType(valueType), 1,
+                legacy), entry);
+    }
+
+    private static void print(String name, String format, RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+        for (int i = 0; i < WARMUP; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize(value);
+        }
+        double encodeMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(bytes);
+        }
+        double decodeMicros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+
+        System.out.printf("[%s] %-10s %6d bytes, encode %.2f us/op, decode %.2f us/op%n",
+                name, format, bytes.length, encodeMicros, decodeMicros);
+    }
+}
@@ -0,0 +1,177 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luckeat.luckeatbackend.config.CacheConfig;
+import com.luckeat.luckeatbackend.product.dto.ProductResponseDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreDetailResponseDto;
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+import com.luckeat.luckeatbackend.store.dto.StoreQueryResult;
+
+class CacheValueSerializerTest {
+
+    private final ObjectMapper binaryMapper = CacheConfig.binaryObjectMapper();
+    private final GenericJackson2JsonRedisSerializer legacy =
+            new GenericJackson2JsonRedisSerializer(CacheConfig.legacyObjectMapper());
+
+    @Test
+    @DisplayName("CacheEntry로 감싼 상세 DTO를 저장 시각과 함께 복원한다")
+    void roundTripsEntry() {
+        CacheValueSerializer serializer = serializer(StoreDetailResponseDto.class, 0);
+        CacheEntry entry = new CacheEntry(storeDetail(3), 1_700_000_000_000L, 42);
+
+        CacheEntry restored = (CacheEntry) serializer.deserialize(serializer.serialize(entry));
+
+        assertThat(restored.getCreatedAt()).isEqualTo(1_700_000_000_000L);
+        assertThat(restored.getComputeMillis()).isEqualTo(42);
+        assertThat(restored.getValue()).usingRecursiveComparison().isEqualTo(entry.getValue());
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상이면 압축하고 그대로 복원한다")
+    void compressesLargeValues() {
+        CacheValueSerializer uncompressed = serializer(StoreQueryResult.class, 0);
+        CacheValueSerializer compressed = serializer(StoreQueryResult.class, 256);
+        StoreQueryResult result = storeQueryResult(20);
+
+        byte[] bytes = compressed.serialize(result);
+
+        assertThat(bytes.length).isLessThan(uncompressed.serialize(result).length);
+        assertThat(compressed.deserialize(bytes)).usingRecursiveComparison().isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("목록 타입은 ArrayList로 복원한다")
+    void restoresListAsArrayList() {
+        CacheValueSerializer serializer = new CacheValueSerializer(binaryMapper,
+                binaryMapper.getTypeFactory().constructCollectionType(ArrayList.class, StoreListDto.class), 0, legacy);
+        List<StoreListDto> stores = new ArrayList<>(storeQueryResult(5).getContent());
+
+        Object restored = serializer.deserialize(serializer.serialize(stores));
+
+        assertThat(restored).isInstanceOf(ArrayList.class);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(stores);
+    }
+
+    @Test
+    @DisplayName("null 값은 NullValue로, null을 담은 CacheEntry는 그대로 복원한다")
+    void restoresNullValues() {
+        CacheValueSerializer serializer = serializer(StoreDetailResponseDto.class, 0);
+
+        assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isSameAs(NullValue.INSTANCE);
+        CacheEntry restored = (CacheEntry) serializer.deserialize(serializer.serialize(new CacheEntry(null, 10, 1)));
+        assertThat(restored.getValue()).isNull();
+        assertThat(restored.getCreatedAt()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식 값도 읽고, 지정 타입이 아닌 값은 이전 형식으로 저장한다")
+    void fallsBackToLegacyFormat() {
+        CacheValueSerializer serializer = serializer(StoreDetailResponseDto.class, 0);
+        StoreDetailResponseDto detail = storeDetail(1);
+
+        Object fromLegacy = serializer.deserialize(legacy.serialize(detail));
+        assertThat(fromLegacy).usingRecursiveComparison().isEqualTo(detail);
+
+        byte[] otherType = serializer.serialize("문자열 값");
+        assertThat(otherType[0]).isNotEqualTo(CacheValueSerializer.MAGIC);
+        assertThat(serializer.deserialize(otherType)).isEqualTo("문자열 값");
+    }
+
+    @Test
+    @DisplayName("같은 값을 클래스 이름 없이 저장하므로 이전 형식보다 작다")
+    void smallerThanLegacyFormat() {
+        CacheValueSerializer serializer = serializer(StoreDetailResponseDto.class, 0);
+        CacheEntry entry = new CacheEntry(storeDetail(10), System.currentTimeMillis(), 15);
+
+        assertThat(serializer.serialize(entry).length).isLessThan(legacy.serialize(entry).length);
+    }
+
+    private CacheValueSerializer serializer(Class<?> valueType, int compressionThreshold) {
+        return new CacheValueSerializer(binaryMapper, binaryMapper.constructType(valueType), compressionThreshold,
+                legacy);
+    }
+
+    static StoreDetailResponseDto storeDetail(int reviewCount) {
+        List<ProductResponseDto> products = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> ProductResponseDto.builder()
+                        .id((long) i)
+                        .productName("럭키백 " + i)
+                        .originalPrice(12000L)
+                        .discountedPrice(6000L)
+                        .productCount(5L)
+                        .description("오늘 구운 빵을 랜덤으로 담았습니다.")
+                        .isOpen(true)
+                        .build())
+                .collect(Collectors.toList());
+        List<ReviewResponseDto> reviews = IntStream.rangeClosed(1, reviewCount)
+                .mapToObj(i -> ReviewResponseDto.builder()
+                        .reviewId((long) i)
+                        .userId(100L + i)
+                        .userNickname("행복한식객" + i)
+                        .storeName("럭키 베이커리")
+                        .productName("럭키백 1")
+                        .totalPrice(6000L)
+                        .quantity(1L)
+                        .rating(5)
+                        .reviewContent("빵이 정말 맛있고 양도 많았어요. 다음에도 또 살게요!")
+                        .reviewImage("https://cdn.luckeat.net/review/" + i + ".jpg")
+                        .createdAt(LocalDateTime.of(2025, 3, 20, 12, 34, 56).minusHours(i))
+                        .build())
+                .collect(Collectors.toList());
+        return StoreDetailResponseDto.builder()
+                .id(1L)
+                .userId(100L)
+                .categoryId(2L)
+                .storeName("럭키 베이커리")
+                .storeImg("https://cdn.luckeat.net/store/1.jpg")
+                .address("제주특별자치도 제주시 중앙로 123")
+                .storeUrl("https://luckeat.net/s/abc123")
+                .shareCount(42L)
+                .latitude(33.4890f)
+                .longitude(126.4983f)
+                .contactNumber("064-123-4567")
+                .description("매일 아침 직접 굽는 동네 빵집입니다.")
+                .businessNumber("123-45-67890")
+                .businessHours("매일 08:00-21:00")
+                .pickupTime("20:00-21:00")
+                .avgRating(4.5f)
+                .avgRatingGoogle(4.3f)
+                .reviewSummary("친절하고 빵이 맛있다는 평이 많습니다.")
+                .products(products)
+                .reviewCount((long) reviewCount)
+                .reviews(reviews)
+                .hasNextReviews(true)
+                .nextReviewCursor("MTIz")
+                .build();
+    }
+
+    static StoreQueryResult storeQueryResult(int size) {
+        List<StoreListDto> stores = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> StoreListDto.builder()
+                        .id((long) i)
+                        .storeName("럭키 베이커리 " + i + "호점")
+                        .storeImg("https://cdn.luckeat.net/store/" + i + ".jpg")
+                        .address("제주특별자치도 제주시 중앙로 " + i)
+                        .avgRatingGoogle(4.3f)
+                        .shareCount((long) i * 3)
+                        .latitude(33.4890f + i * 0.001f)
+                        .longitude(126.4983f + i * 0.001f)
+                        .reviewCount((long) i)
+                        .build())
+                .collect(Collectors.toList());
+        return new StoreQueryResult(stores, 120, 6, 12);
+    }
+}
@@ -0,0 +1,195 @@
+package com.luckeat.luckeatbackend.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "storeDetails";
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    private ConcurrentMapCache remote;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    // 백그라운드 갱신 작업을 모아 두었다가 테스트에서 직접 실행
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache(CACHE_NAME);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = twoLevelCache(null);
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 적재되어 다음 조회는 Redis를 거치지 않는다")
+    void remoteHitIsPromotedToLocal() {
+        remote.put(1L, "가게 1");
+
+        assertThat(cache.get(1L).get()).isEqualTo("가게 1");
+        // L2에서 사라져도 L1에서 응답
+        remote.clear();
+        assertThat(cache.get(1L).get()).isEqualTo("가게 1");
+
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(count("l2", "miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("두 계층 모두 없으면 null을 반환하고 L2 미스로 집계한다")
+    void missInBothTiers() {
+        assertThat(cache.get(1L)).isNull();
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("null 값도 캐시한다")
+    void cachesNullValue() {
+        cache.put(1L, null);
+
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(1L).get()).isNull();
+        assertThat(count("l1", "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제 시 두 계층에서 지우고 다른 노드에 무효화를 발행한다")
+    void evictRemovesBothTiersAndBroadcasts() {
+        cache.put(1L, "가게 1");
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+        verify(cacheManager).publishInvalidation(CACHE_NAME, List.of("1"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 지우고 다시 발행하지 않는다")
+    void peerInvalidationOnlyClearsLocal() {
+        cache.put(1L, "가게 1");
+
+        // 메시지로는 문자열 키가 전달됨
+        cache.applyInvalidation(List.of("1"));
+
+        assertThat(cache.get(1L).get()).isEqualTo("가게 1");
+        assertThat(count("l1", "hit")).isZero();
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    @DisplayName("미스 시 같은 키의 동시 요청은 한 번만 계산한다")
+    void concurrentMissesLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    release.await(1, TimeUnit.SECONDS);
+                    return "가게 1";
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("가게 1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("soft TTL이 지난 값은 그대로 응답하고 백그라운드에서 한 번만 갱신한다")
+    void staleValueIsServedWhileRefreshing() {
+        cache = twoLevelCache(new RefreshAheadPolicy(Duration.ofMinutes(8), 1.0));
+        remote.put(1L, new CacheEntry("이전 값", System.currentTimeMillis() - Duration.ofMinutes(9).toMillis(), 10));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1L, () -> "새 값" + loads.incrementAndGet())).isEqualTo("이전 값");
+        assertThat(cache.get(1L, () -> "새 값" + loads.incrementAndGet())).isEqualTo("이전 값");
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.get(0).run();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get(1L, () -> "새 값" + loads.incrementAndGet())).isEqualTo("새 값1");
+        assertThat(((CacheEntry) remote.get(1L).get()).getValue()).isEqualTo("새 값1");
+        assertThat(meterRegistry.get("luckeat.cache.stale.serves").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("luckeat.cache.refresh.duration").tag("trigger", "stale").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("soft TTL 전이라도 계산 시간이 길면 XFetch로 일찍 갱신한다")
+    void computeHeavyEntryRefreshesEarly() {
+        RefreshAheadPolicy policy = new RefreshAheadPolicy(Duration.ofMinutes(8), 1.0);
+        long now = System.currentTimeMillis();
+        CacheEntry cheap = new CacheEntry("값", now - Duration.ofMinutes(7).toMillis(), 10);
+        CacheEntry expensive = new CacheEntry("값", now - Duration.ofMinutes(7).toMillis(), 30_000);
+
+        // random = 0.1 → -ln(0.1) ≈ 2.3, 만료까지 1분 남음
+        assertThat(policy.shouldRefreshEarly(cheap, now, 0.1)).isFalse();
+        assertThat(policy.shouldRefreshEarly(expensive, now, 0.1)).isTrue();
+        assertThat(policy.isStale(expensive, now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("갱신 중에 삭제된 키는 갱신 결과를 저장하지 않는다")
+    void evictDuringRefreshDiscardsResult() {
+        cache = twoLevelCache(new RefreshAheadPolicy(Duration.ofMinutes(8), 0));
+        remote.put(1L, new CacheEntry("이전 값", 0, 0));
+        cache.get(1L, () -> "삭제 전 데이터로 계산한 값");
+
+        cache.evict(1L);
+        refreshTasks.get(0).run();
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private TwoLevelCache twoLevelCache(RefreshAheadPolicy policy) {
+        return new TwoLevelCache(CACHE_NAME, Caffeine.newBuilder().maximumSize(100).build(), remote,
+                cacheManager, meterRegistry, policy, refreshTasks::add);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("luckeat.cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,44 @@
+package com.luckeat.luckeatbackend.common.cdn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CdnPurgeListenerTest {
+
+    private final List<Set<String>> purged = new ArrayList<>();
+    private final CdnPurgeListener listener = new CdnPurgeListener(purged::add);
+
+    @Test
+    @DisplayName("가게 변경 퍼지 키는 가게 상세와 가게가 나오는 목록(해당 카테고리, 전체)이다")
+    void purgesStoreAndLists() {
+        listener.onPurge(new CdnPurgeEvent(SurrogateKeys.storeAndLists(7L, 2L, 3L)));
+
+        assertThat(purged).containsExactly(
+                Set.of("store-7", "stores-category-0", "stores-category-2", "stores-category-3"));
+    }
+
+    @Test
+    @DisplayName("키가 없으면 퍼지하지 않는다")
+    void skipsEmptyKeys() {
+        listener.onPurge(new CdnPurgeEvent(Set.of()));
+
+        assertThat(purged).isEmpty();
+    }
+
+    @Test
+    @DisplayName("퍼지 실패는 호출한 쪽으로 전파하지 않는다")
+    void swallowsPurgeFailure() {
+        CdnPurgeListener failing = new CdnPurgeListener(keys -> {
+            throw new IllegalStateException("CDN 응답 없음");
+        });
+
+        assertThatCode(() -> failing.onPurge(new CdnPurgeEvent(Set.of(SurrogateKeys.CATEGORIES))))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,320 @@
+package com.luckeat.luckeatbackend.common.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luckeat.luckeatbackend.common.cdn.SurrogateKeys;
+import com.luckeat.luckeatbackend.store.service.StoreListCacheTags;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"content\":[{\"id\":1,\"storeName\":\"럭키 베이커리\"}]}";
+
+    private ConcurrentMapCacheManager cacheManager;
+    private StoreListCacheTags storeListCacheTags;
+    private ResponseCacheFilter filter;
+    private AtomicInteger chainCalls;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(ResponseCacheFilter.STORE_LIST_CACHE,
+                ResponseCacheFilter.STORE_DETAIL_CACHE, ResponseCacheFilter.CATEGORY_CACHE,
+                ResponseCacheFilter.STORE_REVIEWS_CACHE);
+        storeListCacheTags = mock(StoreListCacheTags.class);
+        filter = new ResponseCacheFilter(cacheManager, new SimpleMeterRegistry(), storeListCacheTags);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "gzipMinBytes", 16);
+        ReflectionTestUtils.setField(filter, "maxBodyBytes", 1024);
+        chainCalls = new AtomicInteger();
+        chain = (request, response) -> {
+            chainCalls.incrementAndGet();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    @DisplayName("첫 요청은 컨트롤러 응답을 저장하고, 같은 조건의 다음 요청은 저장된 바이트로 응답한다")
+    void storesOnMissAndServesOnHit() throws Exception {
+        MockHttpServletResponse miss = perform(storeListRequest("sort", "rating", "page", "0"));
+        MockHttpServletResponse hit = perform(storeListRequest("page", "0", "sort", "RATING"));
+
+        assertThat(chainCalls).hasValue(1);
+        assertThat(miss.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(miss.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(hit.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(hit.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(hit.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하는 요청에는 미리 압축한 바이트로 응답한다")
+    void servesGzipWhenAccepted() throws Exception {
+        perform(storeListRequest());
+        MockHttpServletRequest request = storeListRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip");
+
+        MockHttpServletResponse hit = perform(request);
+
+        assertThat(hit.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(hit.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(hit.getContentAsByteArray())).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("가게 목록 응답은 storePages와 같은 조회 조건 태그로 기록하고, 다른 응답은 기록하지 않는다")
+    void registersStoreListTags() throws Exception {
+        perform(storeListRequest("sort", "Rating,desc", "isDiscountOpen", "TRUE", "categoryId", "3"));
+        perform(new MockHttpServletRequest("GET", "/api/v1/stores/7"));
+
+        verify(storeListCacheTags).registerResponse("rating,desc_true_0_20_3", "Rating,desc", true, 3L);
+        verifyNoMoreInteractions(storeListCacheTags);
+    }
+
+    @Test
+    @DisplayName("위치/이름 검색 목록은 캐시하지 않는다")
+    void skipsSearchQueries() throws Exception {
+        perform(storeListRequest("lat", "33.4", "lng", "126.5"));
+        perform(storeListRequest("lat", "33.4", "lng", "126.5"));
+        perform(storeListRequest("storeName", "베이커리"));
+
+        assertThat(chainCalls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("인증 헤더가 있는 요청은 공유 캐시에서 꺼내거나 저장하지 않고 private ETag만 붙인다")
+    void bypassesAuthenticatedRequests() throws Exception {
+        perform(storeListRequest());
+        MockHttpServletRequest request = storeListRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        MockHttpServletRequest detailRequest = new MockHttpServletRequest("GET", "/api/v1/stores/7");
+        detailRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+
+        MockHttpServletResponse response = perform(request);
+        perform(detailRequest);
+
+        assertThat(chainCalls).hasValue(3);
+        assertThat(response.getHeader(ResponseCacheFilter.CACHE_STATUS_HEADER)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+        assertThat(response.getHeader(HttpHeaders.ETAG))
+                .isEqualTo(ResponseCacheFilter.etag(BODY.getBytes(StandardCharsets.UTF_8)));
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(cacheManager.getCache(ResponseCacheFilter.STORE_DETAIL_CACHE).get("7")).isNull();
+    }
+
+    @Test
+    @DisplayName("인증 요청도 본문의 ETag가 If-None-Match와 같으면 본문 없이 304로 응답한다")
+    void notModifiedForAuthenticatedRequests() throws Exception {
+        ReflectionTestUtils.setField(filter, "cdnEnabled", true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores/7");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ResponseCacheFilter.etag(BODY.getBytes(StandardCharsets.UTF_8)));
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+        assertThat(response.getHeader(SurrogateKeys.HEADER)).isNull();
+        assertThat(cacheManager.getCache(ResponseCacheFilter.STORE_DETAIL_CACHE).get("7")).isNull();
+    }
+
+    @Test
+    @DisplayName("200이 아닌 응답은 저장하지 않는다")
+    void doesNotStoreErrors() throws Exception {
+        chain = (request, response) -> {
+            chainCalls.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(404);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write("{\"message\":\"없음\"}".getBytes(StandardCharsets.UTF_8));
+        };
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores/7");
+
+        perform(request);
+        perform(new MockHttpServletRequest("GET", "/api/v1/stores/7"));
+
+        assertThat(chainCalls).hasValue(2);
+        assertThat(cacheManager.getCache(ResponseCacheFilter.STORE_DETAIL_CACHE).get("7")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시된 응답의 ETag와 If-None-Match가 같으면 본문 없이 304로 응답한다")
+    void notModifiedOnCacheHit() throws Exception {
+        MockHttpServletResponse first = perform(new MockHttpServletRequest("GET", "/api/v1/categories"));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/categories");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(etag).isEqualTo(ResponseCacheFilter.etag(BODY.getBytes(StandardCharsets.UTF_8)));
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(chainCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("캐시 미스여도 본문의 ETag가 If-None-Match와 같으면 304로 응답한다")
+    void notModifiedOnCacheMiss() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores/7");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ResponseCacheFilter.etag(BODY.getBytes(StandardCharsets.UTF_8)));
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(cacheManager.getCache(ResponseCacheFilter.STORE_DETAIL_CACHE).get("7")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("gzip 응답은 다른 ETag를 쓰고, 압축 여부만 다른 ETag도 일치로 본다")
+    void gzipEtag() throws Exception {
+        perform(storeListRequest());
+        MockHttpServletRequest gzipRequest = storeListRequest();
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        String gzipEtag = perform(gzipRequest).getHeader(HttpHeaders.ETAG);
+        String identityEtag = ResponseCacheFilter.etag(BODY.getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletRequest revalidate = storeListRequest();
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + gzipEtag);
+
+        assertThat(gzipEtag).isNotEqualTo(identityEtag).endsWith("-gzip\"");
+        assertThat(perform(revalidate).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("ETag가 다르면 본문과 함께 200으로 응답한다")
+    void modifiedWhenEtagDiffers() throws Exception {
+        perform(storeListRequest());
+        MockHttpServletRequest request = storeListRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+        MockHttpServletResponse response = perform(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("CDN 캐시를 켜면 public Cache-Control과 Surrogate-Key를 미스/적중 응답 모두에 붙인다")
+    void cdnHeaders() throws Exception {
+        ReflectionTestUtils.setField(filter, "cdnEnabled", true);
+        ReflectionTestUtils.setField(filter, "maxAgeSeconds", 30L);
+        ReflectionTestUtils.setField(filter, "sharedMaxAgeSeconds", 300L);
+        ReflectionTestUtils.setField(filter, "staleWhileRevalidateSeconds", 60L);
+
+        MockHttpServletResponse miss = perform(storeListRequest("categoryId", "3"));
+        MockHttpServletResponse hit = perform(storeListRequest("categoryId", "3"));
+        MockHttpServletResponse detail = perform(new MockHttpServletRequest("GET", "/api/v1/stores/7"));
+
+        for (MockHttpServletResponse response : new MockHttpServletResponse[] {miss, hit}) {
+            assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL))
+                    .isEqualTo("public, max-age=30, s-maxage=300, stale-while-revalidate=60");
+            assertThat(response.getHeader(SurrogateKeys.HEADER)).isEqualTo("stores stores-category-3");
+        }
+        assertThat(detail.getHeader(SurrogateKeys.HEADER)).isEqualTo("store-7");
+    }
+
+    @Test
+    @DisplayName("저장하지 않는 응답에는 CDN 캐시 헤더를 붙이지 않는다")
+    void noCdnHeadersOnErrors() throws Exception {
+        ReflectionTestUtils.setField(filter, "cdnEnabled", true);
+        chain = (request, response) -> ((HttpServletResponse) response).setStatus(500);
+
+        MockHttpServletResponse response = perform(storeListRequest());
+
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+        assertThat(response.getHeader(SurrogateKeys.HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("가게 리뷰는 기본 크기의 첫 페이지만 가게 ID를 키로 캐시한다")
+    void storeReviewsKey() {
+        MockHttpServletRequest firstPage = new MockHttpServletRequest("GET", "/api/v1/reviews/store/3");
+        MockHttpServletRequest defaultSize = new MockHttpServletRequest("GET", "/api/v1/reviews/store/3");
+        defaultSize.addParameter("size", "20");
+        MockHttpServletRequest nextPage = new MockHttpServletRequest("GET", "/api/v1/reviews/store/3");
+        nextPage.addParameter("cursor", "MTIz");
+        MockHttpServletRequest otherSize = new MockHttpServletRequest("GET", "/api/v1/reviews/store/3");
+        otherSize.addParameter("size", "5");
+
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_REVIEWS_CACHE, firstPage)).isEqualTo("3");
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_REVIEWS_CACHE, defaultSize)).isEqualTo("3");
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_REVIEWS_CACHE, nextPage)).isNull();
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_REVIEWS_CACHE, otherSize)).isNull();
+    }
+
+    @Test
+    @DisplayName("목록 키는 기본값을 채우고 대소문자를 통일하며, 허용하지 않은 파라미터가 있으면 null이다")
+    void normalizesStoreListKey() {
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_LIST_CACHE, storeListRequest()))
+                .isEqualTo("default_all_0_20_0");
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_LIST_CACHE,
+                storeListRequest("isDiscountOpen", "TRUE", "categoryId", "3", "size", "10")))
+                .isEqualTo("default_true_0_10_3");
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_LIST_CACHE,
+                storeListRequest("radius", "1000"))).isNull();
+        assertThat(ResponseCacheFilter.cacheKey(ResponseCacheFilter.STORE_DETAIL_CACHE,
+                new MockHttpServletRequest("GET", "/api/v1/stores/007"))).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("q=0으로 거부한 gzip은 허용하지 않은 것으로 본다")
+    void acceptsGzip() {
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("gzip, deflate"))).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("gzip;q=0.5"))).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("gzip; q=0"))).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip(withAcceptEncoding("br"))).isFalse();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest storeListRequest(String... params) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores");
+        for (int i = 0; i < params.length; i += 2) {
+            request.addParameter(params[i], params[i + 1]);
+        }
+        return request;
+    }
+
+    private static MockHttpServletRequest withAcceptEncoding(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stores");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, value);
+        return request;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.luckeat.luckeatbackend.common.util;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoUtilTest {
+
+    @Test
+    @DisplayName("geohash 인코딩 결과가 표준 값과 일치한다")
+    void geohash() {
+        assertThat(GeoUtil.geohash(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoUtil.geohash(37.5665, 126.9780, 6)).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("geohash 셀 영역은 원래 좌표를 포함한다")
+    void geohashBoundsContainsPoint() {
+        double lat = 37.5665;
+        double lng = 126.9780;
+
+        GeoUtil.BoundingBox bounds = GeoUtil.geohashBounds(GeoUtil.geohash(lat, lng, 6));
+
+        assertThat(lat).isBetween(bounds.getMinLat(), bounds.getMaxLat());
+        assertThat(lng).isBetween(bounds.getMinLng(), bounds.getMaxLng());
+    }
+
+    @Test
+    @DisplayName("사각 영역의 꼭짓점은 중심에서 반경 이상 떨어져 있다")
+    void boundingBoxCoversRadius() {
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(37.5665, 126.9780, 3.0);
+
+        assertThat(GeoUtil.distanceKm(37.5665, 126.9780, box.getMaxLat(), 126.9780)).isCloseTo(3.0, within(0.01));
+        assertThat(GeoUtil.distanceKm(37.5665, 126.9780, 37.5665, box.getMaxLng())).isGreaterThanOrEqualTo(2.99);
+    }
+
+    @Test
+    @DisplayName("사각 영역과 겹치는 셀을 모두 찾고, 셀이 너무 많으면 빈 집합을 반환한다")
+    void geohashesCovering() {
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(37.5665, 126.9780, 30.0);
+
+        Set<String> cells = GeoUtil.geohashesCovering(box, 4, 64);
+
+        assertThat(cells).contains(
+                GeoUtil.geohash(box.getMinLat(), box.getMinLng(), 4),
+                GeoUtil.geohash(box.getMaxLat(), box.getMaxLng(), 4),
+                GeoUtil.geohash(37.5665, 126.9780, 4));
+        assertThat(GeoUtil.geohashesCovering(box, 6, 64)).isEmpty();
+    }
+}
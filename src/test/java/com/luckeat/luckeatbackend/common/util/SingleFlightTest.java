@@ -0,0 +1,141 @@
+package com.luckeat.luckeatbackend.common.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 20;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 한 번만 실행하고 결과를 공유한다")
+    void coalescesConcurrentCalls() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", 100, Duration.ofSeconds(2), meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submit(CALLERS, () -> singleFlight.execute("빵", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "결과";
+        }));
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("결과");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("waiter")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("실행 중 예외는 기다리던 호출에도 그대로 전달된다")
+    void sharesException() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", 100, Duration.ofSeconds(2), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submit(2, () -> singleFlight.execute("빵", () -> {
+            await(release);
+            throw new IllegalArgumentException("조회 실패");
+        }));
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 기다리던 호출이 직접 실행한다")
+    void waiterFallsBackAfterTimeout() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", 100, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("빵", () -> {
+            await(release);
+            return "느린 결과";
+        }));
+        Thread.sleep(100);
+
+        assertThat(singleFlight.execute("빵", () -> "직접 실행")).isEqualTo("직접 실행");
+        assertThat(count("timeout")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(2, TimeUnit.SECONDS)).isEqualTo("느린 결과");
+    }
+
+    @Test
+    @DisplayName("진행 중인 키 수가 상한이면 합치지 않고 바로 실행한다")
+    void overflowRunsDirectly() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", 1, Duration.ofSeconds(2), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("빵", () -> {
+            await(release);
+            return "빵 결과";
+        }));
+        Thread.sleep(100);
+
+        assertThat(singleFlight.execute("떡", () -> "떡 결과")).isEqualTo("떡 결과");
+        assertThat(count("overflow")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(2, TimeUnit.SECONDS)).isEqualTo("빵 결과");
+        assertThat(meterRegistry.get("luckeat.singleflight.inflight").gauge().value()).isZero();
+    }
+
+    private <T> List<Future<T>> submit(int callers, Callable<T> call) {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(String role) {
+        return meterRegistry.get("luckeat.singleflight.calls").tag("role", role).counter().count();
+    }
+}
@@ -0,0 +1,66 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryStockGateTest {
+
+    private static final Long PRODUCT_ID = 10L;
+
+    private final InMemoryStockGate stockGate = new InMemoryStockGate();
+
+    @Test
+    @DisplayName("미러가 없으면 MISSING, 채운 뒤에는 재고만큼만 차감하고 나머지는 거절한다")
+    void acquiresUntilSoldOut() {
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 1)).isEqualTo(StockGate.Result.MISSING);
+
+        stockGate.seed(PRODUCT_ID, 3);
+
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 2)).isEqualTo(StockGate.Result.ACCEPTED);
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 2)).isEqualTo(StockGate.Result.REJECTED);
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 1)).isEqualTo(StockGate.Result.ACCEPTED);
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 1)).isEqualTo(StockGate.Result.REJECTED);
+    }
+
+    @Test
+    @DisplayName("이미 있는 미러는 다시 채우지 않고, 되돌리기는 미러가 있을 때만 더한다")
+    void seedIfAbsentAndReleaseIfPresent() {
+        stockGate.release(PRODUCT_ID, 5);
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 1)).isEqualTo(StockGate.Result.MISSING);
+
+        stockGate.seed(PRODUCT_ID, 1);
+        stockGate.seed(PRODUCT_ID, 100);
+        stockGate.release(PRODUCT_ID, 1);
+
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 2)).isEqualTo(StockGate.Result.ACCEPTED);
+        assertThat(stockGate.tryAcquire(PRODUCT_ID, 1)).isEqualTo(StockGate.Result.REJECTED);
+    }
+
+    @Test
+    @DisplayName("동시에 예약해도 재고보다 많이 차감하지 않는다")
+    void neverOversellsUnderContention() throws Exception {
+        stockGate.seed(PRODUCT_ID, 50);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<StockGate.Result>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(executor.submit(() -> stockGate.tryAcquire(PRODUCT_ID, 1)));
+        }
+
+        int accepted = 0;
+        for (Future<StockGate.Result> result : results) {
+            if (result.get() == StockGate.Result.ACCEPTED) {
+                accepted++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(accepted).isEqualTo(50);
+    }
+}
@@ -0,0 +1,130 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.luckeat.luckeatbackend.common.exception.base.ConflictException;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationResponseDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReservationIdempotencyTest {
+
+    private ReservationIdempotency idempotency;
+
+    @BeforeEach
+    void setUp() {
+        idempotency = new ReservationIdempotency(new SimpleMeterRegistry(), 10, 1000, 5000);
+        authenticate("buyer@luckeat.net");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보낸 요청은 실행하지 않고 처음 응답을 돌려준다")
+    void replaysFirstResponse() {
+        AtomicInteger calls = new AtomicInteger();
+
+        ReservationResponseDto first = idempotency.execute("key-1", "create", "1:10:1", () -> response(calls));
+        ReservationResponseDto retry = idempotency.execute("key-1", "create", "1:10:1", () -> response(calls));
+
+        assertThat(retry).isSameAs(first);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("키가 없거나 사용자가 다르면 매번 실행한다")
+    void executesWithoutKeyOrForOtherUser() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotency.execute(null, "create", "1:10:1", () -> response(calls));
+        idempotency.execute(null, "create", "1:10:1", () -> response(calls));
+        idempotency.execute("key-1", "create", "1:10:1", () -> response(calls));
+        authenticate("other@luckeat.net");
+        idempotency.execute("key-1", "create", "1:10:1", () -> response(calls));
+
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("같은 키에 다른 내용의 요청이 오면 충돌로 거절한다")
+    void rejectsDifferentRequestWithSameKey() {
+        idempotency.execute("key-1", "create", "1:10:1", () -> response(new AtomicInteger()));
+
+        assertThatThrownBy(() -> idempotency.execute("key-1", "create", "1:10:2",
+                () -> response(new AtomicInteger())))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    @DisplayName("실패한 요청의 키는 남기지 않아 재시도가 다시 실행된다")
+    void retriesAfterFailure() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> idempotency.execute("key-1", "create", "1:10:1", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("재고가 부족합니다.");
+        })).isInstanceOf(IllegalStateException.class);
+        idempotency.execute("key-1", "create", "1:10:1", () -> response(calls));
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("처음 요청이 처리 중이면 같은 키의 요청은 그 결과를 기다린다")
+    void waitsForInFlightExecution() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ReservationResponseDto> first = CompletableFuture.supplyAsync(() -> {
+            authenticate("buyer@luckeat.net");
+            return idempotency.execute("key-1", "create", "1:10:1", () -> {
+                started.countDown();
+                await(release);
+                return response(calls);
+            });
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<ReservationResponseDto> duplicate = CompletableFuture.supplyAsync(() -> {
+            authenticate("buyer@luckeat.net");
+            return idempotency.execute("key-1", "create", "1:10:1", () -> response(calls));
+        });
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        assertThat(calls).hasValue(1);
+    }
+
+    private static ReservationResponseDto response(AtomicInteger calls) {
+        return ReservationResponseDto.builder().id((long) calls.incrementAndGet()).build();
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
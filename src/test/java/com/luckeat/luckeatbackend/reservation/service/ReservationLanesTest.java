@@ -0,0 +1,208 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.luckeat.luckeatbackend.product.model.Product;
+import com.luckeat.luckeatbackend.product.repository.ProductRepository;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationRequestDto;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationResponseDto;
+import com.luckeat.luckeatbackend.reservation.model.Reservation;
+import com.luckeat.luckeatbackend.reservation.repository.ReservationRepository;
+import com.luckeat.luckeatbackend.reservation.service.ReservationLanes.PendingReservation;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.service.StoreService;
+import com.luckeat.luckeatbackend.users.model.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationLanesTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long PRODUCT_ID = 10L;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StoreService storeService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReservationLanes reservationLanes;
+    private Store store;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        reservationLanes = new ReservationLanes(productRepository, reservationRepository, storeService,
+                transactionTemplate, new SimpleMeterRegistry(), 2, 32, 16, 5000);
+        store = Store.builder().storeName("럭키 베이커리").build();
+        store.setId(STORE_ID);
+        user = User.builder().nickname("행복한식객").build();
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(reservationRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<List<Reservation>>getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationLanes.destroy();
+    }
+
+    @Test
+    @DisplayName("묶음을 행 락 한 번, 재고 UPDATE 한 번, 일괄 저장 한 번으로 처리한다")
+    void writesBatchWithSingleUpdate() {
+        when(productRepository.findByIdWithPessimisticLock(PRODUCT_ID)).thenReturn(Optional.of(product(5L)));
+        when(productRepository.decreaseProductStockKeepingOpen(PRODUCT_ID, 3)).thenReturn(1);
+        List<PendingReservation> batch = List.of(pending(1L), pending(2L));
+
+        reservationLanes.process(batch);
+
+        assertThat(batch).allSatisfy(pending -> assertThat(pending.result()).isCompleted());
+        assertThat(batch.get(1).result().join().getTotalPrice()).isEqualTo(10000L);
+        verify(reservationRepository).saveAll(anyList());
+        verify(productRepository, never()).decreaseProductStockToSoldOut(anyLong(), anyInt());
+        verifyNoInteractions(storeService);
+    }
+
+    @Test
+    @DisplayName("남은 재고를 넘는 요청만 재고 부족으로 실패하고, 재고를 모두 가져가면 판매 종료로 차감한다")
+    void rejectsOnlyRequestsBeyondStock() {
+        when(productRepository.findByIdWithPessimisticLock(PRODUCT_ID)).thenReturn(Optional.of(product(3L)));
+        when(productRepository.decreaseProductStockToSoldOut(PRODUCT_ID, 3)).thenReturn(1);
+        List<PendingReservation> batch = List.of(pending(2L), pending(2L), pending(1L));
+
+        reservationLanes.process(batch);
+
+        assertThat(batch.get(0).result().join().getQuantity()).isEqualTo(2L);
+        assertThatThrownBy(() -> batch.get(1).result().join())
+                .hasCauseInstanceOf(OutOfStockException.class);
+        assertThat(batch.get(2).result().join().getQuantity()).isEqualTo(1L);
+        verify(storeService).refreshOpenDealState(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 실패하면 묶음의 요청이 모두 같은 예외로 실패한다")
+    void failsWholeBatchWhenTransactionFails() {
+        when(productRepository.findByIdWithPessimisticLock(PRODUCT_ID)).thenReturn(Optional.of(product(5L)));
+        when(productRepository.decreaseProductStockKeepingOpen(PRODUCT_ID, 2)).thenReturn(1);
+        when(reservationRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("저장 실패"));
+        List<PendingReservation> batch = List.of(pending(1L), pending(1L));
+
+        reservationLanes.process(batch);
+
+        assertThat(batch).allSatisfy(pending -> assertThatThrownBy(() -> pending.result().join())
+                .hasCauseInstanceOf(DataIntegrityViolationException.class));
+    }
+
+    @Test
+    @DisplayName("레인 스레드에서 처리한 결과를 요청 스레드에 돌려주고, 실패는 원래 예외로 던진다")
+    void reserveWaitsForLane() {
+        when(productRepository.findByIdWithPessimisticLock(PRODUCT_ID))
+                .thenReturn(Optional.of(product(1L)), Optional.of(product(0L)));
+        when(productRepository.decreaseProductStockToSoldOut(PRODUCT_ID, 1)).thenReturn(1);
+
+        ReservationResponseDto response = reservationLanes.reserve(user, store, request(1L));
+
+        assertThat(response.getUserNickname()).isEqualTo("행복한식객");
+        assertThatThrownBy(() -> reservationLanes.reserve(user, store, request(1L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("재고가 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("요청 스레드가 포기한 요청은 레인이 처리하지 않고, 처리를 시작한 요청은 포기할 수 없다")
+    void skipsAbandonedRequests() {
+        PendingReservation abandoned = pending(1L);
+        assertThat(abandoned.abandon()).isTrue();
+
+        reservationLanes.process(List.of(abandoned));
+
+        verifyNoInteractions(productRepository, reservationRepository);
+        assertThat(abandoned.take()).isFalse();
+        PendingReservation taken = pending(1L);
+        assertThat(taken.take()).isTrue();
+        assertThat(taken.abandon()).isFalse();
+    }
+
+    @Test
+    @DisplayName("레인이 처리를 시작한 요청은 대기 시간이 지나도 실패로 응답하지 않고 커밋 결과를 돌려준다")
+    void waitsForTakenRequestBeyondTimeout() {
+        ReservationLanes slowLanes = new ReservationLanes(productRepository, reservationRepository, storeService,
+                transactionTemplate, new SimpleMeterRegistry(), 1, 32, 16, 100);
+        when(productRepository.findByIdWithPessimisticLock(PRODUCT_ID)).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return Optional.of(product(5L));
+        });
+        when(productRepository.decreaseProductStockKeepingOpen(PRODUCT_ID, 1)).thenReturn(1);
+
+        try {
+            ReservationResponseDto response = slowLanes.reserve(user, store, request(1L));
+
+            assertThat(response.getQuantity()).isEqualTo(1L);
+            verify(reservationRepository).saveAll(anyList());
+        } finally {
+            slowLanes.destroy();
+        }
+    }
+
+    private PendingReservation pending(Long quantity) {
+        return new PendingReservation(user, store, request(quantity));
+    }
+
+    private Product product(Long productCount) {
+        Product product = Product.builder()
+                .store(store)
+                .productName("럭키백")
+                .originalPrice(10000L)
+                .discountedPrice(5000L)
+                .productCount(productCount)
+                .description("오늘 구운 빵")
+                .isOpen(true)
+                .build();
+        product.setId(PRODUCT_ID);
+        return product;
+    }
+
+    private static ReservationRequestDto request(Long quantity) {
+        return ReservationRequestDto.builder()
+                .productId(PRODUCT_ID)
+                .quantity(quantity)
+                .isZerowaste(false)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.luckeat.luckeatbackend.product.model.Product;
+import com.luckeat.luckeatbackend.reservation.model.Reservation;
+import com.luckeat.luckeatbackend.reservation.model.Reservation.ReservationStatus;
+import com.luckeat.luckeatbackend.review.service.LatestReviewCache;
+import com.luckeat.luckeatbackend.store.index.StoreGeoIndex;
+import com.luckeat.luckeatbackend.store.index.StoreSearchIndex;
+import com.luckeat.luckeatbackend.store.index.StoreSpatialIndexCheck;
+import com.luckeat.luckeatbackend.store.index.StoreSuggestIndex;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreListJdbcRepository;
+import com.luckeat.luckeatbackend.store.service.StoreCellCacheService;
+import com.luckeat.luckeatbackend.store.service.StoreListCacheTags;
+import com.luckeat.luckeatbackend.store.service.StoreListItemCache;
+import com.luckeat.luckeatbackend.store.service.StoreService;
+import com.luckeat.luckeatbackend.users.model.User;
+
+/**
+ * 예약 상태 변경을 실제 JPA/H2로 실행해, 재고 복구와 가게 마감할인 재계산 뒤에도 예약 변경이 저장되는지 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReservationService.class, StoreService.class})
+class ReservationServiceJpaTest {
+
+    private static final String SELLER_EMAIL = "seller@luckeat.net";
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockBean
+    private StockGate stockGate;
+
+    @MockBean
+    private ReservationLanes reservationLanes;
+
+    @MockBean
+    private StoreListJdbcRepository storeListJdbcRepository;
+
+    @MockBean
+    private LatestReviewCache latestReviewCache;
+
+    @MockBean
+    private StoreGeoIndex storeGeoIndex;
+
+    @MockBean
+    private StoreSearchIndex storeSearchIndex;
+
+    @MockBean
+    private StoreSuggestIndex storeSuggestIndex;
+
+    @MockBean
+    private StoreSpatialIndexCheck storeSpatialIndexCheck;
+
+    @MockBean
+    private StoreCellCacheService storeCellCacheService;
+
+    @MockBean
+    private StoreListCacheTags storeListCacheTags;
+
+    @MockBean
+    private StoreListItemCache storeListItemCache;
+
+    private Store store;
+    private Product product;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        User seller = testEntityManager.persist(user(SELLER_EMAIL, "사장님", User.Role.SELLER));
+        User buyer = testEntityManager.persist(user("buyer@luckeat.net", "행복한식객", User.Role.BUYER));
+        store = testEntityManager.persist(Store.builder()
+                .userId(seller.getId())
+                .storeName("럭키 베이커리")
+                .address("제주시 연동 123-45")
+                .latitude(33.4890f)
+                .longitude(126.4983f)
+                .categoryId(1L)
+                .shareCount(0L)
+                .build());
+        // 마지막 재고까지 예약되어 판매 종료된 상품
+        product = testEntityManager.persist(Product.builder()
+                .store(store)
+                .productName("럭키백")
+                .originalPrice(10000L)
+                .discountedPrice(5000L)
+                .productCount(0L)
+                .description("오늘 구운 빵")
+                .isOpen(false)
+                .build());
+        reservation = testEntityManager.persist(Reservation.builder()
+                .user(buyer)
+                .store(store)
+                .product(product)
+                .quantity(2L)
+                .totalPrice(10000L)
+                .status(ReservationStatus.PENDING)
+                .isZerowaste(false)
+                .isReviewed(false)
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(SELLER_EMAIL, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("품절 상품의 예약을 일괄 취소하면 재고와 마감할인 상태가 돌아오고 예약은 취소 상태로 저장된다")
+    void bulkCancelOnSoldOutProductPersistsStatus() {
+        reservationService.updateReservationStatuses(List.of(reservation.getId()), ReservationStatus.CANCELED);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Reservation canceled = testEntityManager.find(Reservation.class, reservation.getId());
+        assertThat(canceled.getStatus()).isEqualTo(ReservationStatus.CANCELED);
+        assertThat(canceled.getDeletedAt()).isNotNull();
+        Product reopened = testEntityManager.find(Product.class, product.getId());
+        assertThat(reopened.getProductCount()).isEqualTo(2L);
+        assertThat(reopened.getIsOpen()).isTrue();
+        assertThat(testEntityManager.find(Store.class, store.getId()).getHasOpenDeal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소된 예약은 다시 취소할 수 없어 재고가 두 번 복구되지 않는다")
+    void canceledReservationCannotBeCanceledAgain() {
+        reservationService.updateReservationStatuses(List.of(reservation.getId()), ReservationStatus.CANCELED);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertThatThrownBy(() -> reservationService.updateReservationStatuses(
+                List.of(reservation.getId()), ReservationStatus.CANCELED))
+                .isInstanceOf(IllegalStateException.class);
+        testEntityManager.clear();
+        assertThat(testEntityManager.find(Product.class, product.getId()).getProductCount()).isEqualTo(2L);
+    }
+
+    private static User user(String email, String nickname, User.Role role) {
+        return User.builder()
+                .role(role)
+                .email(email)
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
@@ -0,0 +1,321 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.luckeat.luckeatbackend.common.exception.product.ProductNotFoundException;
+import com.luckeat.luckeatbackend.product.event.ProductStockChangedEvent;
+import com.luckeat.luckeatbackend.product.model.Product;
+import com.luckeat.luckeatbackend.product.repository.ProductRepository;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationRequestDto;
+import com.luckeat.luckeatbackend.reservation.dto.ReservationResponseDto;
+import com.luckeat.luckeatbackend.reservation.model.Reservation;
+import com.luckeat.luckeatbackend.reservation.model.Reservation.ReservationStatus;
+import com.luckeat.luckeatbackend.reservation.repository.ReservationRepository;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+import com.luckeat.luckeatbackend.store.service.StoreService;
+import com.luckeat.luckeatbackend.users.model.User;
+import com.luckeat.luckeatbackend.users.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long PRODUCT_ID = 10L;
+    private static final String EMAIL = "buyer@luckeat.net";
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StoreService storeService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private StockGate stockGate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReservationLanes reservationLanes;
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reservationService, "stockMode", StockReservationMode.ATOMIC);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+
+        store = Store.builder().storeName("럭키 베이커리").build();
+        store.setId(STORE_ID);
+        User user = User.builder().nickname("행복한식객").build();
+        lenient().when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        lenient().when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
+        lenient().when(reservationRepository.save(any(Reservation.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("재고가 남으면 조건부 UPDATE 한 번으로 예약하고 잠금/flush/재조회를 하지 않는다")
+    void reservesWithSingleUpdate() {
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(5L)));
+        when(productRepository.decreaseProductStockKeepingOpen(PRODUCT_ID, 2)).thenReturn(1);
+
+        ReservationResponseDto response = reservationService.createReservation(STORE_ID, request(2L));
+
+        assertThat(response.getTotalPrice()).isEqualTo(10000L);
+        verify(productRepository, never()).findByIdWithPessimisticLock(anyLong());
+        verify(productRepository, never()).decreaseProductStockToSoldOut(anyLong(), anyInt());
+        verify(productRepository, times(1)).findById(PRODUCT_ID);
+        verifyNoInteractions(entityManager, storeService);
+    }
+
+    @Test
+    @DisplayName("남은 재고를 모두 가져가면 판매 종료로 차감하고 가게 마감할인 상태를 재계산한다")
+    void refreshesOpenDealWhenSoldOut() {
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(2L)));
+        when(productRepository.decreaseProductStockKeepingOpen(PRODUCT_ID, 2)).thenReturn(0);
+        when(productRepository.decreaseProductStockToSoldOut(PRODUCT_ID, 2)).thenReturn(1);
+
+        reservationService.createReservation(STORE_ID, request(2L));
+
+        verify(storeService).refreshOpenDealState(STORE_ID);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 예약이 재고를 가져가 두 UPDATE가 모두 실패하면 예약하지 않는다")
+    void failsWhenConcurrentReservationWins() {
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(2L)));
+        when(productRepository.decreaseProductStockKeepingOpen(PRODUCT_ID, 2)).thenReturn(0);
+        when(productRepository.decreaseProductStockToSoldOut(PRODUCT_ID, 2)).thenReturn(0);
+
+        assertThatThrownBy(() -> reservationService.createReservation(STORE_ID, request(2L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("재고가 부족합니다.");
+        verify(productRepository, times(2)).decreaseProductStockKeepingOpen(PRODUCT_ID, 2);
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        verifyNoInteractions(storeService);
+    }
+
+    @Test
+    @DisplayName("조회 시점에 이미 재고가 부족하면 UPDATE 없이 실패한다")
+    void rejectsBeforeUpdateWhenAlreadyShort() {
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(1L)));
+
+        assertThatThrownBy(() -> reservationService.createReservation(STORE_ID, request(2L)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(productRepository, never()).decreaseProductStockKeepingOpen(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재고 게이트가 거절하면 트랜잭션을 열지 않고 실패한다")
+    void gateRejectsWithoutTransaction() {
+        ReflectionTestUtils.setField(reservationService, "stockGateEnabled", true);
+        when(stockGate.tryAcquire(PRODUCT_ID, 2)).thenReturn(StockGate.Result.REJECTED);
+
+        assertThatThrownBy(() -> reservationService.createReservation(STORE_ID, request(2L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("재고가 부족합니다.");
+        verifyNoInteractions(transactionTemplate, productRepository, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("게이트 미러가 없으면 DB 재고로 채운 뒤 다시 차감하고 예약한다")
+    void gateSeedsMissingMirror() {
+        ReflectionTestUtils.setField(reservationService, "stockGateEnabled", true);
+        when(stockGate.tryAcquire(PRODUCT_ID, 1))
+                .thenReturn(StockGate.Result.MISSING, StockGate.Result.ACCEPTED);
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(5L)));
+        when(productRepository.decreaseProductStockKeepingOpen(PRODUCT_ID, 1)).thenReturn(1);
+
+        reservationService.createReservation(STORE_ID, request(1L));
+
+        verify(stockGate).seed(PRODUCT_ID, 5L);
+        verify(stockGate, never()).release(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("게이트에서 차감한 뒤 DB 예약이 실패하면 게이트 차감을 되돌린다")
+    void gateReleasesOnFailure() {
+        ReflectionTestUtils.setField(reservationService, "stockGateEnabled", true);
+        when(stockGate.tryAcquire(PRODUCT_ID, 1)).thenReturn(StockGate.Result.ACCEPTED);
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> reservationService.createReservation(STORE_ID, request(1L)))
+                .isInstanceOf(ProductNotFoundException.class);
+        verify(stockGate).release(PRODUCT_ID, 1);
+    }
+
+    @Test
+    @DisplayName("게이트는 통과했지만 DB 재고가 부족하면 미러가 DB보다 많았던 것이므로 미러를 버린다")
+    void gateEvictsWhenDatabaseIsShort() {
+        ReflectionTestUtils.setField(reservationService, "stockGateEnabled", true);
+        when(stockGate.tryAcquire(PRODUCT_ID, 2)).thenReturn(StockGate.Result.ACCEPTED);
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(1L)));
+
+        assertThatThrownBy(() -> reservationService.createReservation(STORE_ID, request(2L)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(stockGate).evict(PRODUCT_ID);
+        verify(stockGate, never()).release(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("BATCHED 모드는 요청 스레드에서 사용자/가게만 조회하고 재고 차감과 저장은 레인에 맡긴다")
+    void batchedModeDelegatesToLane() {
+        ReflectionTestUtils.setField(reservationService, "stockMode", StockReservationMode.BATCHED);
+        ReservationResponseDto expected = ReservationResponseDto.builder().build();
+        when(reservationLanes.reserve(any(User.class), any(Store.class), any(ReservationRequestDto.class)))
+                .thenReturn(expected);
+
+        assertThat(reservationService.createReservation(STORE_ID, request(1L))).isSameAs(expected);
+        verifyNoInteractions(transactionTemplate, productRepository, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("일괄 확정은 예약자별로 수량과 절약 금액을 합쳐 한 번씩 누적한다")
+    void bulkConfirmGroupsBuyerTotals() {
+        User owner = user(100L);
+        store.setUserId(owner.getId());
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(owner));
+        User buyer = user(200L);
+        User otherBuyer = user(300L);
+        Product product = product(5L);
+        List<Reservation> reservations = List.of(reservation(1L, buyer, product, 1L),
+                reservation(2L, buyer, product, 2L), reservation(3L, otherBuyer, product, 1L));
+        when(reservationRepository.findAllWithDetailsByIdIn(any())).thenReturn(reservations);
+
+        List<ReservationResponseDto> responses = reservationService.updateReservationStatuses(
+                List.of(1L, 2L, 3L), ReservationStatus.CONFIRMED);
+
+        assertThat(responses).extracting(ReservationResponseDto::getStatus).containsOnly(ReservationStatus.CONFIRMED);
+        verify(userRepository).increaseTotals(200L, 3, 15000);
+        verify(userRepository).increaseTotals(300L, 1, 5000);
+        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("일괄 취소는 상품별로 수량을 합쳐 재고를 한 번 되돌리고, 품절이었던 상품의 가게만 재계산한다")
+    void bulkCancelGroupsStockRestore() {
+        User owner = user(100L);
+        store.setUserId(owner.getId());
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(owner));
+        Product soldOut = product(0L);
+        soldOut.setIsOpen(false);
+        User buyer = user(200L);
+        when(reservationRepository.findAllWithDetailsByIdIn(any())).thenReturn(List.of(
+                reservation(1L, buyer, soldOut, 1L), reservation(2L, buyer, soldOut, 2L)));
+        when(productRepository.increaseProductStock(PRODUCT_ID, 3)).thenReturn(1);
+
+        reservationService.updateReservationStatuses(List.of(1L, 2L), ReservationStatus.CANCELED);
+
+        verify(productRepository, times(1)).increaseProductStock(anyLong(), anyInt());
+        verify(storeService).refreshOpenDealState(STORE_ID);
+        verify(eventPublisher).publishEvent(any(ProductStockChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("하나라도 권한이 없는 예약이 있으면 아무것도 변경하지 않는다")
+    void bulkRejectsWhenAnyReservationIsNotOwned() {
+        User owner = user(100L);
+        store.setUserId(999L);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(owner));
+        Reservation reservation = reservation(1L, user(200L), product(5L), 1L);
+        when(reservationRepository.findAllWithDetailsByIdIn(any())).thenReturn(List.of(reservation));
+
+        assertThatThrownBy(() -> reservationService.updateReservationStatuses(List.of(1L),
+                ReservationStatus.CONFIRMED))
+                .isInstanceOf(SecurityException.class);
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.PENDING);
+        verify(userRepository, never()).increaseTotals(anyLong(), anyInt(), anyInt());
+    }
+
+    private Reservation reservation(Long id, User buyer, Product product, Long quantity) {
+        Reservation reservation = request(quantity).toEntity(buyer, store, product);
+        reservation.setId(id);
+        return reservation;
+    }
+
+    private static User user(Long id) {
+        User user = User.builder().nickname("사용자" + id).build();
+        user.setId(id);
+        return user;
+    }
+
+    private Product product(Long productCount) {
+        Product product = Product.builder()
+                .store(store)
+                .productName("럭키백")
+                .originalPrice(10000L)
+                .discountedPrice(5000L)
+                .productCount(productCount)
+                .description("오늘 구운 빵")
+                .isOpen(true)
+                .build();
+        product.setId(PRODUCT_ID);
+        return product;
+    }
+
+    private static ReservationRequestDto request(Long quantity) {
+        return ReservationRequestDto.builder()
+                .productId(PRODUCT_ID)
+                .quantity(quantity)
+                .isZerowaste(false)
+                .build();
+    }
+}
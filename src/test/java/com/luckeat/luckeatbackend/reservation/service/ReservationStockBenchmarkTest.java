@@ -0,0 +1,116 @@
+package com.luckeat.luckeatbackend.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luckeat.luckeatbackend.reservation.dto.ReservationRequestDto;
+
+/**
+ * 한 상품에 예약이 몰릴 때 재고 차감 방식별 처리량 비교 (PESSIMISTIC vs ATOMIC vs BATCHED)
+ * 여러 스레드가 같은 상품을 1개씩 예약해 재고를 모두 소진하는 데 걸린 시간으로 초당 예약 수를 출력합니다.
+ * 실제 MySQL 데이터(상품, 예약할 사용자)가 필요하므로 RESERVATION_BENCHMARK=true 환경 변수가 있을 때만 실행합니다.
+ * 상품 재고를 덮어쓰고 예약 행을 만들었다가 지우므로 벤치마크용 DB에서만 실행합니다.
+ * 예) RESERVATION_BENCHMARK=true RESERVATION_BENCHMARK_PRODUCT_ID=1 RESERVATION_BENCHMARK_USER_EMAIL=test@luckeat.net \
+ *     ./gradlew test --tests '*ReservationStockBenchmarkTest'
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "RESERVATION_BENCHMARK", matches = "true")
+class ReservationStockBenchmarkTest {
+
+    private static final int THREADS = 32;
+    private static final int RESERVATIONS_PER_THREAD = 50;
+    private static final int STOCK = THREADS * RESERVATIONS_PER_THREAD;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 상품에 동시 예약: 모든 방식이 재고만큼만 예약되고 초당 예약 수를 출력한다")
+    void compareHotProductContention() throws Exception {
+        Long productId = Long.valueOf(System.getenv("RESERVATION_BENCHMARK_PRODUCT_ID"));
+        String userEmail = System.getenv("RESERVATION_BENCHMARK_USER_EMAIL");
+        Long storeId = jdbcTemplate.queryForObject("SELECT store_id FROM product WHERE id = ?", Long.class, productId);
+
+        Result pessimistic = run(StockReservationMode.PESSIMISTIC, storeId, productId, userEmail);
+        Result atomic = run(StockReservationMode.ATOMIC, storeId, productId, userEmail);
+        Result batched = run(StockReservationMode.BATCHED, storeId, productId, userEmail);
+
+        for (Result result : List.of(pessimistic, atomic, batched)) {
+            assertThat(result.succeeded()).isEqualTo(STOCK);
+            assertThat(result.remainingStock()).isZero();
+        }
+        System.out.printf("[hot-product] threads=%d, stock=%d | pessimistic: %.0f reservations/s"
+                + " | atomic: %.0f reservations/s | batched: %.0f reservations/s%n", THREADS, STOCK,
+                pessimistic.perSecond(), atomic.perSecond(), batched.perSecond());
+    }
+
+    private Result run(StockReservationMode mode, Long storeId, Long productId, String userEmail) throws Exception {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(reservationService), "stockMode", mode);
+        jdbcTemplate.update("UPDATE product SET product_count = ?, is_open = true WHERE id = ?", STOCK, productId);
+        Long lastReservationId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM reservation", Long.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(userEmail, null, List.of()));
+                start.await();
+                int succeeded = 0;
+                for (int j = 0; j < RESERVATIONS_PER_THREAD; j++) {
+                    try {
+                        reservationService.createReservation(storeId, ReservationRequestDto.builder()
+                                .productId(productId).quantity(1L).isZerowaste(false).build());
+                        succeeded++;
+                    } catch (IllegalStateException e) {
+                        // 재고 부족 (정상적으로는 발생하지 않음)
+                    }
+                }
+                return succeeded;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Integer> future : futures) {
+            succeeded += future.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Long remainingStock = jdbcTemplate.queryForObject("SELECT product_count FROM product WHERE id = ?",
+                Long.class, productId);
+        jdbcTemplate.update("DELETE FROM reservation WHERE id > ? AND product_id = ?", lastReservationId, productId);
+        return new Result(succeeded, remainingStock, elapsed);
+    }
+
+    private record Result(int succeeded, long remainingStock, long elapsedNanos) {
+
+        double perSecond() {
+            return succeeded / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
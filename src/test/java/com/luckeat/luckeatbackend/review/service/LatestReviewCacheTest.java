@@ -0,0 +1,159 @@
+package com.luckeat.luckeatbackend.review.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luckeat.luckeatbackend.review.dto.ReviewCursor;
+import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewSliceResponseDto;
+import com.luckeat.luckeatbackend.review.event.ReviewChangedEvent;
+import com.luckeat.luckeatbackend.review.repository.ReviewRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LatestReviewCacheTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final String KEY = "reviews:latest:1";
+    private static final int WINDOW_SIZE = 5;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private LatestReviewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LatestReviewCache(redisTemplate, reviewRepository, objectMapper);
+        ReflectionTestUtils.setField(cache, "windowSize", WINDOW_SIZE);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 10L);
+        lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+    }
+
+    @Test
+    @DisplayName("윈도우가 있으면 DB를 조회하지 않고 첫 페이지와 커서를 만든다")
+    void firstPageFromWindow() throws Exception {
+        // given: 최신 리뷰 10, 9, 8 (요청 크기 2 + 1건)
+        when(listOperations.range(KEY, 0, 2)).thenReturn(json(10L, 9L, 8L));
+
+        // when
+        ReviewSliceResponseDto page = cache.getFirstPage(STORE_ID, 2);
+
+        // then
+        assertThat(page.getContent()).extracting(ReviewResponseDto::getReviewId).containsExactly(10L, 9L);
+        assertThat(page.isHasNext()).isTrue();
+        ReviewCursor cursor = ReviewCursor.decode(page.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(9L);
+        assertThat(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+        verify(reviewRepository, never()).findStoreReviewSlice(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("끝 표시가 있으면 다음 페이지가 없다")
+    void firstPageWithEndMarker() throws Exception {
+        List<String> cached = json(2L, 1L);
+        cached.add(LatestReviewCache.END_MARKER);
+        when(listOperations.range(KEY, 0, 3)).thenReturn(cached);
+
+        ReviewSliceResponseDto page = cache.getFirstPage(STORE_ID, 3);
+
+        assertThat(page.getContent()).extracting(ReviewResponseDto::getReviewId).containsExactly(2L, 1L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verify(reviewRepository, never()).findStoreReviewSlice(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("윈도우가 없으면 DB에서 windowSize + 1건을 읽어 다시 적재한다")
+    void reloadWindowOnMiss() {
+        when(listOperations.range(KEY, 0, 2)).thenReturn(List.of());
+        when(reviewRepository.findStoreReviewSlice(eq(STORE_ID), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        ReviewSliceResponseDto page = cache.getFirstPage(STORE_ID, 2);
+
+        assertThat(page.getContent()).isEmpty();
+        verify(reviewRepository).findStoreReviewSlice(STORE_ID, null, null,
+                PageRequest.of(0, WINDOW_SIZE + 1));
+        verify(redisTemplate).execute(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("윈도우보다 큰 페이지는 캐시를 거치지 않고 DB에서 조회한다")
+    void largePageBypassesWindow() {
+        when(reviewRepository.findStoreReviewSlice(eq(STORE_ID), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        cache.getFirstPage(STORE_ID, WINDOW_SIZE + 1);
+
+        verify(redisTemplate, never()).opsForList();
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 윈도우 앞에 추가하고 windowSize + 1건으로 자른다")
+    void createdReviewIsPrependedAndTrimmed() {
+        when(listOperations.leftPushIfPresent(eq(KEY), anyString())).thenReturn((long) WINDOW_SIZE + 2);
+
+        cache.onReviewChanged(new ReviewChangedEvent(ReviewChangedEvent.ChangeType.CREATED, STORE_ID, review(11L)));
+
+        verify(listOperations).trim(KEY, 0, WINDOW_SIZE);
+    }
+
+    @Test
+    @DisplayName("리뷰 수정/삭제 시 윈도우를 삭제한다")
+    void updatedOrDeletedReviewEvictsWindow() {
+        cache.onReviewChanged(new ReviewChangedEvent(ReviewChangedEvent.ChangeType.DELETED, STORE_ID, null));
+
+        verify(redisTemplate).delete(KEY);
+        verify(listOperations, never()).leftPushIfPresent(anyString(), anyString());
+    }
+
+    private List<String> json(Long... ids) throws Exception {
+        List<String> values = new ArrayList<>();
+        for (Long id : ids) {
+            values.add(objectMapper.writeValueAsString(review(id)));
+        }
+        return values;
+    }
+
+    private static ReviewResponseDto review(Long id) {
+        return ReviewResponseDto.builder()
+                .reviewId(id)
+                .userNickname("행복한식객")
+                .rating(5)
+                .reviewContent("맛있어요")
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.luckeat.luckeatbackend.review.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.luckeat.luckeatbackend.product.model.Product;
+import com.luckeat.luckeatbackend.reservation.model.Reservation;
+import com.luckeat.luckeatbackend.reservation.model.Reservation.ReservationStatus;
+import com.luckeat.luckeatbackend.reservation.service.ReservationLanes;
+import com.luckeat.luckeatbackend.reservation.service.ReservationService;
+import com.luckeat.luckeatbackend.reservation.service.StockGate;
+import com.luckeat.luckeatbackend.review.dto.ReviewRequestDto;
+import com.luckeat.luckeatbackend.review.dto.ReviewResponseDto;
+import com.luckeat.luckeatbackend.review.event.ReviewChangedEvent;
+import com.luckeat.luckeatbackend.store.event.StoreChangedEvent;
+import com.luckeat.luckeatbackend.store.index.StoreGeoIndex;
+import com.luckeat.luckeatbackend.store.index.StoreSearchIndex;
+import com.luckeat.luckeatbackend.store.index.StoreSpatialIndexCheck;
+import com.luckeat.luckeatbackend.store.index.StoreSuggestIndex;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreListJdbcRepository;
+import com.luckeat.luckeatbackend.store.service.StoreCellCacheService;
+import com.luckeat.luckeatbackend.store.service.StoreListCacheTags;
+import com.luckeat.luckeatbackend.store.service.StoreListItemCache;
+import com.luckeat.luckeatbackend.store.service.StoreService;
+import com.luckeat.luckeatbackend.users.model.User;
+import com.luckeat.luckeatbackend.users.service.UserService;
+
+/**
+ * 리뷰 작성을 실제 JPA/H2로 실행해, 가게 리뷰 수 갱신 뒤에도 예약의 지연 로딩 연관을 읽을 수 있는지 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReviewService.class, ReservationService.class, StoreService.class})
+@RecordApplicationEvents
+class ReviewServiceJpaTest {
+
+    private static final String BUYER_EMAIL = "buyer@luckeat.net";
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private LatestReviewCache latestReviewCache;
+
+    @MockBean
+    private StockGate stockGate;
+
+    @MockBean
+    private ReservationLanes reservationLanes;
+
+    @MockBean
+    private StoreListJdbcRepository storeListJdbcRepository;
+
+    @MockBean
+    private StoreGeoIndex storeGeoIndex;
+
+    @MockBean
+    private StoreSearchIndex storeSearchIndex;
+
+    @MockBean
+    private StoreSuggestIndex storeSuggestIndex;
+
+    @MockBean
+    private StoreSpatialIndexCheck storeSpatialIndexCheck;
+
+    @MockBean
+    private StoreCellCacheService storeCellCacheService;
+
+    @MockBean
+    private StoreListCacheTags storeListCacheTags;
+
+    @MockBean
+    private StoreListItemCache storeListItemCache;
+
+    private Store store;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        User seller = testEntityManager.persist(user("seller@luckeat.net", "사장님", User.Role.SELLER));
+        User buyer = testEntityManager.persist(user(BUYER_EMAIL, "행복한식객", User.Role.BUYER));
+        store = testEntityManager.persist(Store.builder()
+                .userId(seller.getId())
+                .storeName("럭키 베이커리")
+                .address("제주시 연동 123-45")
+                .latitude(33.4890f)
+                .longitude(126.4983f)
+                .categoryId(1L)
+                .shareCount(0L)
+                .build());
+        Product product = testEntityManager.persist(Product.builder()
+                .store(store)
+                .productName("럭키백")
+                .originalPrice(10000L)
+                .discountedPrice(5000L)
+                .productCount(3L)
+                .description("오늘 구운 빵")
+                .isOpen(true)
+                .build());
+        reservation = testEntityManager.persist(Reservation.builder()
+                .user(buyer)
+                .store(store)
+                .product(product)
+                .quantity(1L)
+                .totalPrice(5000L)
+                .status(ReservationStatus.CONFIRMED)
+                .isZerowaste(false)
+                .isReviewed(false)
+                .build());
+        // 예약의 연관 엔티티가 지연 로딩 프록시로 조회되도록 비움
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        when(userService.getUserByEmail(BUYER_EMAIL)).thenReturn(Optional.of(buyer));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(BUYER_EMAIL, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("리뷰를 작성하면 가게 리뷰 수가 늘고, 최신 리뷰 캐시에 넣을 리뷰에 예약의 가게/상품/예약자 정보가 담긴다")
+    void createReviewBuildsCachedReviewFromReservation() {
+        ReviewRequestDto request = ReviewRequestDto.builder()
+                .storeId(store.getId())
+                .reservationId(reservation.getId())
+                .rating(5)
+                .reviewContent("맛있어요")
+                .build();
+
+        reviewService.createReview(request);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        ReviewResponseDto created = applicationEvents.stream(ReviewChangedEvent.class)
+                .findFirst()
+                .orElseThrow()
+                .getReview();
+        assertThat(created.getStoreName()).isEqualTo("럭키 베이커리");
+        assertThat(created.getProductName()).isEqualTo("럭키백");
+        assertThat(created.getUserNickname()).isEqualTo("행복한식객");
+        assertThat(testEntityManager.find(Store.class, store.getId()).getReviewCount()).isEqualTo(1L);
+        // 인메모리 인덱스에 반영되는 가게 변경 이벤트도 새 리뷰 수를 담음
+        assertThat(applicationEvents.stream(StoreChangedEvent.class))
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.getStore().getReviewCount()).isEqualTo(1L));
+        assertThat(testEntityManager.find(Reservation.class, reservation.getId()).getIsReviewed()).isTrue();
+    }
+
+    private static User user(String email, String nickname, User.Role role) {
+        return User.builder()
+                .role(role)
+                .email(email)
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
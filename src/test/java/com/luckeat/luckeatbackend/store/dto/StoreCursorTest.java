@@ -0,0 +1,65 @@
+package com.luckeat.luckeatbackend.store.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.luckeat.luckeatbackend.common.exception.store.StoreInvalidCursorException;
+
+class StoreCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 다시 해석하면 정렬 키와 ID가 유지된다")
+    void encodeAndDecode() {
+        // given
+        StoreCursor cursor = new StoreCursor(StoreCursor.SortType.DISTANCE, 1.2345678901234567, 42L);
+
+        // when
+        StoreCursor decoded = StoreCursor.decode(cursor.encode(), StoreCursor.SortType.DISTANCE);
+
+        // then
+        assertThat(decoded.getSortType()).isEqualTo(StoreCursor.SortType.DISTANCE);
+        assertThat(decoded.getKey()).isEqualTo(1.2345678901234567);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("정렬 키가 없는 커서(별점 없음)도 해석할 수 있다")
+    void decodeNullKey() {
+        StoreCursor cursor = new StoreCursor(StoreCursor.SortType.RATING, null, 7L);
+
+        StoreCursor decoded = StoreCursor.decode(cursor.encode(), StoreCursor.SortType.RATING);
+
+        assertThat(decoded.getKey()).isNull();
+        assertThat(decoded.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지로 간주한다")
+    void decodeEmpty() {
+        assertThat(StoreCursor.decode(null, StoreCursor.SortType.ID)).isNull();
+        assertThat(StoreCursor.decode("", StoreCursor.SortType.ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다르거나 형식이 잘못된 커서는 거부한다")
+    void rejectInvalidCursor() {
+        String shareCursor = new StoreCursor(StoreCursor.SortType.SHARE, 3.0, 1L).encode();
+
+        assertThatThrownBy(() -> StoreCursor.decode(shareCursor, StoreCursor.SortType.RATING))
+                .isInstanceOf(StoreInvalidCursorException.class);
+        assertThatThrownBy(() -> StoreCursor.decode("not-a-cursor!", StoreCursor.SortType.SHARE))
+                .isInstanceOf(StoreInvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("위치 정보 유무에 따라 기본 정렬이 결정된다")
+    void sortTypeFromParameter() {
+        assertThat(StoreCursor.SortType.from("share", true)).isEqualTo(StoreCursor.SortType.SHARE);
+        assertThat(StoreCursor.SortType.from("rating,desc", false)).isEqualTo(StoreCursor.SortType.RATING);
+        assertThat(StoreCursor.SortType.from(null, true)).isEqualTo(StoreCursor.SortType.DISTANCE);
+        assertThat(StoreCursor.SortType.from("distance", false)).isEqualTo(StoreCursor.SortType.ID);
+    }
+}
@@ -0,0 +1,82 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreGeoIndexTest {
+
+    private static final double CENTER_LAT = 37.4000;
+    private static final double CENTER_LNG = 127.1000;
+
+    private StoreGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreGeoIndex();
+        index.rebuild(List.of(
+                entry(1L, 1L, 37.4010, 127.1000),   // 약 0.1km
+                entry(2L, 2L, 37.4100, 127.1000),   // 약 1.1km
+                entry(3L, 1L, 37.4500, 127.1000),   // 약 5.6km
+                entry(4L, 1L, 37.5665, 126.9780))); // 약 21km (서울 시청)
+    }
+
+    @Test
+    @DisplayName("반경 내 가게만 거리순으로 반환한다")
+    void searchWithinRadius() {
+        // when
+        List<StoreGeoIndex.Hit> hits = index.search(CENTER_LAT, CENTER_LNG, 6.0, null);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.getEntry().getId()).containsExactly(1L, 2L, 3L);
+        assertThat(hits.get(0).getDistanceKm()).isLessThan(hits.get(1).getDistanceKm());
+    }
+
+    @Test
+    @DisplayName("반경이 없으면 전체 가게를 거리순으로 반환한다")
+    void searchWithoutRadius() {
+        List<StoreGeoIndex.Hit> hits = index.search(CENTER_LAT, CENTER_LNG, null, null);
+
+        assertThat(hits).extracting(hit -> hit.getEntry().getId()).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("추가 조건으로 카테고리를 필터링할 수 있다")
+    void searchWithFilter() {
+        List<StoreGeoIndex.Hit> hits = index.search(CENTER_LAT, CENTER_LNG, 6.0,
+                entry -> entry.getCategoryId() == 1L);
+
+        assertThat(hits).extracting(hit -> hit.getEntry().getId()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("위치가 변경된 가게는 새 셀 기준으로 검색된다")
+    void upsertMovesStore() {
+        // given
+        index.upsert(entry(4L, 1L, 37.4005, 127.1000));
+
+        // when
+        List<StoreGeoIndex.Hit> hits = index.search(CENTER_LAT, CENTER_LNG, 1.0, null);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.getEntry().getId()).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 가게는 검색되지 않는다")
+    void removeStore() {
+        index.remove(1L);
+
+        List<StoreGeoIndex.Hit> hits = index.search(CENTER_LAT, CENTER_LNG, 6.0, null);
+
+        assertThat(hits).extracting(hit -> hit.getEntry().getId()).containsExactly(2L, 3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static StoreIndexEntry entry(Long id, Long categoryId, double lat, double lng) {
+        return new StoreIndexEntry(id, "가게" + id, "주소", null, categoryId, lat, lng, 0L, null, 0L, false);
+    }
+}
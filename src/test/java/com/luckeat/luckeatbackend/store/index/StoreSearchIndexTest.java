@@ -0,0 +1,69 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreSearchIndexTest {
+
+    private StoreSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSearchIndex();
+        index.rebuild(List.of(
+                entry(1L, 1L, "맛있는 빵집", "제주시 연동 123-45", "갓 구운 빵", 33.4890, 126.4983),
+                entry(2L, 2L, "Luck Cafe", "서울시 강남구 역삼동", "빵과 커피", 37.5000, 127.0364),
+                entry(3L, 1L, "국수 한그릇", "제주시 노형동", null, 33.4840, 126.4770)));
+    }
+
+    @Test
+    @DisplayName("공백과 대소문자를 무시하고 부분 문자열로 검색한다")
+    void searchIgnoresWhitespaceAndCase() {
+        assertThat(ids(index.search("있는빵", null, null, null, null))).containsExactlyInAnyOrder(1L);
+        assertThat(ids(index.search("luck ca", null, null, null, null))).containsExactlyInAnyOrder(2L);
+    }
+
+    @Test
+    @DisplayName("이름뿐 아니라 주소와 설명에서도 검색되며 이름 일치 여부를 구분한다")
+    void searchAddressAndDescription() {
+        List<StoreSearchIndex.Hit> hits = index.search("제주시", null, null, null, null);
+        assertThat(ids(hits)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(hits).noneMatch(StoreSearchIndex.Hit::isNameMatch);
+
+        List<StoreSearchIndex.Hit> breadHits = index.search("빵", null, null, null, null);
+        assertThat(ids(breadHits)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(breadHits).filteredOn(StoreSearchIndex.Hit::isNameMatch)
+                .extracting(hit -> hit.getEntry().getId()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 조건과 반경 조건을 인덱스 안에서 적용한다")
+    void searchWithFilterAndRadius() {
+        assertThat(ids(index.search("제주", null, null, null, entry -> entry.getCategoryId() == 2L))).isEmpty();
+        assertThat(ids(index.search("제주", 33.4890, 126.4983, 1.0, null))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("변경/삭제된 가게는 새 내용으로 검색된다")
+    void upsertAndRemove() {
+        index.upsert(entry(1L, 1L, "맛있는 떡집", "제주시 연동 123-45", null, 33.4890, 126.4983));
+        index.remove(3L);
+
+        assertThat(ids(index.search("빵집", null, null, null, null))).isEmpty();
+        assertThat(ids(index.search("떡집", null, null, null, null))).containsExactly(1L);
+        assertThat(ids(index.search("국수", null, null, null, null))).isEmpty();
+    }
+
+    private static List<Long> ids(List<StoreSearchIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.getEntry().getId()).toList();
+    }
+
+    private static StoreIndexEntry entry(Long id, Long categoryId, String name, String address, String description,
+            double lat, double lng) {
+        return new StoreIndexEntry(id, name, address, description, categoryId, lat, lng, 0L, null, 0L, false);
+    }
+}
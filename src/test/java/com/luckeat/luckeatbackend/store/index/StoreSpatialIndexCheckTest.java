@@ -0,0 +1,84 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSpatialIndexCheckTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private StoreSpatialIndexCheck check;
+
+    @BeforeEach
+    void setUp() {
+        check = new StoreSpatialIndexCheck(jdbcTemplate);
+        ReflectionTestUtils.setField(check, "geoSearchMode", GeoSearchMode.SPATIAL);
+    }
+
+    @Test
+    @DisplayName("컬럼과 SPATIAL 인덱스가 있으면 SPATIAL 조회를 사용한다")
+    void availableWhenIndexExists() {
+        stubCount("COLUMNS", 1);
+        stubCount("STATISTICS", 1);
+
+        check.run(null);
+
+        assertThat(check.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("SPATIAL 인덱스가 없으면 DDL을 실행하지 않고 SPATIAL 조회를 끈다")
+    void fallsBackWithoutIndex() {
+        stubCount("COLUMNS", 1);
+        stubCount("STATISTICS", 0);
+
+        check.run(null);
+
+        assertThat(check.isAvailable()).isFalse();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("스키마 조회가 실패해도 시작을 막지 않고 SPATIAL 조회를 끈다")
+    void fallsBackWhenCheckFails() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class)))
+                .thenThrow(new DataAccessResourceFailureException("권한 없음"));
+
+        check.run(null);
+
+        assertThat(check.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("SPATIAL 모드가 아니면 스키마를 확인하지 않는다")
+    void skipsOtherModes() {
+        ReflectionTestUtils.setField(check, "geoSearchMode", GeoSearchMode.INDEX);
+
+        check.run(null);
+
+        assertThat(check.isAvailable()).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void stubCount(String table, int count) {
+        when(jdbcTemplate.queryForObject(argThat(sql -> sql != null && sql.contains("information_schema." + table)),
+                eq(Integer.class))).thenReturn(count);
+    }
+}
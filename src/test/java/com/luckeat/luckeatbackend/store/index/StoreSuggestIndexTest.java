@@ -0,0 +1,81 @@
+package com.luckeat.luckeatbackend.store.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreSuggestIndexTest {
+
+    private StoreSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSuggestIndex();
+        index.rebuild(List.of(
+                entry(1L, "맛있는 빵집", 5L, 4.0f),
+                entry(2L, "맛나 분식", 10L, null),
+                entry(3L, "닭강정 맛집", 3L, 4.5f),
+                entry(4L, "Luck Cafe", 7L, 3.0f)));
+    }
+
+    @Test
+    @DisplayName("완성형 접두사로 검색하면 공유 수 순으로 반환한다")
+    void suggestBySyllablePrefix() {
+        // 3번은 두 번째 단어("맛집")에서 일치
+        assertThat(ids(index.suggest("맛", 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(index.suggest("맛", 2))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자와 겹받침도 접두사로 처리한다")
+    void suggestByPartialSyllable() {
+        assertThat(ids(index.suggest("마", 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(index.suggest("달", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("초성과 단어 중간 시작 위치로도 검색된다")
+    void suggestByChoseongAndWordStart() {
+        assertThat(ids(index.suggest("ㅁㅇ", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("빵", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("ㅁㅈ", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("ca", 10))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("순위가 바뀌거나 삭제된 가게가 반영된다")
+    void upsertAndRemove() {
+        index.upsert(entry(1L, "맛있는 빵집", 100L, 4.0f));
+        assertThat(ids(index.suggest("맛", 10))).containsExactly(1L, 2L, 3L);
+
+        index.remove(1L);
+        assertThat(ids(index.suggest("맛", 10))).containsExactly(2L, 3L);
+        assertThat(index.suggest("빵", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상위 후보가 삭제되면 하위 노드에서 다음 후보를 채운다")
+    void refillTopAfterRemove() {
+        List<StoreIndexEntry> entries = new ArrayList<>();
+        for (long id = 10; id < 30; id++) {
+            entries.add(entry(id, "맛집" + id, id, null));
+        }
+        index.rebuild(entries);
+
+        index.remove(29L);
+
+        assertThat(ids(index.suggest("맛집", 3))).containsExactly(28L, 27L, 26L);
+    }
+
+    private static List<Long> ids(List<StoreIndexEntry> entries) {
+        return entries.stream().map(StoreIndexEntry::getId).toList();
+    }
+
+    private static StoreIndexEntry entry(Long id, String name, long shareCount, Float rating) {
+        return new StoreIndexEntry(id, name, "주소", null, 1L, 37.5, 127.0, shareCount, rating, 0L, false);
+    }
+}
@@ -0,0 +1,110 @@
+package com.luckeat.luckeatbackend.store.repository;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.luckeat.luckeatbackend.common.util.SortUtil;
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+
+/**
+ * 가게 목록 조회 경로 비교 (엔티티 조회 후 DTO 변환 vs JDBC 목록 전용 조회)
+ * 실제 MySQL 데이터가 필요하므로 STORE_BENCHMARK=true 환경 변수가 있을 때만 실행합니다.
+ * 예) STORE_BENCHMARK=true ./gradlew test --tests '*StoreListReadBenchmarkTest'
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "STORE_BENCHMARK", matches = "true")
+class StoreListReadBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+    private static final double LAT = 33.4890;
+    private static final double LNG = 126.4983;
+    private static final double RADIUS_KM = 5.0;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreListJdbcRepository storeListJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("위치 없는 목록: 두 경로의 결과가 같고 JDBC 경로의 할당량/지연을 출력한다")
+    void compareWithoutLocation() {
+        Pageable pageable = PageRequest.of(0, 20, SortUtil.parseSortParameter("share"));
+
+        Supplier<List<StoreListDto>> entityPath = () -> transactionTemplate.execute(status ->
+                storeRepository.findStoresWithoutLocation(0, null, null, pageable)
+                        .map(StoreListDto::fromEntity).getContent());
+        Supplier<List<StoreListDto>> jdbcPath = () ->
+                storeListJdbcRepository.findStoresWithoutLocation(0, null, null, pageable).getContent();
+
+        // 공유 수가 같은 가게끼리는 순서가 정해지지 않으므로 정렬 키 순서만 비교
+        assertThat(jdbcPath.get()).extracting(StoreListDto::getShareCount)
+                .containsExactlyElementsOf(entityPath.get().stream().map(StoreListDto::getShareCount).toList());
+        report("without-location", entityPath, jdbcPath);
+    }
+
+    @Test
+    @DisplayName("위치 기반 목록: 두 경로의 결과가 같고 JDBC 경로의 할당량/지연을 출력한다")
+    void compareWithLocation() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        Supplier<List<StoreListDto>> entityPath = () -> transactionTemplate.execute(status ->
+                storeRepository.findStoresWithLocation(0, null, null, LAT, LNG, RADIUS_KM, pageable)
+                        .map(StoreListDto::fromEntity).getContent());
+        Supplier<List<StoreListDto>> jdbcPath = () ->
+                storeListJdbcRepository.findStoresWithLocation(0, null, null, LAT, LNG, RADIUS_KM, null, pageable)
+                        .getContent();
+
+        assertThat(ids(jdbcPath.get())).containsExactlyElementsOf(ids(entityPath.get()));
+        report("with-location", entityPath, jdbcPath);
+    }
+
+    private static void report(String name, Supplier<List<StoreListDto>> entityPath,
+            Supplier<List<StoreListDto>> jdbcPath) {
+        Result entity = measure(entityPath);
+        Result jdbc = measure(jdbcPath);
+        System.out.printf("[%s] entity: %.1f KB/op, %.3f ms/op | jdbc: %.1f KB/op, %.3f ms/op%n",
+                name, entity.kbPerOp, entity.msPerOp, jdbc.kbPerOp, jdbc.msPerOp);
+    }
+
+    private static Result measure(Supplier<List<StoreListDto>> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            path.get();
+        }
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            path.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(allocated / 1024.0 / ITERATIONS, elapsed / 1_000_000.0 / ITERATIONS);
+    }
+
+    private static List<Long> ids(List<StoreListDto> stores) {
+        return stores.stream().map(StoreListDto::getId).toList();
+    }
+
+    private record Result(double kbPerOp, double msPerOp) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luckeat.luckeatbackend.common.cache.TwoLevelCache;
+import com.luckeat.luckeatbackend.common.util.GeoUtil;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCellCacheTagsTest {
+
+    private static final double LAT = 33.4890;
+    private static final double LNG = 126.4983;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private StoreCellCacheTags storeCellCacheTags;
+
+    @BeforeEach
+    void setUp() {
+        storeCellCacheTags = new StoreCellCacheTags(redisTemplate, cacheManager);
+        ReflectionTestUtils.setField(storeCellCacheTags, "tagPrecision", 4);
+        ReflectionTestUtils.setField(storeCellCacheTags, "tagTtlMinutes", 10L);
+    }
+
+    @Test
+    @DisplayName("할인 여부로 필터링하지 않은 셀 항목은 전체 태그에만 기록한다")
+    void registersUnfilteredEntriesUnderAllTags() {
+        GeoUtil.BoundingBox queryBox = GeoUtil.boundingBox(LAT, LNG, 2.0);
+
+        storeCellCacheTags.register("wy7b1h_1.00_all_0", null, queryBox);
+
+        assertThat(registeredTags()).containsExactlyInAnyOrderElementsOf(tags("stores:cell-tag:all:", queryBox));
+    }
+
+    @Test
+    @DisplayName("할인 여부로 필터링한 셀 항목은 전체 태그와 마감할인 태그에 모두 기록한다")
+    void registersFilteredEntriesUnderBothTags() {
+        GeoUtil.BoundingBox queryBox = GeoUtil.boundingBox(LAT, LNG, 2.0);
+
+        storeCellCacheTags.register("wy7b1h_1.00_true_0", true, queryBox);
+
+        List<String> expected = new ArrayList<>(tags("stores:cell-tag:all:", queryBox));
+        expected.addAll(tags("stores:cell-tag:", queryBox));
+        assertThat(registeredTags()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("마감할인 상태가 바뀌면 가게 좌표가 속한 마감할인 태그의 항목만 삭제하고 셀 캐시 전체를 비우지 않는다")
+    void evictsOpenDealEntriesAroundStore() {
+        TwoLevelCache cells = mock(TwoLevelCache.class);
+        when(cacheManager.getCache(StoreCellCacheTags.CACHE_NAME)).thenReturn(cells);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.union(List.of(
+                "stores:cell-tag:" + GeoUtil.geohash(LAT, LNG, 4), "stores:cell-tag:*")))
+                .thenReturn(Set.of("storeCells::wy7b1h_1.00_true_0"));
+
+        storeCellCacheTags.evict(LAT, LNG, true);
+
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        verify(cells).evictLocal(List.of("wy7b1h_1.00_true_0"));
+        verify(cells, never()).clear();
+    }
+
+    @Test
+    @DisplayName("가게가 생성/수정/삭제되면 가게 좌표가 속한 전체 태그의 항목을 삭제한다")
+    void evictsAllEntriesAroundStore() {
+        when(cacheManager.getCache(StoreCellCacheTags.CACHE_NAME)).thenReturn(mock(TwoLevelCache.class));
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.union(List.of(
+                "stores:cell-tag:all:" + GeoUtil.geohash(LAT, LNG, 4), "stores:cell-tag:all:*")))
+                .thenReturn(Set.of("storeCells::wy7b1h_1.00_all_0"));
+
+        storeCellCacheTags.evict(LAT, LNG, false);
+
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    /**
+     * register가 파이프라인에서 SADD한 태그 키를 모읍니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> registeredTags() {
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        SetOperations<String, String> sets = mock(SetOperations.class);
+        when(operations.opsForSet()).thenReturn(sets);
+        callback.getValue().execute(operations);
+        return mockingDetails(sets).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("add"))
+                .map(invocation -> (String) invocation.getArgument(0))
+                .toList();
+    }
+
+    private static List<String> tags(String prefix, GeoUtil.BoundingBox queryBox) {
+        return GeoUtil.geohashesCovering(queryBox, 4, 64).stream().map(cell -> prefix + cell).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.luckeat.luckeatbackend.common.cache.TwoLevelCache;
+import com.luckeat.luckeatbackend.common.filter.ResponseCacheFilter;
+
+@ExtendWith(MockitoExtension.class)
+class StoreListCacheTagsTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private StoreListCacheTags storeListCacheTags;
+
+    @BeforeEach
+    void setUp() {
+        storeListCacheTags = new StoreListCacheTags(redisTemplate, cacheManager);
+    }
+
+    @Test
+    @DisplayName("리뷰 수 변경은 해당 범위의 리뷰순 페이지만 대상으로 한다 (표시 값은 가게별 목록 항목에서 채움)")
+    void reviewCountTags() {
+        Set<String> tags = StoreListCacheTags.reviewCountTags(3L, true);
+
+        assertThat(tags).containsExactlyInAnyOrder(
+                "scope:0:all:review", "scope:0:true:review",
+                "scope:3:all:review", "scope:3:true:review");
+    }
+
+    @Test
+    @DisplayName("가게 추가/삭제는 전체/해당 카테고리 × 전체/해당 할인 상태 범위의 모든 정렬 페이지를 대상으로 한다")
+    void membershipTags() {
+        Set<String> tags = StoreListCacheTags.membershipTags(3L, null);
+
+        assertThat(tags).containsExactlyInAnyOrder(
+                "scope:0:all", "scope:0:false",
+                "scope:3:all", "scope:3:false");
+    }
+
+    @Test
+    @DisplayName("정렬 키 변경은 해당 범위에서 그 기준으로 정렬한 페이지만 대상으로 한다")
+    void sortKeyTags() {
+        assertThat(StoreListCacheTags.sortKeyTags(3L, false, "rating")).containsExactlyInAnyOrder(
+                "scope:0:all:rating", "scope:0:false:rating", "scope:3:all:rating", "scope:3:false:rating");
+    }
+
+    @Test
+    @DisplayName("마감할인 상태 변경은 할인 여부로 필터링한 페이지만 대상으로 한다")
+    void openDealTags() {
+        assertThat(StoreListCacheTags.openDealTags(3L)).containsExactlyInAnyOrder(
+                "scope:0:true", "scope:0:false", "scope:3:true", "scope:3:false");
+    }
+
+    @Test
+    @DisplayName("정렬 태그는 방향을 무시하고 정렬 기준만 사용한다")
+    void sortTag() {
+        assertThat(StoreListCacheTags.sortTag("Review,asc")).isEqualTo("review");
+        assertThat(StoreListCacheTags.sortTag(null)).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("태그 SET의 합집합으로 삭제할 페이지를 찾고 KEYS를 사용하지 않는다")
+    void evictUsesTagUnion() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.union(List.of("stores:tag:scope:0:all:share", "stores:tag:scope:0:all:review")))
+                .thenReturn(Set.of("storePages::review_all_0_20_0"));
+
+        storeListCacheTags.evict(new LinkedHashSet<>(List.of("scope:0:all:share", "scope:0:all:review")));
+
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, never()).keys(any());
+    }
+
+    @Test
+    @DisplayName("태그에 연결된 목록 응답도 페이지와 함께 삭제하고, 응답 캐시 전체를 비우지 않는다")
+    void evictRemovesTaggedResponsesOnly() {
+        TwoLevelCache pages = mock(TwoLevelCache.class);
+        TwoLevelCache responses = mock(TwoLevelCache.class);
+        when(cacheManager.getCache(StoreListCacheTags.CACHE_NAME)).thenReturn(pages);
+        when(cacheManager.getCache(ResponseCacheFilter.STORE_LIST_CACHE)).thenReturn(responses);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.union(List.of("stores:tag:scope:3:true")))
+                .thenReturn(Set.of("storePages::default_true_0_20_3", "storeListResponses::default_true_0_20_3"));
+
+        storeListCacheTags.evict(Set.of("scope:3:true"));
+
+        verify(pages).evictLocal(List.of("default_true_0_20_3"));
+        verify(responses).evictLocal(List.of("default_true_0_20_3"));
+        verify(responses, never()).clear();
+    }
+
+    @Test
+    @DisplayName("연결된 페이지가 없으면 삭제 명령을 보내지 않는다")
+    void evictWithoutPages() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.union(List.of("stores:tag:scope:3:all"))).thenReturn(Set.of());
+
+        storeListCacheTags.evict(Set.of("scope:3:all"));
+
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+}
@@ -0,0 +1,116 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luckeat.luckeatbackend.common.cache.CacheValueSerializer;
+import com.luckeat.luckeatbackend.config.CacheConfig;
+import com.luckeat.luckeatbackend.store.dto.StoreListDto;
+import com.luckeat.luckeatbackend.store.event.StoreListCacheEvictEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class StoreListItemCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private StoreListItemCache storeListItemCache;
+    private CacheValueSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        storeListItemCache = new StoreListItemCache(redisTemplate, new SimpleMeterRegistry(), 10);
+        ObjectMapper binaryMapper = CacheConfig.binaryObjectMapper();
+        serializer = new CacheValueSerializer(binaryMapper, binaryMapper.constructType(StoreListDto.class), 0,
+                new GenericJackson2JsonRedisSerializer(CacheConfig.legacyObjectMapper()));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 가게만 DB에서 한 번에 조회하고 ID 순서대로 채운다")
+    void loadsOnlyMissingItemsInOrder() {
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenReturn(Arrays.asList(serializer.serialize(store(3L)), null, serializer.serialize(store(1L))));
+        List<List<Long>> loaderCalls = new ArrayList<>();
+
+        List<StoreListDto> items = storeListItemCache.getAll(List.of(3L, 2L, 1L), ids -> {
+            loaderCalls.add(ids);
+            return List.of(store(2L));
+        });
+
+        assertThat(items).extracting(StoreListDto::getId).containsExactly(3L, 2L, 1L);
+        assertThat(loaderCalls).containsExactly(List.of(2L));
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB를 조회하지 않고 저장하지도 않는다")
+    void allHits() {
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenReturn(List.of(serializer.serialize(store(1L)), serializer.serialize(store(2L))));
+
+        List<StoreListDto> items = storeListItemCache.getAll(List.of(1L, 2L), ids -> {
+            throw new AssertionError("DB를 조회하면 안 됨");
+        });
+
+        assertThat(items).extracting(StoreListDto::getId).containsExactly(1L, 2L);
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("DB에도 없는 가게(삭제됨)는 결과에서 제외한다")
+    void skipsDeletedStores() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(Arrays.asList(null, null));
+
+        List<StoreListDto> items = storeListItemCache.getAll(List.of(1L, 2L), ids -> List.of(store(2L)));
+
+        assertThat(items).extracting(StoreListDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 모든 가게를 DB에서 조회한다")
+    void fallsBackToLoaderOnRedisFailure() {
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        List<StoreListDto> items = storeListItemCache.getAll(List.of(1L, 2L), ids -> List.of(store(1L), store(2L)));
+
+        assertThat(items).extracting(StoreListDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트의 가게 항목만 삭제한다")
+    void evictsStoreItems() {
+        storeListItemCache.onEvict(new StoreListCacheEvictEvent(Set.of("scope:0:all:review"), Set.of(7L)));
+
+        verify(redisTemplate).delete(List.of("storeListItems::7"));
+    }
+
+    private static StoreListDto store(Long id) {
+        return StoreListDto.builder()
+                .id(id)
+                .storeName("가게 " + id)
+                .reviewCount(id * 10)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.luckeat.luckeatbackend.store.dto.StoreCursor;
+import com.luckeat.luckeatbackend.store.dto.StoreSliceResponseDto;
+import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StoreServiceCursorTest {
+
+    private static final int SIZE = 2;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @InjectMocks
+    private StoreService storeService;
+
+    @Test
+    @DisplayName("별점순: 별점 있는 가게로 페이지가 차면 별점 없는 가게는 조회하지 않는다")
+    void ratingPageFilledByRatedStores() {
+        when(storeRepository.findRatingKeyset(0, null, null, null, null, null, null, null, SIZE + 1))
+                .thenReturn(List.of(row(9L, 4.8), row(8L, 4.5), row(7L, 4.5)));
+
+        StoreSliceResponseDto slice = getRatingSlice(null);
+
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(StoreCursor.decode(slice.getNextCursor(), StoreCursor.SortType.RATING).getKey()).isEqualTo(4.5);
+        verify(storeRepository, never()).findUnratedKeyset(
+                anyInt(), any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("별점순: 별점 있는 가게가 모자라면 별점 없는 가게를 처음부터 이어 붙인다")
+    void ratingPageContinuesWithUnratedStores() {
+        when(storeRepository.findRatingKeyset(0, null, null, null, null, null, null, null, SIZE + 1))
+                .thenReturn(List.of(row(9L, 4.8)));
+        when(storeRepository.findUnratedKeyset(0, null, null, null, null, null, null, SIZE))
+                .thenReturn(List.of(row(12L, null), row(5L, null)));
+
+        StoreSliceResponseDto slice = getRatingSlice(null);
+
+        assertThat(slice.isHasNext()).isTrue();
+        StoreCursor next = StoreCursor.decode(slice.getNextCursor(), StoreCursor.SortType.RATING);
+        assertThat(next.getKey()).isNull();
+        assertThat(next.getId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("별점순: 커서가 별점 없는 구간이면 별점 있는 가게는 조회하지 않는다")
+    void ratingCursorInUnratedTail() {
+        String cursor = new StoreCursor(StoreCursor.SortType.RATING, null, 12L).encode();
+        when(storeRepository.findUnratedKeyset(0, null, null, null, null, null, 12L, SIZE + 1))
+                .thenReturn(List.of(row(5L, null)));
+
+        StoreSliceResponseDto slice = getRatingSlice(cursor);
+
+        assertThat(slice.isHasNext()).isFalse();
+        verify(storeRepository, never()).findRatingKeyset(
+                anyInt(), any(), any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    private StoreSliceResponseDto getRatingSlice(String cursor) {
+        return storeService.getStoresByCursor(null, null, null, "rating", null, null, cursor, SIZE, 0);
+    }
+
+    private static StoreRepository.KeysetRow row(Long id, Double sortKey) {
+        return new StoreRepository.KeysetRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getSortKey() {
+                return sortKey;
+            }
+        };
+    }
+}
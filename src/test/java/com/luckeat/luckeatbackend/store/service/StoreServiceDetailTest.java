@@ -0,0 +1,241 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luckeat.luckeatbackend.product.model.Product;
+import com.luckeat.luckeatbackend.reservation.model.Reservation;
+import com.luckeat.luckeatbackend.reservation.model.Reservation.ReservationStatus;
+import com.luckeat.luckeatbackend.review.dto.ReviewCursor;
+import com.luckeat.luckeatbackend.review.model.Review;
+import com.luckeat.luckeatbackend.review.service.LatestReviewCache;
+import com.luckeat.luckeatbackend.store.dto.StoreDetailResponseDto;
+import com.luckeat.luckeatbackend.store.index.StoreGeoIndex;
+import com.luckeat.luckeatbackend.store.index.StoreSearchIndex;
+import com.luckeat.luckeatbackend.store.index.StoreSpatialIndexCheck;
+import com.luckeat.luckeatbackend.store.index.StoreSuggestIndex;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreListJdbcRepository;
+import com.luckeat.luckeatbackend.users.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 가게 상세 조회를 실제 JPA/H2로 실행해, 리뷰 수와 무관하게 실행되는 SQL 수가 고정되는지 확인합니다.
+ * 최신 리뷰 캐시는 실제 구현을 쓰고 Redis만 사용할 수 없게 만들어, 리뷰 첫 페이지도 DB에서 읽는 최악의 경우를 셉니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({StoreService.class, LatestReviewCache.class})
+class StoreServiceDetailTest {
+
+    private static final int REVIEW_PAGE_SIZE = 10;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockBean
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private StoreListJdbcRepository storeListJdbcRepository;
+
+    @MockBean
+    private StoreGeoIndex storeGeoIndex;
+
+    @MockBean
+    private StoreSearchIndex storeSearchIndex;
+
+    @MockBean
+    private StoreSuggestIndex storeSuggestIndex;
+
+    @MockBean
+    private StoreSpatialIndexCheck storeSpatialIndexCheck;
+
+    @MockBean
+    private StoreCellCacheService storeCellCacheService;
+
+    @MockBean
+    private StoreListCacheTags storeListCacheTags;
+
+    @MockBean
+    private StoreListItemCache storeListItemCache;
+
+    private Statistics statistics;
+    private User seller;
+    private int buyerSequence;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storeService, "detailReviewPageSize", REVIEW_PAGE_SIZE);
+        when(redisTemplate.opsForList()).thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        seller = testEntityManager.persist(user("seller@luckeat.net", "사장님", User.Role.SELLER));
+    }
+
+    @Test
+    @DisplayName("가게+상품 1회, 리뷰 첫 페이지 1회로 리뷰 수와 무관하게 SQL 2개만 실행한다")
+    void detailUsesTwoStatementsRegardlessOfReviewCount() {
+        Store quietStore = storeWithReviews("조용한 빵집", 3);
+        Store popularStore = storeWithReviews("맛있는 빵집", 25);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertThat(countStatements(quietStore.getId())).isEqualTo(2L);
+        testEntityManager.clear();
+        assertThat(countStatements(popularStore.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 빼고, 리뷰는 첫 페이지와 다음 페이지 커서만 담는다")
+    void detailContainsFirstReviewPageAndCursor() {
+        Store store = storeWithReviews("맛있는 빵집", 25);
+        Product deletedProduct = product(store, "어제 빵");
+        deletedProduct.setDeletedAt(LocalDateTime.now());
+        testEntityManager.persist(deletedProduct);
+        List<Long> reviewIds = reviewIds(store);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        StoreDetailResponseDto detail = storeService.getStoreDetailById(store.getId());
+
+        assertThat(detail.getProducts()).extracting("productName").containsExactly("럭키백");
+        assertThat(detail.getReviewCount()).isEqualTo(25L);
+        assertThat(detail.getReviews()).hasSize(REVIEW_PAGE_SIZE);
+        assertThat(detail.isHasNextReviews()).isTrue();
+        // 최신순(created_at DESC, id DESC) 마지막 리뷰 이후부터 다음 페이지
+        assertThat(ReviewCursor.decode(detail.getNextReviewCursor()).getId())
+                .isEqualTo(reviewIds.get(REVIEW_PAGE_SIZE - 1));
+    }
+
+    @Test
+    @DisplayName("리뷰가 페이지 크기 이하이면 커서가 없다")
+    void detailWithoutNextReviewPage() {
+        Store store = storeWithReviews("조용한 빵집", 3);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        StoreDetailResponseDto detail = storeService.getStoreDetailById(store.getId());
+
+        assertThat(detail.getReviews()).hasSize(3);
+        assertThat(detail.isHasNextReviews()).isFalse();
+        assertThat(detail.getNextReviewCursor()).isNull();
+    }
+
+    private long countStatements(Long storeId) {
+        statistics.clear();
+        storeService.getStoreDetailById(storeId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 리뷰마다 다른 예약자가 예약한 가게를 만듭니다. (리뷰 변환 시 예약자/상품 지연 로딩이 있으면 SQL 수가 리뷰 수만큼 늘어남)
+     */
+    private Store storeWithReviews(String storeName, int reviewCount) {
+        Store store = testEntityManager.persist(Store.builder()
+                .userId(seller.getId())
+                .storeName(storeName)
+                .address("제주시 연동 123-45")
+                .latitude(33.4890f)
+                .longitude(126.4983f)
+                .categoryId(1L)
+                .shareCount(0L)
+                .build());
+        Product product = testEntityManager.persist(product(store, "럭키백"));
+        for (int i = 0; i < reviewCount; i++) {
+            int sequence = ++buyerSequence;
+            User buyer = testEntityManager.persist(
+                    user("buyer" + sequence + "@luckeat.net", "식객" + sequence, User.Role.BUYER));
+            Reservation reservation = testEntityManager.persist(Reservation.builder()
+                    .user(buyer)
+                    .store(store)
+                    .product(product)
+                    .quantity(1L)
+                    .totalPrice(5000L)
+                    .status(ReservationStatus.CONFIRMED)
+                    .isZerowaste(false)
+                    .isReviewed(true)
+                    .build());
+            Review review = new Review();
+            review.setUserId(buyer.getId());
+            review.setStoreId(store.getId());
+            review.setReservationId(reservation.getId());
+            review.setRating(5);
+            review.setReviewContent("맛있어요");
+            // 나중에 작성한 리뷰일수록 최신
+            ReflectionTestUtils.setField(review, "createdAt", CREATED_AT.plusMinutes(i));
+            testEntityManager.persist(review);
+        }
+        // review_count는 INSERT에 포함되지 않으므로(insertable = false) 운영과 같이 리뷰 테이블 기준으로 재계산
+        testEntityManager.flush();
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE store SET review_count = (SELECT COUNT(*) FROM review r "
+                        + "WHERE r.store_id = store.id AND r.deleted_at IS NULL) WHERE id = :storeId")
+                .setParameter("storeId", store.getId())
+                .executeUpdate();
+        return store;
+    }
+
+    private List<Long> reviewIds(Store store) {
+        List<Long> ids = new ArrayList<>(testEntityManager.getEntityManager()
+                .createQuery("SELECT r.id FROM Review r WHERE r.storeId = :storeId", Long.class)
+                .setParameter("storeId", store.getId())
+                .getResultList());
+        ids.sort(Comparator.reverseOrder());
+        return ids;
+    }
+
+    private static Product product(Store store, String productName) {
+        return Product.builder()
+                .store(store)
+                .productName(productName)
+                .originalPrice(10000L)
+                .discountedPrice(5000L)
+                .productCount(3L)
+                .description("오늘 만든 빵")
+                .isOpen(true)
+                .build();
+    }
+
+    private static User user(String email, String nickname, User.Role role) {
+        return User.builder()
+                .role(role)
+                .email(email)
+                .password("password")
+                .nickname(nickname)
+                .build();
+    }
+}
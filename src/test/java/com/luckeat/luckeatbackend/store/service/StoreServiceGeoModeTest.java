@@ -0,0 +1,70 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.luckeat.luckeatbackend.store.index.GeoSearchMode;
+import com.luckeat.luckeatbackend.store.index.StoreSpatialIndexCheck;
+import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StoreServiceGeoModeTest {
+
+    private static final double LAT = 33.4890;
+    private static final double LNG = 126.4983;
+    private static final double RADIUS_KM = 2.0;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreSpatialIndexCheck storeSpatialIndexCheck;
+
+    @InjectMocks
+    private StoreService storeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storeService, "geoSearchMode", GeoSearchMode.SPATIAL);
+    }
+
+    @Test
+    @DisplayName("SPATIAL 모드여도 SPATIAL 인덱스가 확인되지 않았으면 사각 영역 조건 없이 조회한다")
+    void fallsBackToQueryWithoutSpatialIndex() {
+        when(storeSpatialIndexCheck.isAvailable()).thenReturn(false);
+        when(storeRepository.findStoresWithLocation(anyInt(), any(), any(), anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(Page.empty());
+
+        storeService.getStores(LAT, LNG, RADIUS_KM, null, null, null, 0, 20, 0, false);
+
+        verify(storeRepository, never()).findStoresWithinBoundingBox(
+                anyInt(), any(), any(), anyDouble(), anyDouble(), anyDouble(), any(), any());
+    }
+
+    @Test
+    @DisplayName("SPATIAL 인덱스가 확인되면 사각 영역 조건으로 조회한다")
+    void usesBoundingBoxWithSpatialIndex() {
+        when(storeSpatialIndexCheck.isAvailable()).thenReturn(true);
+        when(storeRepository.findStoresWithinBoundingBox(
+                anyInt(), any(), any(), anyDouble(), anyDouble(), anyDouble(), any(), any()))
+                .thenReturn(Page.empty());
+
+        storeService.getStores(LAT, LNG, RADIUS_KM, null, null, null, 0, 20, 0, false);
+
+        verify(storeRepository, never()).findStoresWithLocation(
+                anyInt(), any(), any(), anyDouble(), anyDouble(), anyDouble(), any());
+    }
+}
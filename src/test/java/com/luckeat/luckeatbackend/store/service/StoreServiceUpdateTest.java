@@ -0,0 +1,71 @@
+package com.luckeat.luckeatbackend.store.service;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.luckeat.luckeatbackend.store.dto.StoreRequestDto;
+import com.luckeat.luckeatbackend.store.event.StoreChangedEvent;
+import com.luckeat.luckeatbackend.store.model.Store;
+import com.luckeat.luckeatbackend.store.repository.StoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StoreServiceUpdateTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StoreService storeService;
+
+    @Test
+    @DisplayName("가게 수정 이벤트에는 요청에 없는 집계 값(리뷰 수, 마감할인 상태)이 수정 전 값으로 담긴다")
+    void updatedEventKeepsCounters() {
+        Store store = Store.builder()
+                .userId(1L)
+                .storeName("맛있는 빵집")
+                .categoryId(2L)
+                .reviewCount(42L)
+                .openDealCount(3)
+                .hasOpenDeal(true)
+                .build();
+        store.setId(STORE_ID);
+        when(storeRepository.findByIdAndDeletedAtIsNull(STORE_ID)).thenReturn(Optional.of(store));
+        // 병합 결과처럼 요청 엔티티의 값(집계 컬럼은 null)을 그대로 돌려줌
+        when(storeRepository.save(any(Store.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StoreRequestDto request = new StoreRequestDto();
+        request.setStoreName("더 맛있는 빵집");
+        request.setCategoryId(2L);
+        storeService.updateStore(STORE_ID, request);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        StoreChangedEvent changed = events.getAllValues().stream()
+                .filter(StoreChangedEvent.class::isInstance)
+                .map(StoreChangedEvent.class::cast)
+                .findFirst()
+                .orElseThrow();
+        assertThat(changed.getStore().getStoreName()).isEqualTo("더 맛있는 빵집");
+        assertThat(changed.getStore().getReviewCount()).isEqualTo(42L);
+        assertThat(changed.getStore().getOpenDealCount()).isEqualTo(3);
+        assertThat(changed.getStore().getHasOpenDeal()).isTrue();
+    }
+}